@@ -158,6 +158,8 @@
  * @prop {string} cfg.filterEvent Event to invoke filtering for input filters.
  * @prop {number} cfg.frozenColumns The number of frozen columns.
  * @prop {string} cfg.frozenColumnsAlignment The alignment of frozen columns.
+ * @prop {boolean} cfg.lazySelection When all rows are selected, unselected rows are sent as `!rowKey` exclusions
+ * instead of reducing the selection to the rows of the current page.
  * @prop {boolean} cfg.liveResize Columns are resized live in this mode without using a resize helper.
  * @prop {boolean} cfg.liveScroll Enables live scrolling.
  * @prop {number} cfg.liveScrollBuffer Percentage of the height of the buffer between the bottom of the page and the
@@ -4745,7 +4747,13 @@ PrimeFaces.widget.DataTable = class DataTable extends PrimeFaces.widget.Deferred
      * @param {string} rowKey Key of the row to remove.
      */
     removeSelection(rowKey) {
-        if(this.selection.includes('@all')) {
+        if(this.cfg.lazySelection && this.selection.includes('@all')) {
+            // keep all rows matching the filters selected, except the given one
+            if(!PrimeFaces.inArray(this.selection, '!' + rowKey)) {
+                this.selection.push('!' + rowKey);
+            }
+        }
+        else if(this.selection.includes('@all')) {
             // GitHub #3535 if @all was previously selected just select values on page
             this.clearSelection();
             var rows = this.tbody.children('tr');
@@ -4769,7 +4777,12 @@ PrimeFaces.widget.DataTable = class DataTable extends PrimeFaces.widget.Deferred
      * @param {number} rowKey Key of the row to add.
      */
     addSelection(rowKey) {
-        if(!this.isSelected(rowKey)) {
+        if(this.cfg.lazySelection && this.selection.includes('@all')) {
+            this.selection = $.grep(this.selection, function(value) {
+                return value !== '!' + rowKey;
+            });
+        }
+        else if(!this.isSelected(rowKey)) {
             this.selection.push(rowKey);
         }
     }
@@ -4780,6 +4793,9 @@ PrimeFaces.widget.DataTable = class DataTable extends PrimeFaces.widget.Deferred
      * @return {boolean} `true` if the given row is currently selected, or `false` otherwise.
      */
     isSelected(rowKey) {
+        if(this.cfg.lazySelection && this.selection.includes('@all')) {
+            return !PrimeFaces.inArray(this.selection, '!' + rowKey);
+        }
         return PrimeFaces.inArray(this.selection, rowKey);
     }
 
@@ -29,13 +29,14 @@ import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.context.PrimeRequestContext;
 import org.primefaces.expression.SearchExpressionUtils;
 import org.primefaces.model.DialogFrameworkOptions;
+import org.primefaces.multiviewstate.MultiViewStateKey;
+import org.primefaces.multiviewstate.MultiViewStateStore;
 import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.Constants;
 import org.primefaces.util.EscapeUtils;
 import org.primefaces.util.LangUtils;
 import org.primefaces.visit.ResetInputVisitCallback;
 
-import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -44,7 +45,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -61,10 +61,8 @@ import jakarta.faces.component.search.ComponentNotFoundException;
 import jakarta.faces.component.search.SearchExpressionContext;
 import jakarta.faces.component.search.SearchExpressionHint;
 import jakarta.faces.component.visit.VisitContext;
-import jakarta.faces.context.ExternalContext;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.context.PartialViewContext;
-import jakarta.faces.lifecycle.ClientWindow;
 
 public class PrimeFaces {
 
@@ -467,11 +465,10 @@ public class PrimeFaces {
          */
         public void clearAll(boolean reset, Consumer<String> clientIdConsumer) {
             if (reset || clientIdConsumer != null) {
-                Set<MVSKey> keys = Collections.unmodifiableSet(getMVSKeys());
-                clearMVSKeys(keys, reset, clientIdConsumer);
+                clearMVSKeys(getMVSKeys(), reset, clientIdConsumer);
             }
 
-            getFacesContext().getExternalContext().getSessionMap().remove(Constants.MULTI_VIEW_STATES);
+            getMVSStore().clear(getFacesContext());
         }
 
         /**
@@ -492,8 +489,8 @@ public class PrimeFaces {
          * @param clientIdConsumer operation to execute for every clientId after multiview state has been cleared
          */
         public void clearAll(String viewId, boolean reset, Consumer<String> clientIdConsumer) {
-            Set<MVSKey> keys = getMVSKeys().stream()
-                    .filter(k -> Objects.equals(k.viewId, viewId))
+            Set<MultiViewStateKey> keys = getMVSKeys().stream()
+                    .filter(k -> Objects.equals(k.getViewId(), viewId))
                     .collect(Collectors.toSet());
             if (!keys.isEmpty()) {
                 clearMVSKeys(keys, reset, clientIdConsumer);
@@ -518,7 +515,7 @@ public class PrimeFaces {
          * @param reset indicates whether or not the component should be reset
          */
         public void clear(String viewId, String clientId, boolean reset) {
-            MVSKey key = MVSKey.of(viewId, clientId);
+            MultiViewStateKey key = MultiViewStateKey.of(viewId, clientId);
             clearMVSKeys(Collections.singleton(key), reset, null);
         }
 
@@ -534,13 +531,14 @@ public class PrimeFaces {
          * @return multiview state bean attached to a component
          */
         public <T> T get(String viewId, String clientId, boolean create, Supplier<T> supplier) {
-            Map<MVSKey, Object> mvsMap = getMVSStore(create);
-            MVSKey mvsKey = MVSKey.of(viewId, clientId);
+            FacesContext context = getFacesContext();
+            MultiViewStateStore store = getMVSStore();
+            MultiViewStateKey mvsKey = MultiViewStateKey.of(viewId, clientId);
 
-            T state = (T) mvsMap.get(mvsKey);
+            T state = (T) store.get(context, mvsKey);
             if (state == null && create) {
                 state = supplier.get();
-                mvsMap.put(mvsKey, state);
+                store.put(context, mvsKey, state);
             }
 
             return state;
@@ -573,38 +571,12 @@ public class PrimeFaces {
             return get(viewId, clientId, false, null);
         }
 
-        private Set<MVSKey> getMVSKeys() {
-            return getMVSStore(false).keySet();
+        private Set<MultiViewStateKey> getMVSKeys() {
+            return getMVSStore().getKeys(getFacesContext());
         }
 
-        private Map<MVSKey, Object> getMVSStore(boolean create) {
-            FacesContext fc = getFacesContext();
-            Map<String, Object> sessionMap = fc.getExternalContext().getSessionMap();
-
-            PrimeApplicationContext primeApplicationContext = PrimeApplicationContext.getCurrentInstance(fc);
-            String clientWindowId = "session";
-            if ("client-window".equals(primeApplicationContext.getConfig().getMultiViewStateStore())) {
-                ExternalContext externalContext = fc.getExternalContext();
-                ClientWindow clientWindow = externalContext.getClientWindow();
-                if (clientWindow != null && LangUtils.isNotBlank(clientWindow.getId())) {
-                    clientWindowId = clientWindow.getId();
-                }
-            }
-
-            Map<String, Map<MVSKey, Object>> clientWindowMap = (Map) sessionMap.computeIfAbsent(Constants.MULTI_VIEW_STATES, k -> new ConcurrentHashMap<>());
-            Map<MVSKey, Object> mvsMap = clientWindowMap.get(clientWindowId);
-
-            if (mvsMap == null) {
-                if (create) {
-                    mvsMap = new ConcurrentHashMap<>();
-                    clientWindowMap.put(clientWindowId, mvsMap);
-                }
-                else {
-                    mvsMap = Collections.emptyMap();
-                }
-            }
-
-            return mvsMap;
+        private MultiViewStateStore getMVSStore() {
+            return PrimeApplicationContext.getCurrentInstance(getFacesContext()).getMultiViewStateStore();
         }
 
         private void reset(String clientId) {
@@ -617,71 +589,25 @@ public class PrimeFaces {
             });
         }
 
-        private void clearMVSKeys(Set<MVSKey> keysToRemove, boolean reset, Consumer<String> clientIdConsumer) {
-            Set<MVSKey> mvsKeys = getMVSKeys();
-            for (MVSKey mvsKey : keysToRemove) {
-                if (!mvsKeys.remove(mvsKey)) {
+        private void clearMVSKeys(Set<MultiViewStateKey> keysToRemove, boolean reset, Consumer<String> clientIdConsumer) {
+            FacesContext context = getFacesContext();
+            MultiViewStateStore store = getMVSStore();
+            for (MultiViewStateKey mvsKey : keysToRemove) {
+                if (!store.remove(context, mvsKey)) {
                     LOGGER.log(Level.WARNING,
                             "Multiview state for viewId: \"{0}\" and clientId \"{1}\" not found",
-                            new Object[]{mvsKey.viewId, mvsKey.clientId});
+                            new Object[]{mvsKey.getViewId(), mvsKey.getClientId()});
                     continue;
                 }
 
                 if (reset) {
-                    reset(mvsKey.clientId);
+                    reset(mvsKey.getClientId());
                 }
 
                 if (clientIdConsumer != null) {
-                    clientIdConsumer.accept(mvsKey.clientId);
+                    clientIdConsumer.accept(mvsKey.getClientId());
                 }
             }
         }
     }
-
-    private static class MVSKey implements Serializable {
-
-        private static final long serialVersionUID = 1L;
-
-        private String viewId;
-        private String clientId;
-
-        // serialization
-        private MVSKey() {
-            // NOOP
-        }
-
-        private MVSKey(String viewId, String clientId) {
-            this.viewId = viewId;
-            this.clientId = clientId;
-        }
-
-        public static MVSKey of(String viewId, String clientId) {
-            return new MVSKey(viewId, clientId);
-        }
-
-        @Override
-        public int hashCode() {
-            int hash = 7;
-            hash = 23 * hash + Objects.hashCode(viewId);
-            hash = 23 * hash + Objects.hashCode(clientId);
-            return hash;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) return true;
-            if (obj == null || getClass() != obj.getClass()) return false;
-            MVSKey other = (MVSKey) obj;
-            return Objects.equals(viewId, other.viewId) &&
-                    Objects.equals(clientId, other.clientId);
-        }
-
-        @Override
-        public String toString() {
-            return "MVSKey{" +
-                    "viewId='" + viewId + '\'' +
-                    ", clientId='" + clientId + '\'' +
-                    '}';
-        }
-    }
 }
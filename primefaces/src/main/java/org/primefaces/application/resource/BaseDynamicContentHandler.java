@@ -25,10 +25,13 @@ package org.primefaces.application.resource;
 
 import org.primefaces.util.ResourceUtils;
 
+import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
 import jakarta.faces.context.ExternalContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 public abstract class BaseDynamicContentHandler implements DynamicContentHandler {
 
@@ -44,4 +47,14 @@ public abstract class BaseDynamicContentHandler implements DynamicContentHandler
             ResourceUtils.addNoCacheControl(externalContext);
         }
     }
+
+    protected void sendNotFound(ExternalContext externalContext) throws IOException {
+        if (externalContext.getRequest() instanceof HttpServletRequest) {
+            externalContext.responseSendError(HttpServletResponse.SC_NOT_FOUND,
+                    ((HttpServletRequest) externalContext.getRequest()).getRequestURI());
+        }
+        else {
+            externalContext.responseSendError(HttpServletResponse.SC_NOT_FOUND, null);
+        }
+    }
 }
@@ -27,7 +27,8 @@ public enum DynamicContentType {
 
     STREAMED_CONTENT("sc"),
     BARCODE("barcode"),
-    QR_CODE("qr");
+    QR_CODE("qr"),
+    EXPORT("export");
 
     private String toString;
 
@@ -24,6 +24,7 @@
 package org.primefaces.application.resource;
 
 import org.primefaces.component.barcode.BarcodeHandler;
+import org.primefaces.component.export.ExportJobHandler;
 import org.primefaces.util.Constants;
 import org.primefaces.util.LangUtils;
 
@@ -48,6 +49,7 @@ public class PrimeResourceHandler extends ResourceHandlerWrapper {
         super(wrapped);
         handlers = new HashMap<>();
         handlers.put(DynamicContentType.STREAMED_CONTENT.toString(), new StreamedContentHandler());
+        handlers.put(DynamicContentType.EXPORT.toString(), new ExportJobHandler());
 
         if (LangUtils.isClassAvailable("uk.org.okapibarcode.output.SvgRenderer")) {
             handlers.put(DynamicContentType.BARCODE.toString(), new BarcodeHandler());
@@ -40,7 +40,6 @@ import jakarta.el.ValueExpression;
 import jakarta.faces.application.ProjectStage;
 import jakarta.faces.context.ExternalContext;
 import jakarta.faces.context.FacesContext;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 public class StreamedContentHandler extends BaseDynamicContentHandler {
@@ -168,14 +167,4 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
         handleCache(externalContext, cache);
         writer.accept(externalContext.getResponseOutputStream());
     }
-
-    protected void sendNotFound(ExternalContext externalContext) throws IOException {
-        if (externalContext.getRequest() instanceof HttpServletRequest) {
-            externalContext.responseSendError(HttpServletResponse.SC_NOT_FOUND,
-                    ((HttpServletRequest) externalContext.getRequest()).getRequestURI());
-        }
-        else {
-            externalContext.responseSendError(HttpServletResponse.SC_NOT_FOUND, null);
-        }
-    }
 }
@@ -0,0 +1,156 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable;
+
+import org.primefaces.component.api.DynamicColumn;
+import org.primefaces.component.api.UIColumn;
+
+import java.util.List;
+
+import jakarta.faces.component.UIComponent;
+
+/**
+ * The columns of a {@link DataTable} with their cell attributes, resolved once per encode pass instead of once per row.
+ * Only literal attributes are resolved in advance, attributes defined via value expressions and all attributes of
+ * {@link DynamicColumn}s are still evaluated for each row.
+ */
+public class ColumnPlan {
+
+    private final List<UIColumn> columns;
+    private final Cell[] cells;
+
+    public ColumnPlan(List<UIColumn> columns) {
+        this.columns = columns;
+        this.cells = new Cell[columns.size()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Cell(columns.get(i));
+        }
+    }
+
+    /**
+     * @param columns the current columns of the table
+     * @return <code>true</code> if this plan has been created for the given columns
+     */
+    public boolean isPlanFor(List<UIColumn> columns) {
+        return this.columns == columns;
+    }
+
+    public Cell getCell(int index) {
+        return cells[index];
+    }
+
+    public int size() {
+        return cells.length;
+    }
+
+    /**
+     * The cell attributes of a single column.
+     */
+    public static class Cell {
+
+        private static final Object EVALUATE = new Object();
+
+        private final UIColumn column;
+        private final UIComponent component;
+        private final Object rendered;
+        private final Object visible;
+        private final Object selectionBox;
+        private final Object groupRow;
+        private final Object selectRow;
+        private final Object responsivePriority;
+        private final Object title;
+        private final Object style;
+        private final Object styleClass;
+        private final Object colspan;
+        private final Object rowspan;
+
+        public Cell(UIColumn column) {
+            this.column = column;
+            this.component = column instanceof UIComponent && !(column instanceof DynamicColumn) ? (UIComponent) column : null;
+            this.rendered = isLiteral("rendered") ? column.isRendered() : EVALUATE;
+            this.visible = isLiteral("visible") ? column.isVisible() : EVALUATE;
+            this.selectionBox = isLiteral("selectionBox") ? column.isSelectionBox() : EVALUATE;
+            this.groupRow = isLiteral("groupRow") ? column.isGroupRow() : EVALUATE;
+            this.selectRow = isLiteral("selectRow") ? column.isSelectRow() : EVALUATE;
+            this.responsivePriority = isLiteral("responsivePriority") ? column.getResponsivePriority() : EVALUATE;
+            this.title = isLiteral("title") ? column.getTitle() : EVALUATE;
+            this.style = isLiteral("style") ? column.getStyle() : EVALUATE;
+            this.styleClass = isLiteral("styleClass") ? column.getStyleClass() : EVALUATE;
+            this.colspan = isLiteral("colspan") ? column.getColspan() : EVALUATE;
+            this.rowspan = isLiteral("rowspan") ? column.getRowspan() : EVALUATE;
+        }
+
+        protected boolean isLiteral(String attribute) {
+            return component != null && component.getValueExpression(attribute) == null;
+        }
+
+        public UIColumn getColumn() {
+            return column;
+        }
+
+        public boolean isRendered() {
+            return rendered == EVALUATE ? column.isRendered() : (Boolean) rendered;
+        }
+
+        public boolean isVisible() {
+            return visible == EVALUATE ? column.isVisible() : (Boolean) visible;
+        }
+
+        public boolean isSelectionBox() {
+            return selectionBox == EVALUATE ? column.isSelectionBox() : (Boolean) selectionBox;
+        }
+
+        public boolean isGroupRow() {
+            return groupRow == EVALUATE ? column.isGroupRow() : (Boolean) groupRow;
+        }
+
+        public boolean isSelectRow() {
+            return selectRow == EVALUATE ? column.isSelectRow() : (Boolean) selectRow;
+        }
+
+        public int getResponsivePriority() {
+            return responsivePriority == EVALUATE ? column.getResponsivePriority() : (Integer) responsivePriority;
+        }
+
+        public String getTitle() {
+            return title == EVALUATE ? column.getTitle() : (String) title;
+        }
+
+        public String getStyle() {
+            return style == EVALUATE ? column.getStyle() : (String) style;
+        }
+
+        public String getStyleClass() {
+            return styleClass == EVALUATE ? column.getStyleClass() : (String) styleClass;
+        }
+
+        public int getColspan() {
+            return colspan == EVALUATE ? column.getColspan() : (Integer) colspan;
+        }
+
+        public int getRowspan() {
+            return rowspan == EVALUATE ? column.getRowspan() : (Integer) rowspan;
+        }
+    }
+}
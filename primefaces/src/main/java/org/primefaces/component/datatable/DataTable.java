@@ -31,11 +31,13 @@ import org.primefaces.component.columngroup.ColumnGroup;
 import org.primefaces.component.columns.Columns;
 import org.primefaces.component.datatable.feature.DataTableFeatures;
 import org.primefaces.component.datatable.feature.FilterFeature;
+import org.primefaces.component.datatable.feature.SelectionFeature;
 import org.primefaces.component.headerrow.HeaderRow;
 import org.primefaces.component.row.Row;
 import org.primefaces.component.rowexpansion.RowExpansion;
 import org.primefaces.component.subtable.SubTable;
 import org.primefaces.component.summaryrow.SummaryRow;
+import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.event.CellEditEvent;
 import org.primefaces.event.ColumnResizeEvent;
 import org.primefaces.event.ReorderEvent;
@@ -50,9 +52,11 @@ import org.primefaces.event.data.SortEvent;
 import org.primefaces.model.ColumnMeta;
 import org.primefaces.model.FilterMeta;
 import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.LazySelection;
 import org.primefaces.model.SelectableDataModel;
 import org.primefaces.model.SortMeta;
 import org.primefaces.model.Visibility;
+import org.primefaces.model.filter.FilterSnapshot;
 import org.primefaces.util.ComponentTraversalUtils;
 import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.Constants;
@@ -70,10 +74,13 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import jakarta.el.ELContext;
 import jakarta.el.ValueExpression;
@@ -211,6 +218,10 @@ public class DataTable extends DataTableBase {
 
     private boolean reset = false;
     private List<UIColumn> columns;
+    private ColumnPlan columnPlan;
+    private Map<String, Object> rowKeyIndex;
+    private Object rowKeyIndexData;
+    private int rowKeyIndexSize;
     private final Map<String, AjaxBehaviorEvent> deferredEvents = new HashMap<>(1);
 
     protected enum InternalPropertyKeys {
@@ -222,7 +233,8 @@ public class DataTable extends DataTableBase {
         selectAll,
         expandedRowKeys,
         columnMeta,
-        width;
+        width,
+        filterSnapshot;
     }
 
     public boolean shouldEncodeFeature(FacesContext context) {
@@ -534,21 +546,46 @@ public class DataTable extends DataTableBase {
             setFirst(offset);
         }
 
-        if (getFirst() > 0) {
-            model.setRowCount(model.count(filterBy));
-        }
-        if (calculateFirst()) {
-            offset = getFirst();
-            LOGGER.fine(() -> "DataTable#loadLazyScrollData: offset has been recalculated due to overflow (first >= rowCount)");
-            if (clientCacheRequest) {
-                LOGGER.fine(() -> "DataTable#loadLazyScrollData: fetching next page has been canceled due to overflow (first >= rowCount)");
-                return;
+        List<?> data;
+        if (model.isConcurrentCount()) {
+            // count on another thread while loading the (most likely unchanged) page,
+            // the count result is reused for the whole request
+            CompletableFuture<Integer> rowCount = model.countAsync(
+                    PrimeApplicationContext.getCurrentInstance(context).getAsyncExecutor(), filterBy);
+            data = loadLazyScrollRows(context, model, offset, rows, filterBy);
+            model.setRowCount(joinRowCount(rowCount));
+
+            if (calculateFirst()) {
+                offset = getFirst();
+                LOGGER.fine(() -> "DataTable#loadLazyScrollData: offset has been recalculated due to overflow (first >= rowCount)");
+                if (clientCacheRequest) {
+                    LOGGER.fine(() -> "DataTable#loadLazyScrollData: fetching next page has been canceled due to overflow (first >= rowCount)");
+                    return;
+                }
+                data = loadLazyScrollRows(context, model, offset, rows, filterBy);
             }
         }
+        else {
+            if (getFirst() > 0) {
+                model.setRowCount(model.count(filterBy));
+            }
+            if (calculateFirst()) {
+                offset = getFirst();
+                LOGGER.fine(() -> "DataTable#loadLazyScrollData: offset has been recalculated due to overflow (first >= rowCount)");
+                if (clientCacheRequest) {
+                    LOGGER.fine(() -> "DataTable#loadLazyScrollData: fetching next page has been canceled due to overflow (first >= rowCount)");
+                    return;
+                }
+            }
 
-        List<?> data = model.load(offset, rows, getActiveSortMeta(), getActiveFilterMeta());
-        model.calculateRowCount(data, getActiveFilterMeta(), offset, rows);
+            data = loadLazyScrollRows(context, model, offset, rows, getActiveFilterMeta());
+            model.calculateRowCount(data, getActiveFilterMeta(), offset, rows);
+        }
         model.setPageSize(rows);
+        DataTableScrollCache scrollCache = getScrollCache(context);
+        if (scrollCache != null) {
+            scrollCache.putRowCount(model, DataTableScrollCache.getSignature(getActiveSortMeta(), filterBy), model.getRowCount());
+        }
         // set empty list if model returns null; this avoids multiple calls while visiting the component+rows
         model.setWrappedData(data != null ? data : Collections.emptyList());
 
@@ -558,6 +595,80 @@ public class DataTable extends DataTableBase {
         }
     }
 
+    /**
+     * Loads the rows of the given scroll window, via the {@link DataTableScrollCache} if enabled.
+     * The next block is prefetched asynchronously if <code>scrollPrefetch</code> is enabled.
+     */
+    protected <T> List<T> loadLazyScrollRows(FacesContext context, LazyDataModel<T> model, int offset, int rows, Map<String, FilterMeta> filterBy) {
+        Map<String, SortMeta> sortBy = getActiveSortMeta();
+        DataTableScrollCache scrollCache = getScrollCache(context);
+        if (scrollCache == null) {
+            return model.load(offset, rows, sortBy, filterBy);
+        }
+
+        String signature = DataTableScrollCache.getSignature(sortBy, filterBy);
+        List<T> data = (List<T>) scrollCache.get(model, signature, offset, rows);
+        if (data == null) {
+            data = model.load(offset, rows, sortBy, filterBy);
+            scrollCache.put(model, signature, offset, rows, data);
+        }
+        else {
+            // load is skipped, so restore the row count in case the model calculates it within load
+            int rowCount = scrollCache.getRowCount(model, signature);
+            if (rowCount >= 0) {
+                model.setRowCount(rowCount);
+            }
+        }
+
+        int nextOffset = offset + rows;
+        if (isScrollPrefetch() && data != null && data.size() == rows && nextOffset < model.getRowCount()) {
+            scrollCache.prefetch(model, signature, nextOffset, sortBy, filterBy,
+                    PrimeApplicationContext.getCurrentInstance(context).getAsyncExecutor());
+        }
+
+        return data;
+    }
+
+    /**
+     * @return the per-view scroll cache or <code>null</code> if disabled
+     */
+    protected DataTableScrollCache getScrollCache(FacesContext context) {
+        int scrollCacheRows = getScrollCacheRows();
+        if (scrollCacheRows <= 0 || getScrollRows() <= 0 || !(isVirtualScroll() || isLiveScroll()) || context.getViewRoot() == null) {
+            return null;
+        }
+
+        return (DataTableScrollCache) context.getViewRoot().getViewMap()
+                .computeIfAbsent(getScrollCacheKey(context), k -> new DataTableScrollCache(getScrollRows(), scrollCacheRows));
+    }
+
+    /**
+     * Discards all cached scroll blocks, e.g. after the underlying data has been modified.
+     */
+    public void invalidateScrollCache() {
+        FacesContext context = getFacesContext();
+        if (context.getViewRoot() != null) {
+            context.getViewRoot().getViewMap().remove(getScrollCacheKey(context));
+        }
+    }
+
+    protected String getScrollCacheKey(FacesContext context) {
+        return DataTableScrollCache.class.getName() + ":" + getClientId(context);
+    }
+
+    protected int joinRowCount(CompletableFuture<Integer> rowCount) {
+        try {
+            return rowCount.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FacesException("Interrupted while counting rows for datatable " + getClientId(getFacesContext()), e);
+        }
+        catch (ExecutionException e) {
+            throw new FacesException("Counting rows failed for datatable " + getClientId(getFacesContext()), e.getCause());
+        }
+    }
+
     public int getScrollOffset() {
         return (java.lang.Integer) getStateHelper().eval("scrollOffset", 0);
     }
@@ -573,6 +684,7 @@ public class DataTable extends DataTableBase {
     public void resetValue() {
         setValue(null);
         setFilteredValue(null);
+        setFilterSnapshot(null);
     }
 
     public void reset() {
@@ -584,6 +696,7 @@ public class DataTable extends DataTableBase {
         setFilterByAsMap(null);
         setSelectedRowKeys(null);
         setScrollOffset(0);
+        invalidateScrollCache();
     }
 
     public RowExpansion getRowExpansion() {
@@ -625,15 +738,45 @@ public class DataTable extends DataTableBase {
             return ((SelectableDataModel) model).getRowData(rowKey);
         }
         else {
-            Collection data = (Collection) getDataModel().getWrappedData();
+            Collection data = (Collection) model.getWrappedData();
+            return getRowKeyIndex(data).get(rowKey);
+        }
+    }
+
+    /**
+     * Lazily builds the rowKey to row data lookup for the current data, so resolving multiple row keys
+     * (e.g. selection) doesn't require a full scan per key. The index is rebuilt whenever the wrapped data
+     * changes and is discarded at the end of the request.
+     */
+    protected Map<String, Object> getRowKeyIndex(Collection<?> data) {
+        if (rowKeyIndex == null || rowKeyIndexData != data || rowKeyIndexSize != data.size()) {
+            Map<String, Object> index = new HashMap<>(Math.max(16, (int) (data.size() / 0.75f) + 1));
             for (Object o : data) {
-                if (Objects.equals(rowKey, getRowKey(o))) {
-                    return o;
-                }
+                index.putIfAbsent(getRowKey(o), o);
             }
 
-            return null;
+            rowKeyIndex = index;
+            rowKeyIndexData = data;
+            rowKeyIndexSize = data.size();
         }
+
+        return rowKeyIndex;
+    }
+
+    /**
+     * Discards the rowKey index, must be called if the underlying data has been modified in place
+     * within the current request.
+     */
+    public void invalidateRowKeyIndex() {
+        rowKeyIndex = null;
+        rowKeyIndexData = null;
+        rowKeyIndexSize = 0;
+    }
+
+    @Override
+    public void setValue(Object value) {
+        super.setValue(value);
+        invalidateRowKeyIndex();
     }
 
     public Set<String> getExpandedRowKeys() {
@@ -653,12 +796,76 @@ public class DataTable extends DataTableBase {
     }
 
     public String getSelectedRowKeysAsString() {
+        LazySelection lazySelection = isLazySelectionEnabled() ? getLazySelection() : null;
+        if (lazySelection != null) {
+            StringBuilder sb = new StringBuilder(SelectionFeature.ALL_SELECTOR);
+            for (String rowKey : lazySelection.getExcludedRowKeys()) {
+                sb.append(',').append(SelectionFeature.EXCLUDED_ROW_KEY_PREFIX).append(rowKey);
+            }
+            return sb.toString();
+        }
+
         return getSelectedRowKeys()
                 .stream()
                 .filter(s -> s != null && !s.isBlank())
                 .collect(Collectors.joining(","));
     }
 
+    /**
+     * Whether a "select all" is kept as a {@link LazySelection} of all rows matching the filters, instead of loading the keys of all rows.
+     * Requires a lazy table with multiple selection and a <code>lazySelection</code> value expression.
+     *
+     * @return if the lazy selection is enabled
+     */
+    public boolean isLazySelectionEnabled() {
+        return isLazy() && isSelectionEnabled() && !isSingleSelectionMode()
+                && getValueExpression(PropertyKeys.lazySelection.name()) != null;
+    }
+
+    /**
+     * Streams the rows of the {@link LazySelection}, without the rows for which <code>selectionDisabled</code> is <code>true</code>.
+     * <code>selectionDisabled</code> is evaluated per row while the stream is consumed, so it must be consumed within the request.
+     *
+     * @param context the {@link FacesContext}
+     * @return the selected rows, empty if not all rows are selected
+     */
+    public Stream<Object> streamLazySelection(FacesContext context) {
+        LazySelection lazySelection = getLazySelection();
+        if (lazySelection == null || !(getValue() instanceof LazyDataModel)) {
+            return Stream.empty();
+        }
+
+        LazyDataModel<Object> lazyModel = (LazyDataModel<Object>) getValue();
+        if (getValueExpression(PropertyKeys.selectionDisabled.name()) == null) {
+            return isSelectionDisabled() ? Stream.empty() : lazyModel.streamSelected(lazySelection);
+        }
+
+        Map<String, Object> requestMap = context.getExternalContext().getRequestMap();
+        String var = getVar();
+        return lazyModel.streamSelected(lazySelection, rowData -> {
+            Object previous = requestMap.put(var, rowData);
+            try {
+                return !isSelectionDisabled();
+            }
+            finally {
+                if (previous == null) {
+                    requestMap.remove(var);
+                }
+                else {
+                    requestMap.put(var, previous);
+                }
+            }
+        });
+    }
+
+    public boolean isRowSelected(String rowKey) {
+        LazySelection lazySelection = isLazySelectionEnabled() ? getLazySelection() : null;
+        if (lazySelection != null) {
+            return rowKey != null && lazySelection.isSelected(rowKey);
+        }
+        return getSelectedRowKeys().contains(rowKey);
+    }
+
     public boolean isSelectAll() {
         return ComponentUtils.eval(getStateHelper(), InternalPropertyKeys.selectAll, () -> false);
     }
@@ -701,6 +908,18 @@ public class DataTable extends DataTableBase {
     @Override
     public void setColumns(List<UIColumn> columns) {
         this.columns = columns;
+        this.columnPlan = null;
+    }
+
+    /**
+     * @return the plan of the current columns, which is reused while rendering the rows as long as the columns don't change
+     */
+    public ColumnPlan getColumnPlan() {
+        List<UIColumn> currentColumns = getColumns();
+        if (columnPlan == null || !columnPlan.isPlanFor(currentColumns)) {
+            columnPlan = new ColumnPlan(currentColumns);
+        }
+        return columnPlan;
     }
 
     public String getScrollState() {
@@ -904,6 +1123,18 @@ public class DataTable extends DataTableBase {
         return iterableChildren;
     }
 
+    /**
+     * @return the snapshot of the filters which produced the current {@link #getFilteredValue()},
+     *         used to only re-evaluate the filtered rows when the next filter request narrows the previous one.
+     */
+    public FilterSnapshot getFilterSnapshot() {
+        return (FilterSnapshot) getStateHelper().get(InternalPropertyKeys.filterSnapshot);
+    }
+
+    public void setFilterSnapshot(FilterSnapshot filterSnapshot) {
+        getStateHelper().put(InternalPropertyKeys.filterSnapshot, filterSnapshot);
+    }
+
     public List<?> getFilteredValue() {
         ValueExpression ve = getValueExpression(PropertyKeys.filteredValue.name());
         if (ve != null) {
@@ -931,6 +1162,8 @@ public class DataTable extends DataTableBase {
         deferredEvents.clear();
         reset = false;
         columns = null;
+        columnPlan = null;
+        invalidateRowKeyIndex();
 
         return super.saveState(context);
     }
@@ -957,6 +1190,10 @@ public class DataTable extends DataTableBase {
                 updateSelectionWithMVS(ts.getSelectedRowKeys());
             }
 
+            if (ts.getLazySelection() != null && isLazySelectionEnabled() && !getFacesContext().isPostback()) {
+                DataTableFeatures.selectionFeature().setLazySelection(getFacesContext(), this, ts.getLazySelection());
+            }
+
             if (ts.getExpandedRowKeys() != null) {
                 updateExpansionWithMVS(ts.getExpandedRowKeys());
             }
@@ -1076,6 +1313,7 @@ public class DataTable extends DataTableBase {
          * But PrimeFaces UIData does not know all impl-specifics, so ....
          */
         setDataModel(null); // for MyFaces 2.3 - compatibility
+        setFilterSnapshot(null); // rows might have been added or updated, so the previous filtered rows are outdated
 
         DataTableFeatures.filterFeature().filter(FacesContext.getCurrentInstance(), this);
         DataTableFeatures.sortFeature().sort(FacesContext.getCurrentInstance(), this);
@@ -28,6 +28,7 @@ import org.primefaces.component.api.RTLAware;
 import org.primefaces.component.api.UIPageableData;
 import org.primefaces.component.api.UITable;
 import org.primefaces.component.api.Widget;
+import org.primefaces.model.LazySelection;
 import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.ELUtils;
 
@@ -73,12 +74,14 @@ public abstract class DataTableBase extends UIPageableData implements Widget, RT
         filterEvent,
         filterNormalize,
         filteredValue,
+        flushRows,
         frozenColumns,
         frozenColumnsAlignment,
         frozenRows,
         globalFilter,
         globalFilterFunction,
         globalFilterOnly,
+        lazySelection,
         liveResize,
         liveScroll,
         liveScrollBuffer,
@@ -86,6 +89,7 @@ public abstract class DataTableBase extends UIPageableData implements Widget, RT
         nativeElements,
         onExpandStart,
         onRowClick,
+        parallelFilter,
         reflow,
         renderEmptyFacets,
         resizableColumns,
@@ -99,7 +103,9 @@ public abstract class DataTableBase extends UIPageableData implements Widget, RT
         rowStyleClass,
         rowTitle,
         saveOnCellBlur,
+        scrollCacheRows,
         scrollHeight,
+        scrollPrefetch,
         scrollRows,
         scrollWidth,
         scrollable,
@@ -800,4 +806,44 @@ public abstract class DataTableBase extends UIPageableData implements Widget, RT
     public void setFilterNormalize(boolean filterNormalize) {
         getStateHelper().put(PropertyKeys.filterNormalize, filterNormalize);
     }
+
+    public int getParallelFilter() {
+        return (Integer) getStateHelper().eval(PropertyKeys.parallelFilter, 0);
+    }
+
+    public void setParallelFilter(int parallelFilter) {
+        getStateHelper().put(PropertyKeys.parallelFilter, parallelFilter);
+    }
+
+    public int getScrollCacheRows() {
+        return (Integer) getStateHelper().eval(PropertyKeys.scrollCacheRows, 0);
+    }
+
+    public void setScrollCacheRows(int scrollCacheRows) {
+        getStateHelper().put(PropertyKeys.scrollCacheRows, scrollCacheRows);
+    }
+
+    public boolean isScrollPrefetch() {
+        return (Boolean) getStateHelper().eval(PropertyKeys.scrollPrefetch, false);
+    }
+
+    public void setScrollPrefetch(boolean scrollPrefetch) {
+        getStateHelper().put(PropertyKeys.scrollPrefetch, scrollPrefetch);
+    }
+
+    public int getFlushRows() {
+        return (Integer) getStateHelper().eval(PropertyKeys.flushRows, 0);
+    }
+
+    public void setFlushRows(int flushRows) {
+        getStateHelper().put(PropertyKeys.flushRows, flushRows);
+    }
+
+    public LazySelection getLazySelection() {
+        return (LazySelection) getStateHelper().eval(PropertyKeys.lazySelection, null);
+    }
+
+    public void setLazySelection(LazySelection lazySelection) {
+        getStateHelper().put(PropertyKeys.lazySelection, lazySelection);
+    }
 }
@@ -170,6 +170,7 @@ public class DataTableRenderer extends DataRenderer {
         //Selection
         wb.attr("selectionMode", selectionMode, null)
                 .attr("selectionPageOnly", table.isSelectionPageOnly(), true)
+                .attr("lazySelection", table.isLazySelectionEnabled(), false)
                 .attr("selectionRowMode", table.getSelectionRowMode(), "new")
                 .attr("nativeElements", table.isNativeElements(), false)
                 .attr("rowSelector", table.getRowSelector(), null)
@@ -1124,21 +1125,32 @@ public class DataTableRenderer extends DataRenderer {
         boolean encodeHeaderRow = headerRow != null && headerRow.isEnabled() && sort != null;
         boolean encodeSummaryRow = (!summaryRows.isEmpty() && sort != null);
 
+        // stream the rows of big tables on the initial render, ajax responses are only processed once complete anyway
+        int flushRows = context.getPartialViewContext().isAjaxRequest() ? 0 : table.getFlushRows();
+
+        GroupBoundaries groups = encodeHeaderRow || encodeSummaryRow
+                ? calculateGroupBoundaries(context, table, first, last, sort.getSortBy())
+                : null;
+
         for (int i = first; i < last; i++) {
             table.setRowIndex(i);
             if (!table.isRowAvailable()) {
                 break;
             }
 
-            if (encodeHeaderRow && (i == first || !isInSameGroup(context, table, i, -1, sort.getSortBy(), false))) {
+            if (encodeHeaderRow && groups.isGroupStart(i)) {
                 encodeHeaderRow(context, table, headerRow);
             }
 
             encodeRow(context, table, i, columnStart, columnEnd);
 
-            if (encodeSummaryRow && !isInSameGroup(context, table, i, 1, sort.getSortBy(), i == last - 1)) {
+            if (encodeSummaryRow && groups.isGroupEnd(i)) {
                 encodeSummaryRow(context, summaryRows, sort);
             }
+
+            if (flushRows > 0 && (i - first + 1) % flushRows == 0) {
+                context.getResponseWriter().flush();
+            }
         }
     }
 
@@ -1188,7 +1200,6 @@ public class DataTableRenderer extends DataRenderer {
         boolean selectionEnabled = table.isSelectionEnabled();
         boolean rowExpansionAvailable = table.getRowExpansion() != null;
         String rowKey = null;
-        List<UIColumn> columns = table.getColumns();
         HeaderRow headerRow = table.getHeaderRow();
 
         if (selectionEnabled || rowExpansionAvailable) {
@@ -1196,7 +1207,7 @@ public class DataTableRenderer extends DataRenderer {
         }
 
         //Preselection
-        boolean selected = selectionEnabled && table.getSelectedRowKeys().contains(rowKey);
+        boolean selected = selectionEnabled && table.isRowSelected(rowKey);
         boolean disabled = table.isSelectionDisabled();
         boolean allowSelection = selectionEnabled && !disabled;
         boolean expanded = table.isExpandedRow() || (rowExpansionAvailable && table.getExpandedRowKeys().contains(rowKey));
@@ -1229,17 +1240,19 @@ public class DataTableRenderer extends DataRenderer {
             writer.writeAttribute("style", "display: none;", null);
         }
 
+        ColumnPlan columnPlan = table.getColumnPlan();
         for (int i = columnStart; i < columnEnd; i++) {
-            UIColumn column = columns.get(i);
+            ColumnPlan.Cell cell = columnPlan.getCell(i);
+            UIColumn column = cell.getColumn();
 
             if (column instanceof Column) {
-                encodeCell(context, table, column, selected, allowSelection, rowIndex);
+                encodeCell(context, table, cell, selected, allowSelection, rowIndex);
             }
             else if (column instanceof DynamicColumn) {
                 DynamicColumn dynamicColumn = (DynamicColumn) column;
                 dynamicColumn.applyModel();
 
-                encodeCell(context, table, dynamicColumn, false, allowSelection, rowIndex);
+                encodeCell(context, table, cell, false, allowSelection, rowIndex);
             }
         }
 
@@ -1254,39 +1267,45 @@ public class DataTableRenderer extends DataRenderer {
 
     protected void encodeCell(FacesContext context, DataTable table, UIColumn column, boolean selected,
             boolean rowSelectionEnabled, int rowIndex) throws IOException {
-        if (!column.isRendered()) {
+        encodeCell(context, table, new ColumnPlan.Cell(column), selected, rowSelectionEnabled, rowIndex);
+    }
+
+    protected void encodeCell(FacesContext context, DataTable table, ColumnPlan.Cell cell, boolean selected,
+            boolean rowSelectionEnabled, int rowIndex) throws IOException {
+        if (!cell.isRendered()) {
             return;
         }
 
+        UIColumn column = cell.getColumn();
         ColumnMeta columnMeta = table.getColumnMeta().get(column.getColumnKey(table, rowIndex));
 
-        boolean columnVisible = column.isVisible();
+        boolean columnVisible = cell.isVisible();
         if (columnMeta != null && columnMeta.getVisible() != null) {
             columnVisible = columnMeta.getVisible();
         }
 
         ResponseWriter writer = context.getResponseWriter();
-        boolean columnSelectionEnabled = column.isSelectionBox();
-        boolean isGroupedColumn = column.isGroupRow();
+        boolean columnSelectionEnabled = cell.isSelectionBox();
+        boolean isGroupedColumn = cell.isGroupRow();
         CellEditor editor = column.getCellEditor();
         boolean editorEnabled = editor != null && editor.isRendered();
-        int responsivePriority = column.getResponsivePriority();
-        String title = column.getTitle();
-        String style = column.getStyle();
+        int responsivePriority = cell.getResponsivePriority();
+        String title = cell.getTitle();
+        String style = cell.getStyle();
 
         String styleClass = getStyleClassBuilder(context)
                 .add(columnSelectionEnabled, DataTable.SELECTION_COLUMN_CLASS)
                 .add(isGroupedColumn, DataTable.GROUPED_COLUMN_CLASS)
                 .add(editorEnabled && editor.isDisabled(), DataTable.CELL_EDITOR_DISABLED_CLASS)
                 .add(editorEnabled && !editor.isDisabled(), DataTable.EDITABLE_COLUMN_CLASS)
-                .add(!column.isSelectRow(), DataTable.UNSELECTABLE_COLUMN_CLASS)
+                .add(!cell.isSelectRow(), DataTable.UNSELECTABLE_COLUMN_CLASS)
                 .add(!columnVisible, DataTable.HIDDEN_COLUMN_CLASS)
-                .add(column.getStyleClass())
+                .add(cell.getStyleClass())
                 .add(responsivePriority > 0, "ui-column-p-" + responsivePriority)
                 .build();
 
-        int colspan = column.getColspan();
-        int rowspan = column.getRowspan();
+        int colspan = cell.getColspan();
+        int rowspan = cell.getRowspan();
 
         writer.startElement("td", null);
         writer.writeAttribute("role", "gridcell", null);
@@ -1608,6 +1627,43 @@ public class DataTableRenderer extends DataRenderer {
         }
     }
 
+    /**
+     * Evaluates the group key of each row of the page once and detects the group boundaries,
+     * instead of comparing each row with its neighbours via {@link #isInSameGroup(FacesContext, DataTable, int, int, ValueExpression, boolean)}.
+     */
+    protected GroupBoundaries calculateGroupBoundaries(FacesContext context, DataTable table, int first, int last, ValueExpression groupByVE) {
+        ELContext elContext = context.getELContext();
+        Object[] keys = new Object[Math.max(0, last - first)];
+
+        int rows = 0;
+        for (int i = first; i < last; i++) {
+            table.setRowIndex(i);
+            if (!table.isRowAvailable()) {
+                break;
+            }
+            keys[rows++] = groupByVE.getValue(elContext);
+        }
+
+        // the summaryRow of the last group must only be rendered if the group doesn't continue on the next page, see #9077
+        boolean continuedOnNextPage = false;
+        if (rows > 0 && rows == keys.length) {
+            Object lastKey = keys[rows - 1];
+            if (table.isLazy()) {
+                Object nextRowData = table.getLazyDataModel().loadOne(last, table.getActiveSortMeta(), table.getActiveFilterMeta());
+                if (nextRowData != null) {
+                    Object nextKey = ComponentUtils.executeInRequestScope(context, table.getVar(), nextRowData, () -> groupByVE.getValue(elContext));
+                    continuedOnNextPage = Objects.equals(nextKey, lastKey);
+                }
+            }
+            else {
+                table.setRowIndex(last);
+                continuedOnNextPage = table.isRowAvailable() && Objects.equals(groupByVE.getValue(elContext), lastKey);
+            }
+        }
+
+        return new GroupBoundaries(first, keys, rows, continuedOnNextPage);
+    }
+
     protected boolean isInSameGroup(FacesContext context, DataTable table, int currentRowIndex, int step, ValueExpression groupByVE,
                                     boolean loadFirstRowOfNextPage) {
         ELContext elContext = context.getELContext();
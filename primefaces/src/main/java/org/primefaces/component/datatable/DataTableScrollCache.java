@@ -0,0 +1,229 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable;
+
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortMeta;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Per-view cache of the row blocks loaded by a lazy {@link DataTable} in virtual or live scroll mode,
+ * so scrolling back and forth doesn't load the same rows again.
+ * Each block contains <code>scrollRows</code> rows, the cache is bounded by the total number of cached rows
+ * and evicts the least recently used blocks first.
+ * The blocks are only valid for the same {@link LazyDataModel} instance and the same sort and filter criteria.
+ */
+public class DataTableScrollCache implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(DataTableScrollCache.class.getName());
+
+    private final int blockSize;
+    private final int maxRows;
+    private String signature;
+    private int rowCount = -1;
+
+    // the loaded rows are not worth to be serialized with the view
+    private transient LazyDataModel<?> model;
+    private transient Map<Integer, CompletableFuture<? extends List<?>>> blocks;
+
+    public DataTableScrollCache(int blockSize, int maxRows) {
+        this.blockSize = blockSize;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Returns the cached rows of the given window and waits for a pending prefetch of them, if required.
+     *
+     * @return the rows or <code>null</code>, if at least one block of the window is not cached
+     */
+    public synchronized List<Object> get(LazyDataModel<?> model, String signature, int offset, int rows) {
+        if (!isValid(model, signature) || offset % blockSize != 0) {
+            return null;
+        }
+
+        List<Object> data = new ArrayList<>(rows);
+        for (int blockOffset = offset; blockOffset < offset + rows; blockOffset += blockSize) {
+            CompletableFuture<? extends List<?>> block = blocks.get(blockOffset);
+            if (block == null) {
+                return null;
+            }
+
+            List<?> blockData = join(blockOffset, block);
+            if (blockData == null) {
+                return null;
+            }
+
+            data.addAll(blockData);
+            if (blockData.size() < blockSize) {
+                // last block
+                break;
+            }
+        }
+
+        return data.size() > rows ? data.subList(0, rows) : data;
+    }
+
+    /**
+     * Splits the loaded window into blocks and caches them.
+     */
+    public synchronized void put(LazyDataModel<?> model, String signature, int offset, int rows, List<?> data) {
+        if (data == null || offset % blockSize != 0) {
+            return;
+        }
+
+        reset(model, signature);
+
+        for (int i = 0; i < data.size() || (i == 0 && data.isEmpty()); i += blockSize) {
+            List<?> blockData = new ArrayList<>(data.subList(i, Math.min(data.size(), i + blockSize)));
+            // only complete blocks are cached, except the last one
+            if (blockData.size() == blockSize || data.size() < rows) {
+                putBlock(offset + i, CompletableFuture.completedFuture(blockData));
+            }
+        }
+    }
+
+    /**
+     * Remembers the row count of the model for the cached blocks, as models which calculate the row count within
+     * {@link LazyDataModel#load(int, int, Map, Map)} don't update it if the rows are served from the cache.
+     */
+    public synchronized void putRowCount(LazyDataModel<?> model, String signature, int rowCount) {
+        if (isValid(model, signature)) {
+            this.rowCount = rowCount;
+        }
+    }
+
+    /**
+     * @return the row count of the model for the cached blocks or <code>-1</code>, if not known
+     */
+    public synchronized int getRowCount(LazyDataModel<?> model, String signature) {
+        return isValid(model, signature) ? rowCount : -1;
+    }
+
+    /**
+     * Loads the block at the given offset via {@link LazyDataModel#loadAsync(Executor, int, int, Map, Map)}, if it's not cached yet
+     * and the model supports it (see {@link LazyDataModel#isLoadAsyncSupported()}).
+     */
+    public synchronized <T> void prefetch(LazyDataModel<T> model, String signature, int offset, Map<String, SortMeta> sortBy,
+            Map<String, FilterMeta> filterBy, Executor executor) {
+        if (offset % blockSize != 0 || !model.isLoadAsyncSupported()) {
+            return;
+        }
+
+        reset(model, signature);
+
+        if (!blocks.containsKey(offset)) {
+            putBlock(offset, model.loadAsync(executor, offset, blockSize, sortBy, filterBy));
+        }
+    }
+
+    public synchronized void clear() {
+        blocks = null;
+        model = null;
+        signature = null;
+        rowCount = -1;
+    }
+
+    protected boolean isValid(LazyDataModel<?> model, String signature) {
+        return blocks != null && this.model == model && signature.equals(this.signature);
+    }
+
+    protected void reset(LazyDataModel<?> model, String signature) {
+        if (!isValid(model, signature)) {
+            this.model = model;
+            this.signature = signature;
+            this.blocks = new LinkedHashMap<>(16, 0.75f, true);
+            this.rowCount = -1;
+        }
+    }
+
+    protected void putBlock(int offset, CompletableFuture<? extends List<?>> block) {
+        blocks.put(offset, block);
+
+        // assume full blocks, the size of pending blocks is not known yet
+        Iterator<Integer> eldest = blocks.keySet().iterator();
+        while (blocks.size() > 1 && blocks.size() * blockSize > maxRows) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    protected List<?> join(int offset, CompletableFuture<? extends List<?>> block) {
+        try {
+            return block.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        catch (ExecutionException e) {
+            LOGGER.log(Level.WARNING, e.getCause(), () -> "Prefetching rows at offset " + offset + " failed, loading them again");
+            blocks.remove(offset);
+            return null;
+        }
+    }
+
+    /**
+     * Creates a canonical signature of the active sort and filter criteria.
+     */
+    public static String getSignature(Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        StringBuilder signature = new StringBuilder();
+        for (SortMeta sortMeta : sortBy.values()) {
+            if (sortMeta.isActive()) {
+                signature.append(sortMeta.getField())
+                        .append('|').append(sortMeta.getOrder())
+                        .append('|').append(sortMeta.isCaseSensitiveSort())
+                        .append('|').append(sortMeta.getNullSortOrder())
+                        .append(';');
+            }
+        }
+
+        signature.append('#');
+        for (Map.Entry<String, FilterMeta> entry : new TreeMap<>(filterBy).entrySet()) {
+            FilterMeta filterMeta = entry.getValue();
+            if (filterMeta.isActive()) {
+                signature.append(entry.getKey())
+                        .append('|').append(filterMeta.getMatchMode())
+                        .append('|').append(Arrays.deepToString(new Object[] {filterMeta.getFilterValue()}))
+                        .append(';');
+            }
+        }
+        return signature.toString();
+    }
+}
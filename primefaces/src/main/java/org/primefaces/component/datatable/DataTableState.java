@@ -24,6 +24,7 @@
 package org.primefaces.component.datatable;
 
 import org.primefaces.component.api.UITableState;
+import org.primefaces.model.LazySelection;
 
 import java.util.Set;
 
@@ -39,6 +40,8 @@ public class DataTableState extends UITableState {
 
     private Set<String> expandedRowKeys;
 
+    private LazySelection lazySelection;
+
     public int getFirst() {
         return first;
     }
@@ -70,4 +73,12 @@ public class DataTableState extends UITableState {
     public void setExpandedRowKeys(Set<String> expandedRowKeys) {
         this.expandedRowKeys = expandedRowKeys;
     }
+
+    public LazySelection getLazySelection() {
+        return lazySelection;
+    }
+
+    public void setLazySelection(LazySelection lazySelection) {
+        this.lazySelection = lazySelection;
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The row groups of the rendered page of a grouped {@link DataTable} (see <code>headerRow</code> and <code>summaryRow</code>),
+ * detected in a single pass over the rows before rendering them.
+ */
+public class GroupBoundaries {
+
+    private final int first;
+    private final int rows;
+    private final int[] groupStarts;
+    private final Object[] groupKeys;
+    private final boolean continuedOnNextPage;
+
+    /**
+     * @param first the index of the first row of the page
+     * @param keys the group keys of the available rows of the page
+     * @param rows the number of available rows of the page
+     * @param continuedOnNextPage if the row following the last row of the page belongs to the same group
+     */
+    public GroupBoundaries(int first, Object[] keys, int rows, boolean continuedOnNextPage) {
+        this.first = first;
+        this.rows = rows;
+        this.continuedOnNextPage = continuedOnNextPage;
+
+        int groups = 0;
+        int[] starts = new int[rows];
+        Object[] startKeys = new Object[rows];
+        for (int i = 0; i < rows; i++) {
+            if (i == 0 || !Objects.equals(keys[i - 1], keys[i])) {
+                starts[groups] = first + i;
+                startKeys[groups] = keys[i];
+                groups++;
+            }
+        }
+
+        this.groupStarts = Arrays.copyOf(starts, groups);
+        this.groupKeys = Arrays.copyOf(startKeys, groups);
+    }
+
+    /**
+     * @return if a new group starts with the given row, the first row of the page always starts a group
+     */
+    public boolean isGroupStart(int rowIndex) {
+        return Arrays.binarySearch(groupStarts, rowIndex) >= 0;
+    }
+
+    /**
+     * @return if the group of the given row ends with it on this page
+     */
+    public boolean isGroupEnd(int rowIndex) {
+        if (rowIndex == first + rows - 1) {
+            return !continuedOnNextPage;
+        }
+        return isGroupStart(rowIndex + 1);
+    }
+
+    /**
+     * @return the index of the first row of the group of the given row on this page
+     */
+    public int getGroupStart(int rowIndex) {
+        return groupStarts[getGroup(rowIndex)];
+    }
+
+    /**
+     * @return the group key of the given row
+     */
+    public Object getGroupKey(int rowIndex) {
+        return groupKeys[getGroup(rowIndex)];
+    }
+
+    /**
+     * @return the number of rows of the group of the given row on this page
+     */
+    public int getGroupSize(int rowIndex) {
+        int group = getGroup(rowIndex);
+        int end = group + 1 < groupStarts.length ? groupStarts[group + 1] : first + rows;
+        return end - groupStarts[group];
+    }
+
+    public int getGroupCount() {
+        return groupStarts.length;
+    }
+
+    protected int getGroup(int rowIndex) {
+        int group = Arrays.binarySearch(groupStarts, rowIndex);
+        return group >= 0 ? group : -group - 2;
+    }
+}
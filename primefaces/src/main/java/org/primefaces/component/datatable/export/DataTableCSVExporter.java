@@ -23,19 +23,29 @@
  */
 package org.primefaces.component.datatable.export;
 
+import org.primefaces.component.api.DynamicColumn;
 import org.primefaces.component.api.UIColumn;
 import org.primefaces.component.datatable.DataTable;
 import org.primefaces.component.export.CSVOptions;
 import org.primefaces.component.export.ColumnValue;
+import org.primefaces.component.export.ColumnValueAccessor;
+import org.primefaces.component.export.ExportConfiguration;
+import org.primefaces.component.export.ExportJob;
+import org.primefaces.component.export.ExportTask;
 import org.primefaces.util.Constants;
 import org.primefaces.util.LangUtils;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 
 import jakarta.faces.FacesException;
 import jakarta.faces.context.FacesContext;
@@ -114,7 +124,138 @@ public class DataTableCSVExporter extends DataTableExporter<PrintWriter, CSVOpti
         return ".csv";
     }
 
+    /**
+     * Captures the headers, footers and a detached {@link ColumnValueAccessor} of the exportable columns and a {@link DataTableExportSnapshot}
+     * of the rows. Returns <code>null</code>, so the table is exported synchronously, if a column requires EL, its child components or its
+     * converter (see {@link ColumnValueAccessor#detach(FacesContext)}) or the lazy model doesn't support
+     * {@link org.primefaces.model.LazyDataModel#createDetachedLoader}. The pre- and postProcessor are not applied.
+     */
+    @Override
+    public ExportTask createAsyncTask(FacesContext context, List<DataTable> tables, ExportConfiguration exportConfiguration) {
+        this.exportConfiguration = exportConfiguration;
+        CSVOptions csvOptions = options();
+        Charset charset = Charset.forName(exportConfiguration.getEncodingType());
+
+        List<AsyncTable> asyncTables = new ArrayList<>(tables.size());
+        for (DataTable table : tables) {
+            List<UIColumn> columns = getExportableColumns(table);
+            ColumnValueAccessor[] accessors = getColumnValueAccessors(context, table);
+            String[] headers = exportConfiguration.isExportHeader() ? new String[columns.size()] : null;
+            String[] footers = exportConfiguration.isExportFooter() && table.hasFooterColumn() ? new String[columns.size()] : null;
+
+            ColumnValueAccessor[] detachedAccessors = new ColumnValueAccessor[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                detachedAccessors[i] = accessors[i] == null ? null : accessors[i].detach(context);
+                if (detachedAccessors[i] == null) {
+                    asyncTables.forEach(asyncTable -> asyncTable.rows.close());
+                    return null;
+                }
+
+                UIColumn column = columns.get(i);
+                if (column instanceof DynamicColumn) {
+                    ((DynamicColumn) column).applyStatelessModel();
+                }
+                if (headers != null) {
+                    headers[i] = getColumnFacetValue(context, column, ColumnType.HEADER).toString();
+                }
+                if (footers != null) {
+                    footers[i] = getColumnFacetValue(context, column, ColumnType.FOOTER).toString();
+                }
+            }
+
+            DataTableExportSnapshot rows = DataTableExportSnapshot.of(context, table, exportConfiguration);
+            if (rows == null) {
+                // the lazy model can't load its rows outside of the request
+                asyncTables.forEach(asyncTable -> asyncTable.rows.close());
+                return null;
+            }
+            asyncTables.add(new AsyncTable(table.getClientId(context), detachedAccessors, headers, footers, rows));
+        }
+
+        return (outputStream, job) -> {
+            try {
+                exportAsync(outputStream, job, asyncTables, csvOptions, charset);
+            }
+            finally {
+                asyncTables.forEach(asyncTable -> asyncTable.rows.close());
+            }
+        };
+    }
+
+    private static void exportAsync(OutputStream outputStream, ExportJob job, List<AsyncTable> asyncTables, CSVOptions csvOptions, Charset charset)
+            throws IOException {
+        long totalRows = 0;
+        for (AsyncTable asyncTable : asyncTables) {
+            totalRows += asyncTable.rows.count();
+        }
+        job.setTotalRows(totalRows);
+
+        PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(outputStream, charset)));
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            writer.write("\ufeff"); // byte order mark for UTF-8
+        }
+
+        for (AsyncTable asyncTable : asyncTables) {
+            if (asyncTable.headers != null) {
+                writeRow(writer, csvOptions, asyncTable.headers);
+            }
+
+            ColumnValueAccessor[] accessors = asyncTable.accessors;
+            String[] values = new String[accessors.length];
+            asyncTable.rows.forEachRow(rowData -> {
+                for (int i = 0; i < accessors.length; i++) {
+                    ColumnValue columnValue = accessors[i].getValue(null, rowData);
+                    if (columnValue == null) {
+                        throw new FacesException("Column " + i + " of datatable " + asyncTable.clientId + " can't be read from "
+                                + rowData.getClass().getName() + " outside of the request");
+                    }
+                    values[i] = columnValue.toString();
+                }
+                writeRow(writer, csvOptions, values);
+                job.addRowsWritten(1);
+            });
+
+            if (asyncTable.footers != null) {
+                writeRow(writer, csvOptions, asyncTable.footers);
+            }
+        }
+
+        writer.flush();
+        if (writer.checkError()) {
+            throw new IOException("Writing the CSV export failed");
+        }
+    }
+
+    protected static void writeRow(PrintWriter writer, CSVOptions csvOptions, String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i != 0) {
+                writer.append(csvOptions.getDelimiterChar());
+            }
+
+            String value = values[i] == null ? Constants.EMPTY_STRING : values[i].replace(csvOptions.getQuoteString(), csvOptions.getDoubleQuoteString());
+            writer.append(csvOptions.getQuoteChar()).append(value).append(csvOptions.getQuoteChar());
+        }
+        writer.append(csvOptions.getEndOfLineSymbols());
+    }
+
     protected String escapeQuotes(String value) {
         return value == null ? Constants.EMPTY_STRING : value.replace(options().getQuoteString(), options().getDoubleQuoteString());
     }
+
+    private static final class AsyncTable {
+
+        private final String clientId;
+        private final ColumnValueAccessor[] accessors;
+        private final String[] headers;
+        private final String[] footers;
+        private final DataTableExportSnapshot rows;
+
+        private AsyncTable(String clientId, ColumnValueAccessor[] accessors, String[] headers, String[] footers, DataTableExportSnapshot rows) {
+            this.clientId = clientId;
+            this.accessors = accessors;
+            this.headers = headers;
+            this.footers = footers;
+            this.rows = rows;
+        }
+    }
 }
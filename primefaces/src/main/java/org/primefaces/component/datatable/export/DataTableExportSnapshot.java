@@ -0,0 +1,198 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable.export;
+
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.component.export.ExportConfiguration;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.LazySelection;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Snapshot of the rows a {@link DataTable} export would contain, taken within the request, so the rows can be iterated
+ * outside of it without touching the component.
+ * Non-lazy rows are copied by reference. For lazy tables a {@link LazyDataModel.DetachedLoader} is prepared for the active
+ * sort and filter criteria (or the criteria of the {@link LazySelection}), which loads the rows page by page while iterating,
+ * without using the model itself.
+ */
+public class DataTableExportSnapshot implements AutoCloseable {
+
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
+    private final List<Object> rows;
+    private final LazyDataModel.DetachedLoader<Object> loader;
+    private final LazySelection selection;
+    private final int pageSize;
+
+    @FunctionalInterface
+    public interface RowConsumer {
+
+        void accept(Object rowData) throws IOException;
+    }
+
+    protected DataTableExportSnapshot(List<Object> rows, LazyDataModel.DetachedLoader<Object> loader, LazySelection selection, int pageSize) {
+        this.rows = rows;
+        this.loader = loader;
+        this.selection = selection;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @return the snapshot or <code>null</code>, if the rows of the lazy table can't be loaded outside of the request,
+     *         see {@link LazyDataModel#createDetachedLoader}
+     */
+    public static DataTableExportSnapshot of(FacesContext context, DataTable table, ExportConfiguration exportConfiguration) {
+        Integer bufferSize = exportConfiguration.getBufferSize();
+        int pageSize = bufferSize != null && bufferSize > 0 ? bufferSize : DEFAULT_PAGE_SIZE;
+
+        if (exportConfiguration.isSelectionOnly() && table.isLazySelectionEnabled() && table.getLazySelection() != null) {
+            LazySelection selection = table.getLazySelection();
+            LazyDataModel.DetachedLoader<Object> loader = ((LazyDataModel<Object>) table.getValue())
+                    .createDetachedLoader(selection.getSortBy(), selection.getFilterBy());
+            return loader == null ? null : new DataTableExportSnapshot(null, loader, selection, pageSize);
+        }
+        else if (exportConfiguration.isSelectionOnly()) {
+            return new DataTableExportSnapshot(copySelection(table.getSelection()), null, null, pageSize);
+        }
+        else if (table.isLazy() && !exportConfiguration.isPageOnly()) {
+            LazyDataModel.DetachedLoader<Object> loader = ((LazyDataModel<Object>) table.getValue())
+                    .createDetachedLoader(table.getActiveSortMeta(), table.getActiveFilterMeta());
+            return loader == null ? null : new DataTableExportSnapshot(null, loader, null, pageSize);
+        }
+
+        int first = 0;
+        int count = table.getRowCount();
+        if (exportConfiguration.isPageOnly()) {
+            first = table.getFirst();
+            if (table.getRows() > 0) {
+                count = Math.min(count, first + table.getRows()) - first;
+            }
+        }
+        return new DataTableExportSnapshot(copyRows(table, first, count), null, null, pageSize);
+    }
+
+    /**
+     * @return the number of rows, for lazy tables via {@link LazyDataModel.DetachedLoader#count()}
+     */
+    public long count() {
+        if (rows != null) {
+            return rows.size();
+        }
+
+        int count = loader.count();
+        // like LazyDataModel#countSelected, the excluded rows are expected to match the filters
+        return selection == null ? count : Math.max(0, count - selection.getExcludedRowKeys().size());
+    }
+
+    /**
+     * Passes all rows to the consumer, lazy rows are loaded page by page.
+     *
+     * @throws InterruptedIOException if the current thread is interrupted
+     */
+    public void forEachRow(RowConsumer consumer) throws IOException {
+        if (rows != null) {
+            for (int i = 0; i < rows.size(); i++) {
+                checkInterrupted();
+                consumer.accept(rows.get(i));
+            }
+            return;
+        }
+
+        boolean exclusions = selection != null && !selection.getExcludedRowKeys().isEmpty();
+        int offset = 0;
+        List<Object> page;
+        do {
+            checkInterrupted();
+            page = loader.load(offset, pageSize);
+            for (int i = 0; i < page.size(); i++) {
+                Object rowData = page.get(i);
+                if (!exclusions || selection.isSelected(loader.getRowKey(rowData))) {
+                    consumer.accept(rowData);
+                }
+            }
+            offset += page.size();
+        }
+        while (page.size() == pageSize);
+    }
+
+    /**
+     * Closes the loader of lazy rows.
+     */
+    @Override
+    public void close() {
+        if (loader != null) {
+            loader.close();
+        }
+    }
+
+    protected void checkInterrupted() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Export was interrupted");
+        }
+    }
+
+    protected static List<Object> copyRows(DataTable table, int first, int count) {
+        List<Object> rows = new ArrayList<>(Math.max(0, count));
+        try {
+            for (int rowIndex = first; rowIndex < first + count; rowIndex++) {
+                table.setRowIndex(rowIndex);
+                if (!table.isRowAvailable()) {
+                    break;
+                }
+                rows.add(table.getRowData());
+            }
+        }
+        finally {
+            table.setRowIndex(-1);
+        }
+        return rows;
+    }
+
+    protected static List<Object> copySelection(Object selection) {
+        if (selection == null) {
+            return Collections.emptyList();
+        }
+        else if (selection.getClass().isArray()) {
+            int size = Array.getLength(selection);
+            List<Object> rows = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                rows.add(Array.get(selection, i));
+            }
+            return rows;
+        }
+        else if (selection instanceof Collection) {
+            return new ArrayList<>((Collection<?>) selection);
+        }
+        return Collections.singletonList(selection);
+    }
+}
@@ -26,15 +26,24 @@ package org.primefaces.component.datatable.export;
 import org.primefaces.component.datatable.DataTable;
 import org.primefaces.component.export.ExporterOptions;
 import org.primefaces.component.export.TableExporter;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.model.FilterMeta;
 import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortMeta;
 
 import java.lang.reflect.Array;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
+import jakarta.faces.FacesException;
 import jakarta.faces.context.FacesContext;
 
 public abstract class DataTableExporter<P, O extends ExporterOptions> extends TableExporter<DataTable, P, O> {
@@ -108,17 +117,25 @@ public abstract class DataTableExporter<P, O extends ExporterOptions> extends Ta
                 List<?> wrappedData = lazyDataModel.getWrappedData();
                 int pageSize = lazyDataModel.getPageSize();
                 lazyDataModel.setPageSize(batchSize);
-                int offset = 0;
-                List<Object> items;
-
-                do {
-                    items = lazyDataModel.load(offset, batchSize, table.getActiveSortMeta(), table.getActiveFilterMeta());
-                    lazyDataModel.setWrappedData(items);
-                    for (int rowIndex = 0; rowIndex < items.size(); rowIndex++) {
-                        exportRow(context, table, rowIndex);
-                    }
-                    offset += items.size();
-                } while ((bufferized && !items.isEmpty()) || (!bufferized && offset < batchSize));
+                Integer prefetch = exportConfiguration.getPrefetch();
+
+                // prefetching runs concurrent loads on the model, so the model has to opt in
+                if (bufferized && prefetch != null && prefetch > 0 && lazyDataModel.isLoadAsyncSupported()) {
+                    exportAllPrefetched(context, table, lazyDataModel, batchSize, prefetch);
+                }
+                else {
+                    int offset = 0;
+                    List<Object> items;
+
+                    do {
+                        items = lazyDataModel.load(offset, batchSize, table.getActiveSortMeta(), table.getActiveFilterMeta());
+                        lazyDataModel.setWrappedData(items);
+                        for (int rowIndex = 0; rowIndex < items.size(); rowIndex++) {
+                            exportRow(context, table, rowIndex);
+                        }
+                        offset += items.size();
+                    } while ((bufferized && !items.isEmpty()) || (!bufferized && offset < batchSize));
+                }
 
                 //restore
                 table.setRowIndex(-1);
@@ -140,9 +157,75 @@ public abstract class DataTableExporter<P, O extends ExporterOptions> extends Ta
         }
     }
 
+    /**
+     * Exports all rows of a lazy table page by page, while the next <code>prefetch</code> pages are loaded in the background via
+     * {@link LazyDataModel#loadAsync(Executor, int, int, Map, Map)}, so loading and writing the rows overlap.
+     * All pages are loaded with the same snapshot of the sort and filter criteria.
+     * Only used if {@link LazyDataModel#isLoadAsyncSupported()}.
+     */
+    protected void exportAllPrefetched(FacesContext context, DataTable table, LazyDataModel<Object> lazyDataModel, int pageSize, int prefetch) {
+        Map<String, SortMeta> sortBy = table.getActiveSortMeta();
+        Map<String, FilterMeta> filterBy = table.getActiveFilterMeta();
+        Executor executor = getPrefetchExecutor(context);
+
+        Deque<CompletableFuture<List<Object>>> pages = new ArrayDeque<>(prefetch + 1);
+        int offset = 0;
+        try {
+            while (true) {
+                while (pages.size() <= prefetch) {
+                    pages.add(lazyDataModel.loadAsync(executor, offset, pageSize, sortBy, filterBy));
+                    offset += pageSize;
+                }
+
+                List<Object> items = joinPage(table, pages.poll());
+                if (items == null || items.isEmpty()) {
+                    break;
+                }
+
+                lazyDataModel.setWrappedData(items);
+                for (int rowIndex = 0; rowIndex < items.size(); rowIndex++) {
+                    exportRow(context, table, rowIndex);
+                }
+
+                if (items.size() < pageSize) {
+                    break;
+                }
+            }
+        }
+        finally {
+            // pages behind the last one
+            for (CompletableFuture<List<Object>> page : pages) {
+                page.cancel(true);
+            }
+        }
+    }
+
+    protected Executor getPrefetchExecutor(FacesContext context) {
+        return PrimeApplicationContext.getCurrentInstance(context).getAsyncExecutor();
+    }
+
+    protected List<Object> joinPage(DataTable table, CompletableFuture<List<Object>> page) {
+        try {
+            return page.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FacesException("Interrupted while loading rows to export for datatable " + table.getClientId(), e);
+        }
+        catch (ExecutionException e) {
+            throw new FacesException("Loading rows to export failed for datatable " + table.getClientId(), e.getCause());
+        }
+    }
+
     protected void exportRow(FacesContext context, DataTable table, int rowIndex) {
         if (rowIndex != NO_ROW_INDEX_REQUIRED) {
-            table.setRowIndex(rowIndex);
+            if (isColumnValueAccessorsOnly(context, table)) {
+                // no child components are evaluated, so only the row data and var are required
+                table.setRowModel(rowIndex);
+            }
+            else {
+                table.setRowIndex(rowIndex);
+            }
             if (!table.isRowAvailable()) {
                 return;
             }
@@ -29,18 +29,19 @@ import org.primefaces.component.datatable.DataTableRenderer;
 import org.primefaces.component.datatable.DataTableState;
 import org.primefaces.event.data.PostFilterEvent;
 import org.primefaces.model.FilterMeta;
-import org.primefaces.model.filter.FilterConstraint;
-import org.primefaces.model.filter.FunctionFilterConstraint;
+import org.primefaces.model.filter.FilterSnapshot;
 import org.primefaces.util.ComponentUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Set;
+import java.util.stream.IntStream;
 
-import jakarta.el.ELContext;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.event.PhaseId;
 
@@ -107,60 +108,42 @@ public class FilterFeature implements DataTableFeature {
     }
 
     public void filter(FacesContext context, DataTable table) {
-        List<Object> filtered = new ArrayList<>();
-        Locale filterLocale = table.resolveDataLocale();
-        ELContext elContext = context.getELContext();
-        Map<String, FilterMeta> filterBy = table.getFilterByAsMap();
-        FilterMeta globalFilter = filterBy.get(FilterMeta.GLOBAL_FILTER_KEY);
-        boolean hasGlobalFilterFunction = globalFilter != null && globalFilter.getConstraint() instanceof FunctionFilterConstraint;
-
         table.setValue(null); // reset value (instead of filtering on already filtered value)
-        AtomicBoolean localMatch = new AtomicBoolean();
-        AtomicBoolean globalMatch = new AtomicBoolean();
+        table.setRowIndex(-1);
+
+        Object value = table.getValue();
+        FilterSnapshot snapshot = FilterSnapshot.of(table.getFilterByAsMap(), value);
+        List<?> narrowedValue = resolveNarrowedValue(table, value, snapshot);
+        if (narrowedValue != null) {
+            value = narrowedValue;
+            table.setValue(value);
+        }
 
-        for (int i = 0; i < table.getRowCount(); i++) {
-            table.setRowIndex(i);
-            Object rowData = table.getRowData();
-            localMatch.set(true);
-            globalMatch.set(false);
+        FilterPlan plan = FilterPlan.of(context, table, resolveRowType(value));
+        List<Object> filtered = new ArrayList<>();
 
-            if (hasGlobalFilterFunction) {
-                globalMatch.set(globalFilter.getConstraint().isMatching(context, rowData, globalFilter.getFilterValue(), filterLocale));
+        if (!plan.isRequiresRowState() && value instanceof List) {
+            // no EL involved, so we can skip saving/restoring the row state and just iterate the value
+            List<?> rows = (List<?>) value;
+            int parallelFilter = table.getParallelFilter();
+            if (parallelFilter > 0 && rows.size() >= parallelFilter) {
+                filterParallel(context, plan, rows, filtered);
             }
-
-            final int rowIndex = i;
-            table.forEachColumn(column -> {
-                FilterMeta filter = filterBy.get(column.getColumnKey(table, rowIndex));
-                if (filter == null || filter.isGlobalFilter()) {
-                    return true;
-                }
-
-                Object columnValue = filter.getLocalValue(elContext, column);
-
-                if (globalFilter != null && globalFilter.isActive() && !globalMatch.get() && !hasGlobalFilterFunction) {
-                    FilterConstraint constraint = globalFilter.getConstraint();
-                    Object filterValue = globalFilter.getFilterValue();
-                    globalMatch.set(constraint.isMatching(context, columnValue, filterValue, filterLocale));
+            else {
+                for (Object rowData : rows) {
+                    if (plan.matches(context, rowData)) {
+                        filtered.add(rowData);
+                    }
                 }
-
-                if (!filter.isActive()) {
-                    return true;
-                }
-
-                FilterConstraint constraint = filter.getConstraint();
-                Object filterValue = filter.getFilterValue();
-
-                localMatch.set(constraint.isMatching(context, columnValue, filterValue, filterLocale));
-                return localMatch.get();
-            });
-
-            boolean matches = localMatch.get();
-            if (globalFilter != null && globalFilter.isActive()) {
-                matches = matches && globalMatch.get();
             }
-
-            if (matches) {
-                filtered.add(rowData);
+        }
+        else {
+            for (int i = 0; i < table.getRowCount(); i++) {
+                table.setRowIndex(i);
+                Object rowData = table.getRowData();
+                if (plan.matches(context, rowData)) {
+                    filtered.add(rowData);
+                }
             }
         }
 
@@ -171,7 +154,71 @@ public class FilterFeature implements DataTableFeature {
 
         //save filtered data
         table.setFilteredValue(filtered);
+        table.setFilterSnapshot(snapshot);
         table.setValue(DataTable.convertIntoObjectValueType(context, table, filtered));
         table.setRowIndex(-1); //reset datamodel
     }
+
+    /**
+     * If the current filters only narrow the filters of the previous request (e.g. "smi" followed by "smit" on a contains filter),
+     * only the previously filtered rows can match.
+     * The filtered value might have been sorted meanwhile, so the rows are taken from the unchanged value to keep its order.
+     *
+     * @return the previously filtered rows or <code>null</code> if all rows must be filtered
+     */
+    protected List<?> resolveNarrowedValue(DataTable table, Object value, FilterSnapshot snapshot) {
+        FilterSnapshot previousSnapshot = table.getFilterSnapshot();
+        List<?> filteredValue = table.getFilteredValue();
+        if (filteredValue == null || previousSnapshot == null || !previousSnapshot.isNarrowedBy(snapshot, table.resolveDataLocale())) {
+            return null;
+        }
+
+        Set<Object> previousMatches = Collections.newSetFromMap(new IdentityHashMap<>(filteredValue.size()));
+        previousMatches.addAll(filteredValue);
+
+        List<Object> narrowedValue = new ArrayList<>(filteredValue.size());
+        for (Object rowData : (Collection<?>) value) {
+            if (previousMatches.contains(rowData)) {
+                narrowedValue.add(rowData);
+            }
+        }
+        return narrowedValue;
+    }
+
+    /**
+     * Matches the rows concurrently via fork-join tasks of the common pool, but keeps the original order of the rows.
+     * Must only be used if the plan doesn't require the row state.
+     */
+    protected void filterParallel(FacesContext context, FilterPlan plan, List<?> rows, List<Object> filtered) {
+        Object[] rowArray = rows.toArray();
+        boolean[] matches = new boolean[rowArray.length];
+
+        IntStream.range(0, rowArray.length)
+                .parallel()
+                .forEach(i -> matches[i] = plan.matches(context, rowArray[i]));
+
+        for (int i = 0; i < rowArray.length; i++) {
+            if (matches[i]) {
+                filtered.add(rowArray[i]);
+            }
+        }
+    }
+
+    protected Class<?> resolveRowType(Object data) {
+        if (data instanceof Iterable) {
+            for (Object rowData : (Iterable<?>) data) {
+                if (rowData != null) {
+                    return rowData.getClass();
+                }
+            }
+        }
+        else if (data instanceof Object[]) {
+            for (Object rowData : (Object[]) data) {
+                if (rowData != null) {
+                    return rowData.getClass();
+                }
+            }
+        }
+        return null;
+    }
 }
\ No newline at end of file
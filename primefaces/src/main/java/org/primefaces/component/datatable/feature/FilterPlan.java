@@ -0,0 +1,223 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable.feature;
+
+import org.primefaces.component.api.UIColumn;
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.filter.FilterConstraint;
+import org.primefaces.model.filter.FunctionFilterConstraint;
+import org.primefaces.util.LangUtils;
+import org.primefaces.util.PropertyDescriptorResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import jakarta.faces.FacesException;
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Filter state of a {@link DataTable}, resolved once per filter request.
+ * Binds each filtered column to its {@link FilterMeta}, its prepared {@link FilterConstraint}
+ * and - if the filterBy was generated from a field - a direct property accessor,
+ * so matching a row neither walks the component tree nor re-reads the filter metadata.
+ */
+public class FilterPlan {
+
+    private final ColumnFilter[] columnFilters;
+    private final FilterMeta globalFilter;
+    private final Predicate<Object> globalConstraint;
+    private final boolean globalFilterFunction;
+    private final boolean requiresRowState;
+    private final Locale locale;
+
+    protected FilterPlan(ColumnFilter[] columnFilters, FilterMeta globalFilter, Predicate<Object> globalConstraint,
+                         boolean globalFilterFunction, boolean requiresRowState, Locale locale) {
+        this.columnFilters = columnFilters;
+        this.globalFilter = globalFilter;
+        this.globalConstraint = globalConstraint;
+        this.globalFilterFunction = globalFilterFunction;
+        this.requiresRowState = requiresRowState;
+        this.locale = locale;
+    }
+
+    /**
+     * Builds the plan for the current filters of the given table.
+     *
+     * @param context the {@link FacesContext}
+     * @param table the {@link DataTable}
+     * @param rowType the type of the rows or <code>null</code> if unknown, used to decide whether direct property access is possible
+     * @return the plan
+     */
+    public static FilterPlan of(FacesContext context, DataTable table, Class<?> rowType) {
+        Locale locale = table.resolveDataLocale();
+        Map<String, FilterMeta> filterBy = table.getFilterByAsMap();
+        PropertyDescriptorResolver propResolver = PrimeApplicationContext.getCurrentInstance(context).getPropertyDescriptorResolver();
+
+        FilterMeta globalFilter = filterBy.get(FilterMeta.GLOBAL_FILTER_KEY);
+        if (globalFilter != null && !globalFilter.isActive()) {
+            globalFilter = null;
+        }
+        boolean globalFilterFunction = globalFilter != null && globalFilter.getConstraint() instanceof FunctionFilterConstraint;
+        boolean globalFilterOnColumns = globalFilter != null && !globalFilterFunction;
+        Predicate<Object> globalConstraint = globalFilterOnColumns
+                ? globalFilter.getConstraint().prepare(context, globalFilter.getFilterValue(), locale)
+                : null;
+
+        List<ColumnFilter> columnFilters = new ArrayList<>();
+        table.forEachColumn(column -> {
+            FilterMeta filter = filterBy.get(column.getColumnKey());
+            if (filter == null || filter.isGlobalFilter() || (!filter.isActive() && !globalFilterOnColumns)) {
+                return true;
+            }
+
+            Predicate<Object> constraint = filter.isActive()
+                    ? filter.getConstraint().prepare(context, filter.getFilterValue(), locale)
+                    : null;
+
+            String field = null;
+            if (filter.isFilterByGenerated() && isDirectAccessible(propResolver, rowType, filter.getField())) {
+                field = filter.getField();
+            }
+
+            columnFilters.add(new ColumnFilter(column, filter, constraint, propResolver, field));
+            return true;
+        });
+
+        boolean requiresRowState = globalFilterFunction;
+        for (ColumnFilter columnFilter : columnFilters) {
+            requiresRowState = requiresRowState
+                    || !columnFilter.isDirect()
+                    || columnFilter.filter.getConstraint() instanceof FunctionFilterConstraint;
+        }
+
+        return new FilterPlan(columnFilters.toArray(new ColumnFilter[0]), globalFilter, globalConstraint,
+                globalFilterFunction, requiresRowState, locale);
+    }
+
+    protected static boolean isDirectAccessible(PropertyDescriptorResolver propResolver, Class<?> rowType, String field) {
+        if (rowType == null || field == null || Map.class.isAssignableFrom(rowType)) {
+            return false;
+        }
+
+        try {
+            return propResolver.get(rowType, field).getReadMethod() != null;
+        }
+        catch (FacesException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return <code>true</code> if at least one filter relies on EL and therefore on the row state
+     *         (e.g. the <code>var</code> of the table), so {@link DataTable#setRowIndex(int)} must be called before matching a row.
+     */
+    public boolean isRequiresRowState() {
+        return requiresRowState;
+    }
+
+    /**
+     * @return <code>true</code> if no filter is active, so each row will match.
+     */
+    public boolean isEmpty() {
+        if (globalFilter != null) {
+            return false;
+        }
+        for (ColumnFilter columnFilter : columnFilters) {
+            if (columnFilter.constraint != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Matches the given row against all filters.
+     * If {@link #isRequiresRowState()} is <code>false</code>, this method doesn't touch the {@link FacesContext}
+     * or the component tree, so rows can be matched concurrently.
+     *
+     * @param context the {@link FacesContext}
+     * @param rowData the row
+     * @return <code>true</code> if the row matches
+     */
+    public boolean matches(FacesContext context, Object rowData) {
+        boolean globalMatch = false;
+
+        if (globalFilterFunction) {
+            globalMatch = globalFilter.getConstraint().isMatching(context, rowData, globalFilter.getFilterValue(), locale);
+        }
+
+        for (ColumnFilter columnFilter : columnFilters) {
+            Object columnValue = columnFilter.getValue(context, rowData);
+
+            if (globalConstraint != null && !globalMatch) {
+                globalMatch = globalConstraint.test(columnValue);
+            }
+
+            if (columnFilter.constraint != null && !columnFilter.constraint.test(columnValue)) {
+                return false;
+            }
+        }
+
+        return globalFilter == null || globalMatch;
+    }
+
+    protected static class ColumnFilter {
+
+        private final UIColumn column;
+        private final FilterMeta filter;
+        private final Predicate<Object> constraint;
+        private final PropertyDescriptorResolver propResolver;
+        private final String field;
+
+        protected ColumnFilter(UIColumn column, FilterMeta filter, Predicate<Object> constraint,
+                               PropertyDescriptorResolver propResolver, String field) {
+            this.column = column;
+            this.filter = filter;
+            this.constraint = constraint;
+            this.propResolver = propResolver;
+            this.field = field;
+        }
+
+        protected boolean isDirect() {
+            return field != null;
+        }
+
+        protected Object getValue(FacesContext context, Object rowData) {
+            if (field != null) {
+                Object value = rowData == null ? null : propResolver.getValue(rowData, field);
+                return LangUtils.normalize(value, filter.isNormalize());
+            }
+            return filter.getLocalValue(context.getELContext(), column);
+        }
+    }
+}
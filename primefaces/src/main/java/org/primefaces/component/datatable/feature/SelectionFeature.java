@@ -26,6 +26,7 @@ package org.primefaces.component.datatable.feature;
 import org.primefaces.component.datatable.DataTable;
 import org.primefaces.component.datatable.DataTableBase;
 import org.primefaces.component.datatable.DataTableState;
+import org.primefaces.model.LazySelection;
 import org.primefaces.util.LangUtils;
 
 import java.lang.reflect.Array;
@@ -33,6 +34,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,7 +45,8 @@ import jakarta.faces.context.FacesContext;
 
 public class SelectionFeature implements DataTableFeature {
 
-    private static final String ALL_SELECTOR = "@all";
+    public static final String ALL_SELECTOR = "@all";
+    public static final String EXCLUDED_ROW_KEY_PREFIX = "!";
 
     @Override
     public void decode(FacesContext context, DataTable table) {
@@ -63,6 +66,16 @@ public class SelectionFeature implements DataTableFeature {
             table.setSelectAll(false);
         }
 
+        if (table.isLazySelectionEnabled()) {
+            LazySelection lazySelection = null;
+            if (rowKeys.contains(ALL_SELECTOR)) {
+                lazySelection = new LazySelection(table.getActiveSortMeta(), table.getActiveFilterMeta(), getExcludedRowKeys(rowKeys));
+                table.setSelectAll(lazySelection.getExcludedRowKeys().isEmpty());
+                rowKeys = Collections.emptySet();
+            }
+            setLazySelection(context, table, lazySelection);
+        }
+
         if (allEligibleToSelection) {
             table.setValue(null);
         }
@@ -76,7 +89,32 @@ public class SelectionFeature implements DataTableFeature {
         if (table.isMultiViewState()) {
             DataTableState ts = table.getMultiViewState(true);
             ts.setSelectedRowKeys(table.getSelectedRowKeys());
+            ts.setLazySelection(table.isLazySelectionEnabled() ? table.getLazySelection() : null);
+        }
+    }
+
+    /**
+     * Sets the {@link LazySelection} of the table, which replaces the selected row keys and the <code>selection</code>
+     * while all rows matching the filters are selected.
+     */
+    public void setLazySelection(FacesContext context, DataTable table, LazySelection lazySelection) {
+        ValueExpression lazySelectionVE = table.getValueExpression(DataTableBase.PropertyKeys.lazySelection.name());
+        if (lazySelectionVE != null) {
+            lazySelectionVE.setValue(context.getELContext(), lazySelection);
+        }
+        else {
+            table.setLazySelection(lazySelection);
+        }
+    }
+
+    protected Set<String> getExcludedRowKeys(Set<String> rowKeys) {
+        Set<String> excluded = new LinkedHashSet<>();
+        for (String rowKey : rowKeys) {
+            if (rowKey.startsWith(EXCLUDED_ROW_KEY_PREFIX)) {
+                excluded.add(rowKey.substring(EXCLUDED_ROW_KEY_PREFIX.length()));
+            }
         }
+        return excluded;
     }
 
     public void decodeSelection(FacesContext context, DataTable table, Set<String> rowKeys) {
@@ -0,0 +1,300 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import org.primefaces.component.api.UIColumn;
+import org.primefaces.component.api.UITable;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.util.ComponentUtils;
+import org.primefaces.util.LangUtils;
+import org.primefaces.util.PropertyDescriptorResolver;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import jakarta.el.ValueExpression;
+import jakarta.faces.FacesException;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.convert.BigDecimalConverter;
+import jakarta.faces.convert.BigIntegerConverter;
+import jakarta.faces.convert.BooleanConverter;
+import jakarta.faces.convert.ByteConverter;
+import jakarta.faces.convert.CharacterConverter;
+import jakarta.faces.convert.Converter;
+import jakarta.faces.convert.DoubleConverter;
+import jakarta.faces.convert.EnumConverter;
+import jakarta.faces.convert.FloatConverter;
+import jakarta.faces.convert.IntegerConverter;
+import jakarta.faces.convert.LongConverter;
+import jakarta.faces.convert.ShortConverter;
+
+/**
+ * Reads the export value of a column directly from the row data via the {@link PropertyDescriptorResolver},
+ * instead of evaluating EL or the child components of the column for each cell.
+ * Created once per column and export by {@link #of(FacesContext, UITable, UIColumn)} for columns with a <code>field</code>
+ * or with an <code>exportValue</code> which is literal or a simple property of the row, e.g. <code>#{car.brand}</code>.
+ */
+public class ColumnValueAccessor {
+
+    private static final Logger LOGGER = Logger.getLogger(ColumnValueAccessor.class.getName());
+
+    private static final String PROPERTY_PATH = "[A-Za-z_$][\\w$]*(?:\\.[A-Za-z_$][\\w$]*)*";
+    private static final Pattern PROPERTY_PATH_PATTERN = Pattern.compile(PROPERTY_PATH);
+
+    // by-type converters of Faces whose getAsString is equivalent to toString, or name for enums
+    private static final Map<Class<?>, Class<?>> STANDARD_CONVERTERS = Map.ofEntries(
+            Map.entry(BigDecimal.class, BigDecimalConverter.class),
+            Map.entry(BigInteger.class, BigIntegerConverter.class),
+            Map.entry(Boolean.class, BooleanConverter.class),
+            Map.entry(Byte.class, ByteConverter.class),
+            Map.entry(Character.class, CharacterConverter.class),
+            Map.entry(Double.class, DoubleConverter.class),
+            Map.entry(Enum.class, EnumConverter.class),
+            Map.entry(Float.class, FloatConverter.class),
+            Map.entry(Integer.class, IntegerConverter.class),
+            Map.entry(Long.class, LongConverter.class),
+            Map.entry(Short.class, ShortConverter.class));
+
+    private final PropertyDescriptorResolver resolver;
+    private final UIComponent component;
+    private final String property;
+    private final boolean convert;
+    private final Converter<?> converter;
+    private final Object constant;
+    private final Map<Class<?>, Converter<?>> typeConverters;
+    private final boolean nullFallback;
+    private final boolean rowIndexRequired;
+    private final Set<Class<?>> requestConverterTypes;
+    private Class<?> unsupportedType;
+
+    protected ColumnValueAccessor(PropertyDescriptorResolver resolver, UIComponent component, String property, boolean convert,
+            Converter<?> converter, Object constant) {
+        this(resolver, component, property, convert, converter, constant, false, false);
+    }
+
+    /**
+     * @param nullFallback if a <code>null</code> value must be resolved via {@link TableExporter#getColumnValue} instead
+     * @param rowIndexRequired if this fallback evaluates the child components, which requires a positioned row
+     */
+    protected ColumnValueAccessor(PropertyDescriptorResolver resolver, UIComponent component, String property, boolean convert,
+            Converter<?> converter, Object constant, boolean nullFallback, boolean rowIndexRequired) {
+        this.resolver = resolver;
+        this.component = component;
+        this.property = property;
+        this.convert = convert;
+        this.converter = converter;
+        this.constant = constant;
+        this.typeConverters = convert && converter == null ? new HashMap<>() : null;
+        this.nullFallback = nullFallback;
+        this.rowIndexRequired = rowIndexRequired;
+        this.requestConverterTypes = null;
+    }
+
+    private ColumnValueAccessor(ColumnValueAccessor accessor, Set<Class<?>> requestConverterTypes) {
+        this.resolver = accessor.resolver;
+        this.component = accessor.component;
+        this.property = accessor.property;
+        this.convert = accessor.convert;
+        this.converter = null;
+        this.constant = accessor.constant;
+        this.typeConverters = null;
+        this.nullFallback = false;
+        this.rowIndexRequired = false;
+        this.requestConverterTypes = requestConverterTypes;
+    }
+
+    /**
+     * Creates the accessor for the column, which must be positioned (see {@link org.primefaces.component.api.DynamicColumn#applyStatelessModel()}).
+     * Follows the precedence of {@link TableExporter#getColumnValue}: <code>exportValue</code>, <code>exportFunction</code>, <code>field</code>.
+     *
+     * @return the accessor or <code>null</code>, if the value of the column can only be resolved via EL or its child components
+     */
+    public static ColumnValueAccessor of(FacesContext context, UITable<?> table, UIColumn column) {
+        UIComponent component;
+        try {
+            component = column.asUIComponent();
+        }
+        catch (UnsupportedOperationException e) {
+            return null;
+        }
+
+        PropertyDescriptorResolver resolver = PrimeApplicationContext.getCurrentInstance(context).getPropertyDescriptorResolver();
+        String var = table.getVar();
+
+        ValueExpression exportValueVE = component.getValueExpression("exportValue");
+        if (exportValueVE != null) {
+            if (exportValueVE.isLiteralText()) {
+                return new ColumnValueAccessor(resolver, component, null, false, null, exportValueVE.getValue(context.getELContext()));
+            }
+
+            String property = getRowProperty(var, exportValueVE.getExpressionString());
+            if (property == null) {
+                return null;
+            }
+
+            // a null exportValue falls back to the exportFunction, field or children of the column
+            boolean elFallback = column.getExportFunction() != null || LangUtils.isNotBlank(column.getField());
+            boolean childrenFallback = !elFallback && component.getChildCount() > 0;
+            return new ColumnValueAccessor(resolver, component, property, false, null, null, elFallback || childrenFallback, childrenFallback);
+        }
+
+        Object exportValue = column.getExportValue();
+        if (exportValue != null) {
+            return new ColumnValueAccessor(resolver, component, null, false, null, exportValue);
+        }
+
+        if (column.getExportFunction() != null) {
+            return null;
+        }
+
+        String field = column.getField();
+        if (LangUtils.isNotBlank(var) && LangUtils.isNotBlank(field) && PROPERTY_PATH_PATTERN.matcher(field).matches()) {
+            return new ColumnValueAccessor(resolver, component, field, true, ComponentUtils.toConverter(context, column.getConverter()), null);
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the property path of an expression like <code>#{var.property.nested}</code> or <code>null</code>
+     */
+    protected static String getRowProperty(String var, String expression) {
+        if (LangUtils.isBlank(var) || expression == null) {
+            return null;
+        }
+
+        String prefix = "#{" + var + ".";
+        if (!expression.startsWith(prefix) || !expression.endsWith("}")) {
+            return null;
+        }
+
+        String property = expression.substring(prefix.length(), expression.length() - 1).trim();
+        return PROPERTY_PATH_PATTERN.matcher(property).matches() ? property : null;
+    }
+
+    /**
+     * Creates a copy for threads without a {@link FacesContext}, like asynchronous exports, whose {@link #getValue} accepts a
+     * <code>null</code> context. The standard by-type converters of Faces are applied via <code>toString</code> or the
+     * <code>name</code> of an enum, which is what they return; values which require any other converter fail with a {@link FacesException}.
+     *
+     * @return the copy or <code>null</code>, if the value might require EL or the converter of the column
+     */
+    public ColumnValueAccessor detach(FacesContext context) {
+        if (nullFallback || converter != null) {
+            return null;
+        }
+        if (!convert) {
+            return this;
+        }
+
+        Set<Class<?>> converterTypes = new HashSet<>();
+        for (Iterator<Class<?>> it = context.getApplication().getConverterTypes(); it.hasNext();) {
+            Class<?> type = it.next();
+            if (!type.isPrimitive()) {
+                Converter<?> typeConverter = ComponentUtils.getConverter(context, type);
+                if (typeConverter != null && typeConverter.getClass() != STANDARD_CONVERTERS.get(type)) {
+                    converterTypes.add(type);
+                }
+            }
+        }
+        return new ColumnValueAccessor(this, converterTypes);
+    }
+
+    /**
+     * @return if the rows must be positioned via <code>setRowIndex</code>, as the value might be resolved via the child components
+     */
+    public boolean isRowIndexRequired() {
+        return rowIndexRequired;
+    }
+
+    /**
+     * @param rowData the data of the current row
+     * @return the value or <code>null</code>, if it can't be read from the type of the row data (e.g. a {@link Map})
+     *         or a <code>null</code> value must be resolved via {@link TableExporter#getColumnValue}
+     */
+    public ColumnValue getValue(FacesContext context, Object rowData) {
+        if (property == null) {
+            return ColumnValue.of(constant);
+        }
+
+        Object value = null;
+        if (rowData != null) {
+            Class<?> type = rowData.getClass();
+            if (type == unsupportedType || rowData instanceof Map) {
+                return null;
+            }
+
+            try {
+                value = resolver.getValue(rowData, property);
+            }
+            catch (RuntimeException e) {
+                LOGGER.log(Level.FINE, e, () -> "Property " + property + " can't be read from " + type.getName() + ", falling back to EL");
+                unsupportedType = type;
+                return null;
+            }
+        }
+
+        if (value == null && nullFallback) {
+            return null;
+        }
+
+        return ColumnValue.of(convert ? toString(context, value) : value);
+    }
+
+    protected String toString(FacesContext context, Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (requestConverterTypes != null) {
+            for (Class<?> type : requestConverterTypes) {
+                if (type.isInstance(value)) {
+                    throw new FacesException("Property " + property + " of type " + value.getClass().getName()
+                            + " requires the converter for " + type.getName() + ", which can't be applied outside of the request");
+                }
+            }
+            return value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+        }
+
+        Converter<?> valueConverter = converter;
+        if (valueConverter == null) {
+            Class<?> type = value.getClass();
+            valueConverter = typeConverters.get(type);
+            if (valueConverter == null && !typeConverters.containsKey(type)) {
+                valueConverter = ComponentUtils.getConverter(context, type);
+                typeConverters.put(type, valueConverter);
+            }
+        }
+        return valueConverter == null ? value.toString() : ((Converter<Object>) valueConverter).getAsString(context, component, value);
+    }
+}
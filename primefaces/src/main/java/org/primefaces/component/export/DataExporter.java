@@ -24,19 +24,22 @@
 package org.primefaces.component.export;
 
 import org.primefaces.PrimeFaces;
+import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.expression.SearchExpressionUtils;
 import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.LangUtils;
 import org.primefaces.util.ResourceUtils;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import jakarta.el.ELContext;
@@ -52,6 +55,8 @@ import jakarta.faces.event.ActionListener;
 
 public class DataExporter implements ActionListener, StateHolder {
 
+    private static final Logger LOGGER = Logger.getLogger(DataExporter.class.getName());
+
     private ValueExpression target;
     private ValueExpression type;
     private ValueExpression fileName;
@@ -67,6 +72,9 @@ public class DataExporter implements ActionListener, StateHolder {
     private MethodExpression onTableRender;
     private MethodExpression onRowExport;
     private ValueExpression bufferSize;
+    private ValueExpression prefetch;
+    private ValueExpression async;
+    private ValueExpression job;
 
     public DataExporter() {
         ResourceUtils.addJavascriptResource(FacesContext.getCurrentInstance(), "filedownload/filedownload.js");
@@ -131,6 +139,18 @@ public class DataExporter implements ActionListener, StateHolder {
             bufferSizeTmp = (Integer) bufferSize.getValue(elContext);
         }
 
+        Integer prefetchTmp = null;
+        if (prefetch != null) {
+            prefetchTmp = (Integer) prefetch.getValue(elContext);
+        }
+
+        boolean isAsync = false;
+        if (async != null) {
+            isAsync = async.isLiteralText()
+                    ? Boolean.parseBoolean(async.getValue(context.getELContext()).toString())
+                    : (Boolean) async.getValue(context.getELContext());
+        }
+
         try {
             List<UIComponent> components = SearchExpressionUtils.contextlessResolveComponents(context, event.getComponent(), tables);
             Class<? extends UIComponent> targetClass = guessTargetClass(components);
@@ -139,23 +159,14 @@ public class DataExporter implements ActionListener, StateHolder {
             ExternalContext externalContext = context.getExternalContext();
             String filenameWithExtension = outputFileName + exporterInstance.getFileExtension();
             OutputStream outputStream;
+            DeferredFileOutputStream ajaxOutputStream = null;
 
             String contentType = exporterInstance.getContentType();
             if (contentType.startsWith("text/") && LangUtils.isNotBlank(encodingType)) {
                 contentType += "; charset=" + encodingType;
             }
 
-            if (PrimeFaces.current().isAjaxRequest()) {
-                outputStream = new ByteArrayOutputStream();
-            }
-            else {
-                outputStream = context.getExternalContext().getResponseOutputStream();
-                externalContext.setResponseContentType(contentType);
-                setResponseHeader(externalContext, ComponentUtils.createContentDisposition("attachment", filenameWithExtension));
-                addResponseCookie(context);
-            }
-
-            ExportConfiguration config = ExportConfiguration.builder()
+            ExportConfiguration.Builder configBuilder = ExportConfiguration.builder()
                     .encodingType(encodingType)
                     .pageOnly(isPageOnly)
                     .selectionOnly(isSelectionOnly)
@@ -167,16 +178,59 @@ public class DataExporter implements ActionListener, StateHolder {
                     .postProcessor(postProcessor)
                     .onTableRender(onTableRender)
                     .onRowExport(onRowExport)
-                    .outputStream(outputStream)
                     .bufferSize(bufferSizeTmp)
-                    .build();
-
-            exporterInstance.export(context, components, config);
+                    .prefetch(prefetchTmp);
+
+            if (isAsync) {
+                ExportTask task = exporterInstance.createAsyncTask(context, components, configBuilder.build());
+                if (task != null) {
+                    exportAsync(context, task, filenameWithExtension, contentType);
+                    return;
+                }
+
+                LOGGER.warning(() -> exporterInstance.getClass().getName() + " can't export " + tables
+                        + " asynchronously, falling back to a synchronous export; the job attribute is set to null");
+                if (job != null) {
+                    // don't leave the job of a previous export for polling
+                    job.setValue(context.getELContext(), null);
+                }
+            }
 
             if (PrimeFaces.current().isAjaxRequest()) {
-                ajaxDownload(filenameWithExtension, ((ByteArrayOutputStream) outputStream).toByteArray(), contentType, context);
+                PrimeApplicationContext applicationContext = PrimeApplicationContext.getCurrentInstance(context);
+                ajaxOutputStream = new DeferredFileOutputStream(applicationContext.getExportJobs(), filenameWithExtension,
+                        applicationContext.getConfig().getExportAjaxFileThreshold());
+                outputStream = ajaxOutputStream;
             }
             else {
+                outputStream = context.getExternalContext().getResponseOutputStream();
+                externalContext.setResponseContentType(contentType);
+                setResponseHeader(externalContext, ComponentUtils.createContentDisposition("attachment", filenameWithExtension));
+                addResponseCookie(context);
+            }
+
+            ExportConfiguration config = configBuilder.outputStream(outputStream).build();
+
+            if (ajaxOutputStream != null) {
+                try (OutputStream closedOutputStream = ajaxOutputStream) {
+                    exporterInstance.export(context, components, config);
+                }
+                catch (IOException | RuntimeException e) {
+                    if (ajaxOutputStream.getFile() != null) {
+                        Files.deleteIfExists(ajaxOutputStream.getFile());
+                    }
+                    throw e;
+                }
+
+                if (ajaxOutputStream.getFile() == null) {
+                    ajaxDownload(context, filenameWithExtension, contentType, ajaxOutputStream.toByteArray());
+                }
+                else {
+                    ajaxDownload(context, filenameWithExtension, contentType, ajaxOutputStream.getFile());
+                }
+            }
+            else {
+                exporterInstance.export(context, components, config);
                 context.responseComplete();
             }
         }
@@ -196,7 +250,27 @@ public class DataExporter implements ActionListener, StateHolder {
         return classes.iterator().next();
     }
 
-    private void ajaxDownload(String filenameWithExtension, byte[] content, String contentType, FacesContext context) {
+    /**
+     * Submits the export as {@link ExportJob}, passes the job to the <code>job</code> attribute
+     * and its id as <code>exportJobId</code> ajax callback param.
+     */
+    protected void exportAsync(FacesContext context, ExportTask task, String filenameWithExtension, String contentType) throws IOException {
+        ExportJob exportJob = PrimeApplicationContext.getCurrentInstance(context).getExportJobs()
+                .submit(context, filenameWithExtension, contentType, task);
+
+        if (job != null) {
+            job.setValue(context.getELContext(), exportJob);
+        }
+
+        if (PrimeFaces.current().isAjaxRequest()) {
+            PrimeFaces.current().ajax().addCallbackParam("exportJobId", exportJob.getId());
+        }
+    }
+
+    /**
+     * Passes the export as base64 encoded data URL to <code>PrimeFaces.download</code>.
+     */
+    protected void ajaxDownload(FacesContext context, String filenameWithExtension, String contentType, byte[] content) {
         String base64 = Base64.getEncoder().withoutPadding().encodeToString(content);
         String data = "data:" + contentType + ";base64," + base64;
 
@@ -205,6 +279,16 @@ public class DataExporter implements ActionListener, StateHolder {
                 data, contentType, filenameWithExtension, monitorKeyCookieName));
     }
 
+    /**
+     * Registers the written file as one-shot download (see {@link ExportJobHandler}) and passes its URL to <code>PrimeFaces.download</code>,
+     * so a large export is neither kept in memory nor base64 encoded into the partial response.
+     */
+    protected void ajaxDownload(FacesContext context, String filenameWithExtension, String contentType, Path file) {
+        PrimeApplicationContext.getCurrentInstance(context).getExportJobs()
+                .register(context, filenameWithExtension, contentType, file)
+                .download();
+    }
+
     protected void setResponseHeader(ExternalContext externalContext, String contentDisposition) {
         ResourceUtils.addNoCacheControl(externalContext);
         externalContext.setResponseHeader("Content-disposition", contentDisposition);
@@ -244,11 +328,14 @@ public class DataExporter implements ActionListener, StateHolder {
         onTableRender = (MethodExpression) values[12];
         onRowExport = (MethodExpression) values[13];
         bufferSize = (ValueExpression) values[14];
+        prefetch = (ValueExpression) values[15];
+        async = (ValueExpression) values[16];
+        job = (ValueExpression) values[17];
     }
 
     @Override
     public Object saveState(FacesContext context) {
-        Object[] values = new Object[16];
+        Object[] values = new Object[18];
 
         values[0] = target;
         values[1] = type;
@@ -265,6 +352,9 @@ public class DataExporter implements ActionListener, StateHolder {
         values[12] = onTableRender;
         values[13] = onRowExport;
         values[14] = bufferSize;
+        values[15] = prefetch;
+        values[16] = async;
+        values[17] = job;
 
         return (values);
     }
@@ -356,6 +446,21 @@ public class DataExporter implements ActionListener, StateHolder {
             return this;
         }
 
+        public Builder prefetch(ValueExpression prefetch) {
+            exporter.prefetch = prefetch;
+            return this;
+        }
+
+        public Builder async(ValueExpression async) {
+            exporter.async = async;
+            return this;
+        }
+
+        public Builder job(ValueExpression job) {
+            exporter.job = job;
+            return this;
+        }
+
         public DataExporter build() {
             return exporter;
         }
@@ -51,6 +51,9 @@ public class DataExporterTagHandler extends TagHandler {
     private final TagAttribute onTableRender;
     private final TagAttribute onRowExport;
     private final TagAttribute bufferSize;
+    private final TagAttribute prefetch;
+    private final TagAttribute async;
+    private final TagAttribute job;
 
     public DataExporterTagHandler(TagConfig tagConfig) {
         super(tagConfig);
@@ -69,6 +72,9 @@ public class DataExporterTagHandler extends TagHandler {
         onTableRender = getAttribute("onTableRender");
         onRowExport = getAttribute("onRowExport");
         bufferSize = getAttribute("bufferSize");
+        prefetch = getAttribute("prefetch");
+        async = getAttribute("async");
+        job = getAttribute("job");
     }
 
     @Override
@@ -93,6 +99,9 @@ public class DataExporterTagHandler extends TagHandler {
         ValueExpression exporterVE = null;
         MethodExpression onRowExportME = null;
         ValueExpression bufferSizeVE = null;
+        ValueExpression prefetchVE = null;
+        ValueExpression asyncVE = null;
+        ValueExpression jobVE = null;
 
         if (encoding != null) {
             encodingVE = encoding.getValueExpression(faceletContext, Object.class);
@@ -130,6 +139,15 @@ public class DataExporterTagHandler extends TagHandler {
         if (bufferSize != null) {
             bufferSizeVE = bufferSize.getValueExpression(faceletContext, Integer.class);
         }
+        if (prefetch != null) {
+            prefetchVE = prefetch.getValueExpression(faceletContext, Integer.class);
+        }
+        if (async != null) {
+            asyncVE = async.getValueExpression(faceletContext, Object.class);
+        }
+        if (job != null) {
+            jobVE = job.getValueExpression(faceletContext, ExportJob.class);
+        }
         ActionSource actionSource = (ActionSource) parent;
         DataExporter dataExporter = DataExporter.builder()
                     .target(targetVE)
@@ -147,6 +165,9 @@ public class DataExporterTagHandler extends TagHandler {
                     .visibleOnly(visibleOnlyVE)
                     .onRowExport(onRowExportME)
                     .bufferSize(bufferSizeVE)
+                    .prefetch(prefetchVE)
+                    .async(asyncVE)
+                    .job(jobVE)
                     .build();
         actionSource.addActionListener(dataExporter);
     }
@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Keeps the written bytes in memory and moves them into a temp file (see {@link ExportJobs#createTempFile(String)}),
+ * as soon as they exceed the threshold.
+ */
+public class DeferredFileOutputStream extends OutputStream {
+
+    private final ExportJobs exportJobs;
+    private final String fileName;
+    private final int threshold;
+    private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+    private OutputStream out = memory;
+    private Path file;
+
+    /**
+     * @param threshold the maximum number of bytes kept in memory, negative to never write a file
+     */
+    public DeferredFileOutputStream(ExportJobs exportJobs, String fileName, int threshold) {
+        this.exportJobs = exportJobs;
+        this.fileName = fileName;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        checkThreshold(1);
+        out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        checkThreshold(len);
+        out.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    protected void checkThreshold(int len) throws IOException {
+        if (file != null || threshold < 0 || memory.size() + len <= threshold) {
+            return;
+        }
+
+        file = exportJobs.createTempFile(fileName);
+        out = new BufferedOutputStream(Files.newOutputStream(file));
+        memory.writeTo(out);
+        memory = null;
+    }
+
+    /**
+     * @return the temp file or <code>null</code>, if the bytes are kept in memory
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return the bytes kept in memory, see {@link #getFile()}
+     */
+    public byte[] toByteArray() {
+        return memory.toByteArray();
+    }
+}
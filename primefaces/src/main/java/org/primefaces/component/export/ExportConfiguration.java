@@ -42,6 +42,7 @@ public class ExportConfiguration {
     private MethodExpression onRowExport;
     private OutputStream outputStream;
     private Integer bufferSize;
+    private Integer prefetch;
 
     public ExportConfiguration() {
         // NOOP
@@ -124,6 +125,11 @@ public class ExportConfiguration {
             return this;
         }
 
+        public Builder prefetch(Integer prefetch) {
+            this.config.prefetch = prefetch;
+            return this;
+        }
+
         public ExportConfiguration build() {
             return config;
         }
@@ -145,6 +151,7 @@ public class ExportConfiguration {
                 ", onRowExport=" + onRowExport +
                 ", outputStream=" + outputStream +
                 ", bufferSize=" + bufferSize +
+                ", prefetch=" + prefetch +
                 '}';
     }
 
@@ -199,4 +206,8 @@ public class ExportConfiguration {
     public Integer getBufferSize() {
         return bufferSize;
     }
+
+    public Integer getPrefetch() {
+        return prefetch;
+    }
 }
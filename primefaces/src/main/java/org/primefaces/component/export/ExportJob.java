@@ -0,0 +1,286 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import org.primefaces.PrimeFaces;
+import org.primefaces.application.resource.DynamicContentType;
+import org.primefaces.util.Constants;
+import org.primefaces.util.ResourceUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.faces.application.Resource;
+import jakarta.faces.context.FacesContext;
+
+/**
+ * An export which is written into a temp file, either in the background via {@link ExportJobs#submit}
+ * or within the request via {@link ExportJobs#register}.
+ * The finished file is served once by the {@link ExportJobHandler} and deleted afterwards.
+ */
+public class ExportJob {
+
+    private static final Logger LOGGER = Logger.getLogger(ExportJob.class.getName());
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        DONE,
+        FAILED,
+        CANCELLED
+    }
+
+    private final String id;
+    private volatile String owner;
+    private final String fileName;
+    private final String contentType;
+    private final Path file;
+    private final AtomicLong rowsWritten;
+    private volatile long totalRows;
+    private volatile Status status;
+    private volatile Throwable error;
+    private volatile Future<?> future;
+    private volatile long lastAccess;
+    private volatile long finished;
+
+    public ExportJob(String owner, String fileName, String contentType, Path file) {
+        this.id = UUID.randomUUID().toString();
+        this.owner = owner;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.file = file;
+        this.rowsWritten = new AtomicLong();
+        this.totalRows = -1;
+        this.status = Status.QUEUED;
+        this.lastAccess = System.currentTimeMillis();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return the cause, if the job {@link Status#FAILED}
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten.get();
+    }
+
+    /**
+     * @return the total number of rows to export or <code>-1</code>, if it's not known yet
+     */
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    /**
+     * Reports exported rows, to be called by the {@link ExportTask}.
+     */
+    public void addRowsWritten(long rows) {
+        rowsWritten.addAndGet(rows);
+    }
+
+    /**
+     * @return the progress in percent, <code>100</code> only once the file is completely written
+     */
+    public int getProgress() {
+        if (status == Status.DONE) {
+            return 100;
+        }
+
+        long total = totalRows;
+        if (total <= 0) {
+            return 0;
+        }
+        return (int) Math.min(99, rowsWritten.get() * 100 / total);
+    }
+
+    public boolean isDone() {
+        return status == Status.DONE;
+    }
+
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    /**
+     * Cancels the job, interrupts the running export and deletes the file.
+     */
+    public void cancel() {
+        synchronized (this) {
+            if (status == Status.FAILED || status == Status.CANCELLED) {
+                return;
+            }
+            status = Status.CANCELLED;
+            finished = System.currentTimeMillis();
+        }
+
+        Future<?> f = future;
+        if (f != null) {
+            f.cancel(true);
+        }
+        deleteFile();
+    }
+
+    /**
+     * Creates the URL which serves the finished file once via the {@link ExportJobHandler}.
+     */
+    public String getDownloadURL(FacesContext context) {
+        // just a dummy file for streaming, like for StreamedContent
+        Resource resource = context.getApplication().getResourceHandler().createResource(
+                "dynamiccontent.properties", Constants.LIBRARY, "text/plain");
+
+        String url = resource.getRequestPath()
+                + "&" + Constants.DYNAMIC_CONTENT_PARAM + "=" + id
+                + "&" + Constants.DYNAMIC_CONTENT_TYPE_PARAM + "=" + DynamicContentType.EXPORT;
+        return ResourceUtils.encodeResourceURL(context, url, false);
+    }
+
+    /**
+     * Starts the download of the finished file in the browser, via <code>PrimeFaces.download</code>.
+     *
+     * @throws IllegalStateException if the job is not {@link Status#DONE}
+     */
+    public void download() {
+        if (!isDone()) {
+            throw new IllegalStateException("Export job " + id + " is " + status);
+        }
+
+        FacesContext context = FacesContext.getCurrentInstance();
+        String monitorKeyCookieName = ResourceUtils.getMonitorKeyCookieName(context, null);
+        PrimeFaces.current().executeScript(String.format("PrimeFaces.download('%s', '%s', '%s', '%s')",
+                getDownloadURL(context), contentType, fileName, monitorKeyCookieName));
+    }
+
+    /**
+     * Sends the state of the job as ajax callback params (<code>exportJobStatus</code>, <code>exportJobRowsWritten</code>,
+     * <code>exportJobTotalRows</code>, <code>exportJobProgress</code>) and starts the download once the job is done.
+     * Meant to be called by the listener of a <code>p:poll</code>.
+     */
+    public void poll() {
+        lastAccess = System.currentTimeMillis();
+
+        PrimeFaces.Ajax ajax = PrimeFaces.current().ajax();
+        ajax.addCallbackParam("exportJobStatus", status.name());
+        ajax.addCallbackParam("exportJobRowsWritten", getRowsWritten());
+        ajax.addCallbackParam("exportJobTotalRows", totalRows);
+        ajax.addCallbackParam("exportJobProgress", getProgress());
+
+        if (isDone()) {
+            download();
+        }
+    }
+
+    void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    long getLastAccess() {
+        return lastAccess;
+    }
+
+    void touch() {
+        lastAccess = System.currentTimeMillis();
+    }
+
+    long getFinished() {
+        return finished;
+    }
+
+    synchronized boolean start() {
+        if (status != Status.QUEUED) {
+            return false;
+        }
+        status = Status.RUNNING;
+        return true;
+    }
+
+    synchronized void complete() {
+        if (status == Status.QUEUED || status == Status.RUNNING) {
+            status = Status.DONE;
+            finished = System.currentTimeMillis();
+        }
+    }
+
+    synchronized void fail(Throwable error) {
+        if (status == Status.QUEUED || status == Status.RUNNING) {
+            this.error = error;
+            status = Status.FAILED;
+            finished = System.currentTimeMillis();
+        }
+    }
+
+    void deleteFile() {
+        try {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Could not delete export file " + file);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ExportJob{id=" + id + ", fileName=" + fileName + ", status=" + status
+                + ", rowsWritten=" + rowsWritten + ", totalRows=" + totalRows + "}";
+    }
+}
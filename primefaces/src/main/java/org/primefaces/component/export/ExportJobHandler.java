@@ -0,0 +1,77 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import org.primefaces.application.resource.BaseDynamicContentHandler;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.util.ComponentUtils;
+import org.primefaces.util.Constants;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+
+import jakarta.faces.context.ExternalContext;
+import jakarta.faces.context.FacesContext;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Serves the file of a finished {@link ExportJob} of the current session once and deletes it afterwards.
+ */
+public class ExportJobHandler extends BaseDynamicContentHandler {
+
+    @Override
+    public void handle(FacesContext context) throws IOException {
+        Map<String, String> params = context.getExternalContext().getRequestParameterMap();
+        String library = params.get("ln");
+        String jobId = params.get(Constants.DYNAMIC_CONTENT_PARAM);
+
+        if (jobId != null && Constants.LIBRARY.equals(library)) {
+            ExternalContext externalContext = context.getExternalContext();
+            ExportJob job = PrimeApplicationContext.getCurrentInstance(context).getExportJobs().take(context, jobId);
+
+            if (job == null) {
+                sendNotFound(externalContext);
+            }
+            else {
+                try {
+                    externalContext.setResponseStatus(HttpServletResponse.SC_OK);
+                    externalContext.setResponseContentType(job.getContentType());
+                    externalContext.setResponseHeader("Content-Length", String.valueOf(Files.size(job.getFile())));
+                    externalContext.setResponseHeader("Content-Disposition",
+                            ComponentUtils.createContentDisposition("attachment", job.getFileName()));
+                    handleCache(externalContext, false);
+
+                    Files.copy(job.getFile(), externalContext.getResponseOutputStream());
+                    externalContext.responseFlushBuffer();
+                }
+                finally {
+                    job.deleteFile();
+                }
+            }
+
+            context.responseComplete();
+        }
+    }
+}
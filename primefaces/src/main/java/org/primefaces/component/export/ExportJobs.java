@@ -0,0 +1,355 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import org.primefaces.util.LangUtils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Application wide registry of the {@link ExportJob}s and their temp files.
+ * Background exports are run on the async executor, but only <code>maxConcurrentJobs</code> at the same time;
+ * further jobs stay {@link ExportJob.Status#QUEUED} in the registry and are only passed to the executor once a running one is finished,
+ * so queued jobs don't occupy executor threads.
+ * Files which were not downloaded and jobs which were not polled within the timeout are considered abandoned,
+ * they are cancelled and deleted by a periodic sweep. The jobs of a session are removed once the session is destroyed,
+ * see {@link #removeAll(String)}.
+ */
+public class ExportJobs {
+
+    private static final Logger LOGGER = Logger.getLogger(ExportJobs.class.getName());
+
+    private static final String TEMP_FILE_PREFIX = "primefaces-export-";
+
+    private static final long MIN_SWEEP_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+
+    private final Map<String, ExportJob> jobs;
+    private final ExecutorService executor;
+    private final int maxConcurrentJobs;
+    private final long timeout;
+    private final Deque<QueuedJob> queue;
+    private int running;
+    private ScheduledExecutorService sweeper;
+
+    /**
+     * @param executor the executor running the exports
+     * @param maxConcurrentJobs the maximum number of exports running at the same time
+     * @param timeout the timeout in seconds after which not downloaded or not polled jobs are deleted
+     */
+    public ExportJobs(ExecutorService executor, int maxConcurrentJobs, int timeout) {
+        this.jobs = new ConcurrentHashMap<>();
+        this.executor = executor;
+        this.maxConcurrentJobs = Math.max(1, maxConcurrentJobs);
+        this.timeout = TimeUnit.SECONDS.toMillis(timeout);
+        this.queue = new ArrayDeque<>();
+    }
+
+    /**
+     * Queues the export and returns immediately.
+     *
+     * @param context the current context, used to bind the job to the current session
+     * @param fileName the file name of the download, including the extension
+     * @param contentType the content type of the download
+     * @param task the export
+     * @return the queued job
+     * @throws IOException if the temp file can't be created
+     * @throws RejectedExecutionException if the executor doesn't accept the job
+     */
+    public ExportJob submit(FacesContext context, String fileName, String contentType, ExportTask task) throws IOException {
+        ExportJob job = new ExportJob(getOwner(context), fileName, contentType, createTempFile(fileName));
+        add(job);
+
+        synchronized (this) {
+            queue.add(new QueuedJob(job, task));
+        }
+
+        try {
+            dispatch();
+        }
+        catch (RejectedExecutionException e) {
+            remove(job);
+            throw e;
+        }
+
+        return job;
+    }
+
+    /**
+     * Registers an export which was already written within the current request to a file created by {@link #createTempFile(String)}.
+     *
+     * @return the finished job
+     */
+    public ExportJob register(FacesContext context, String fileName, String contentType, Path file) {
+        ExportJob job = new ExportJob(getOwner(context), fileName, contentType, file);
+        job.complete();
+        add(job);
+        return job;
+    }
+
+    /**
+     * Creates an empty temp file for an export.
+     */
+    public Path createTempFile(String fileName) throws IOException {
+        String extension = null;
+        int dot = fileName == null ? -1 : fileName.lastIndexOf('.');
+        if (dot >= 0) {
+            extension = fileName.substring(dot);
+        }
+        return Files.createTempFile(TEMP_FILE_PREFIX, extension);
+    }
+
+    /**
+     * @return the job of the current session or <code>null</code>
+     */
+    public ExportJob get(FacesContext context, String id) {
+        if (LangUtils.isBlank(id)) {
+            return null;
+        }
+
+        ExportJob job = jobs.get(id);
+        if (job == null || !job.getOwner().equals(getOwner(context))) {
+            return null;
+        }
+
+        job.touch();
+        return job;
+    }
+
+    /**
+     * Removes the finished job of the current session from the registry, so its file is served only once.
+     * The caller is responsible to delete the file afterwards.
+     *
+     * @return the job or <code>null</code>, if no finished job exists for the id
+     */
+    public ExportJob take(FacesContext context, String id) {
+        ExportJob job = get(context, id);
+        if (job == null || !job.isDone() || !jobs.remove(id, job)) {
+            return null;
+        }
+        return job;
+    }
+
+    /**
+     * Cancels the job, if still running, and deletes its file.
+     */
+    public void remove(ExportJob job) {
+        jobs.remove(job.getId(), job);
+        job.cancel();
+        job.deleteFile();
+    }
+
+    /**
+     * Removes abandoned jobs: finished jobs which were not downloaded and running jobs which were not polled within the timeout.
+     */
+    public void sweep() {
+        long expired = System.currentTimeMillis() - timeout;
+
+        Iterator<ExportJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            ExportJob job = iterator.next();
+            boolean abandoned = job.isFinished()
+                    ? job.getFinished() < expired && job.getLastAccess() < expired
+                    : job.getLastAccess() < expired;
+            if (abandoned) {
+                iterator.remove();
+                LOGGER.fine(() -> "Removing abandoned " + job);
+                job.cancel();
+                job.deleteFile();
+            }
+        }
+    }
+
+    /**
+     * Removes all jobs of the given owner, e.g. when the session is destroyed.
+     *
+     * @param owner the session id
+     */
+    public void removeAll(String owner) {
+        for (ExportJob job : jobs.values()) {
+            if (job.getOwner().equals(owner)) {
+                remove(job);
+            }
+        }
+    }
+
+    /**
+     * Moves the jobs to the new owner, as the session id changes e.g. on login (session fixation protection).
+     *
+     * @param oldOwner the previous session id
+     * @param newOwner the new session id
+     */
+    public void changeOwner(String oldOwner, String newOwner) {
+        for (ExportJob job : jobs.values()) {
+            if (job.getOwner().equals(oldOwner)) {
+                job.setOwner(newOwner);
+            }
+        }
+    }
+
+    /**
+     * Cancels all jobs and deletes their files, e.g. on undeploy.
+     */
+    public void release() {
+        synchronized (this) {
+            queue.clear();
+            if (sweeper != null) {
+                sweeper.shutdownNow();
+                sweeper = null;
+            }
+        }
+
+        for (ExportJob job : jobs.values()) {
+            job.cancel();
+            job.deleteFile();
+        }
+        jobs.clear();
+    }
+
+    protected void add(ExportJob job) {
+        jobs.put(job.getId(), job);
+
+        synchronized (this) {
+            if (sweeper == null) {
+                // started with the first job, so applications without exports don't get an additional thread
+                sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "primefaces-export-sweeper");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                long interval = Math.max(MIN_SWEEP_INTERVAL, timeout / 2);
+                sweeper.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Passes queued jobs to the executor, as long as less than <code>maxConcurrentJobs</code> are running.
+     */
+    protected synchronized void dispatch() {
+        while (running < maxConcurrentJobs && !queue.isEmpty()) {
+            QueuedJob queued = queue.poll();
+            if (queued.job.isFinished()) {
+                // cancelled while queued
+                continue;
+            }
+
+            // done() is also invoked if the job is cancelled before it was started by the executor
+            FutureTask<Void> future = new FutureTask<Void>(() -> run(queued.job, queued.task), null) {
+                @Override
+                protected void done() {
+                    finished();
+                }
+            };
+
+            running++;
+            try {
+                queued.job.setFuture(future);
+                executor.execute(future);
+            }
+            catch (RejectedExecutionException e) {
+                running--;
+                queued.job.fail(e);
+                queued.job.deleteFile();
+                throw e;
+            }
+        }
+    }
+
+    protected void run(ExportJob job, ExportTask task) {
+        try {
+            if (!job.start()) {
+                // cancelled while queued
+                return;
+            }
+
+            try (OutputStream os = Files.newOutputStream(job.getFile())) {
+                task.export(os, job);
+            }
+
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Export job " + job.getId() + " was interrupted");
+            }
+            job.complete();
+        }
+        catch (Exception e) {
+            if (job.getStatus() != ExportJob.Status.CANCELLED) {
+                LOGGER.log(Level.SEVERE, e, () -> "Export job " + job.getId() + " failed");
+            }
+            job.fail(e);
+        }
+        finally {
+            if (!job.isDone()) {
+                // keep the failed job to report it, but not its file
+                job.deleteFile();
+            }
+        }
+    }
+
+    protected void finished() {
+        synchronized (this) {
+            running--;
+        }
+
+        try {
+            dispatch();
+        }
+        catch (RejectedExecutionException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Could not start queued export jobs");
+        }
+    }
+
+    protected String getOwner(FacesContext context) {
+        return context.getExternalContext().getSessionId(true);
+    }
+
+    private static final class QueuedJob {
+
+        private final ExportJob job;
+        private final ExportTask task;
+
+        private QueuedJob(ExportJob job, ExportTask task) {
+            this.job = job;
+            this.task = task;
+        }
+    }
+}
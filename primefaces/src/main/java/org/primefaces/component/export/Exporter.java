@@ -32,6 +32,17 @@ public interface Exporter<T> {
 
     void export(FacesContext facesContext, List<T> component, ExportConfiguration exportConfiguration) throws IOException;
 
+    /**
+     * Creates a task which exports the components outside of the current request, see {@link ExportJobs#submit}.
+     * Everything the export requires from the components must be captured by this method.
+     *
+     * @return the task or <code>null</code>, if the exporter or the components don't support asynchronous exports;
+     *         the {@link DataExporter} falls back to the synchronous export then
+     */
+    default ExportTask createAsyncTask(FacesContext facesContext, List<T> component, ExportConfiguration exportConfiguration) {
+        return null;
+    }
+
     /**
      * Content-type (MIME-type) excluding charset. (eg 'application/vnd.openxmlformats-officedocument.spreadsheetml.sheet')
      */
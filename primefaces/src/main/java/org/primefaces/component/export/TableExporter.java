@@ -85,6 +85,8 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
     // Because more than 1 table can be exported we cache each one for performance
     private final Map<T, List<UIColumn>> exportableColumnsCache = new HashMap<>();
 
+    private final Map<T, ColumnValueAccessor[]> columnValueAccessorsCache = new HashMap<>();
+
     private final O defaultOptions;
 
     private final Set<FacetType> supportedFacetTypes;
@@ -236,9 +238,52 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
     }
 
     protected void addCells(FacesContext context, T table) {
-        addRow(context, table, (col, i) ->
-                exportCellValue(context, table, col, getColumnValue(context, table, col, cellJoinComponents), i)
-        );
+        ColumnValueAccessor[] accessors = getColumnValueAccessors(context, table);
+        Object rowData = context.getExternalContext().getRequestMap().get(table.getVar());
+
+        addRow(context, table, (col, i) -> {
+            ColumnValue columnValue = accessors[i] == null ? null : accessors[i].getValue(context, rowData);
+            if (columnValue == null) {
+                columnValue = getColumnValue(context, table, col, cellJoinComponents);
+            }
+            exportCellValue(context, table, col, columnValue, i);
+        });
+    }
+
+    /**
+     * Detects once per export which exportable columns can be read directly from the row data, see {@link ColumnValueAccessor}.
+     *
+     * @param table the table
+     * @return the accessors by index of {@link #getExportableColumns(UIComponent)}, <code>null</code> for columns which require EL
+     */
+    protected ColumnValueAccessor[] getColumnValueAccessors(FacesContext context, T table) {
+        ColumnValueAccessor[] accessors = columnValueAccessorsCache.get(table);
+        if (accessors == null) {
+            List<UIColumn> columns = getExportableColumns(table);
+            accessors = new ColumnValueAccessor[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                UIColumn column = columns.get(i);
+                if (column instanceof DynamicColumn) {
+                    ((DynamicColumn) column).applyStatelessModel();
+                }
+                accessors[i] = ColumnValueAccessor.of(context, table, column);
+            }
+            columnValueAccessorsCache.put(table, accessors);
+        }
+        return accessors;
+    }
+
+    /**
+     * @return if all exportable columns can be read directly from the row data, so the rows don't need to be
+     *         positioned via <code>setRowIndex</code>, which saves and restores the state of the child components
+     */
+    protected boolean isColumnValueAccessorsOnly(FacesContext context, T table) {
+        for (ColumnValueAccessor accessor : getColumnValueAccessors(context, table)) {
+            if (accessor == null || accessor.isRowIndexRequired()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     protected void exportTabletFacetValue(FacesContext context, T table, String textValue) {
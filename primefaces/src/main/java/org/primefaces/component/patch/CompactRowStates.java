@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.patch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact view state form of the row states of {@link UIDataPatch}.
+ * Instead of a map keyed by the full client IDs of all rows and their descendants,
+ * the rows are stored by their suffix (row index or row key) and the descendants relative to their row:
+ * <pre>
+ * { rowSuffix, { relativeClientId, state, relativeClientId, state, ... }, rowSuffix, { ... }, ... }
+ * </pre>
+ * Rows without any descendant state are skipped, as they are restored from the initial state anyway.
+ */
+final class CompactRowStates {
+
+    private CompactRowStates() {
+        // NOOP
+    }
+
+    /**
+     * @param baseClientId the client ID of the iterating component without row index
+     * @param separator the naming container separator
+     * @param rowStates the row states keyed by the container client ID of the row
+     * @return the compact form or <code>null</code> if a client ID doesn't belong to the given base client ID,
+     * e.g. if the component is nested in another iterating component
+     */
+    static Object[] compact(String baseClientId, char separator, Map<String, Object> rowStates) {
+        String rowPrefix = baseClientId + separator;
+
+        int rows = 0;
+        Object[] compact = new Object[rowStates.size() * 2];
+        for (Map.Entry<String, Object> row : rowStates.entrySet()) {
+            String rowClientId = row.getKey();
+            if (!rowClientId.startsWith(rowPrefix) || !(row.getValue() instanceof Map)) {
+                return null;
+            }
+
+            Object[] descendants = compactDescendants(rowClientId + separator, (Map<String, Object>) row.getValue());
+            if (descendants == null) {
+                return null;
+            }
+            if (descendants.length == 0) {
+                continue;
+            }
+
+            compact[rows++] = rowClientId.substring(rowPrefix.length());
+            compact[rows++] = descendants;
+        }
+
+        if (rows < compact.length) {
+            Object[] trimmed = new Object[rows];
+            System.arraycopy(compact, 0, trimmed, 0, rows);
+            return trimmed;
+        }
+        return compact;
+    }
+
+    private static Object[] compactDescendants(String descendantPrefix, Map<String, Object> states) {
+        int size = 0;
+        Object[] compact = new Object[states.size() * 2];
+        for (Map.Entry<String, Object> state : states.entrySet()) {
+            if (state.getValue() == null) {
+                continue;
+            }
+            if (!state.getKey().startsWith(descendantPrefix)) {
+                return null;
+            }
+
+            compact[size++] = state.getKey().substring(descendantPrefix.length());
+            compact[size++] = state.getValue();
+        }
+
+        if (size < compact.length) {
+            Object[] trimmed = new Object[size];
+            System.arraycopy(compact, 0, trimmed, 0, size);
+            return trimmed;
+        }
+        return compact;
+    }
+
+    /**
+     * Restores the row states from their compact form, see {@link #compact(String, char, Map)}.
+     */
+    static Map<String, Object> expand(String baseClientId, char separator, Object[] compact) {
+        Map<String, Object> rowStates = new HashMap<>(compact.length);
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < compact.length; i += 2) {
+            sb.setLength(0);
+            String rowClientId = sb.append(baseClientId).append(separator).append((String) compact[i]).toString();
+
+            Object[] descendants = (Object[]) compact[i + 1];
+            Map<String, Object> states = new HashMap<>(descendants.length);
+            for (int j = 0; j < descendants.length; j += 2) {
+                sb.setLength(0);
+                states.put(sb.append(rowClientId).append(separator).append((String) descendants[j]).toString(), descendants[j + 1]);
+            }
+
+            rowStates.put(rowClientId, states);
+        }
+
+        return rowStates;
+    }
+}
@@ -27,7 +27,9 @@ import org.primefaces.util.ComponentTraversalUtils;
 import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.SharedStringBuilder;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -319,6 +321,11 @@ public abstract class UIDataPatch extends UIData {
             {
                 _rowDeltaStates.put(getContainerClientId(facesContext), sm);
             }
+            else
+            {
+                // the row is back to its initial state, no need to keep the previous delta
+                _rowDeltaStates.remove(getContainerClientId(facesContext));
+            }
             if (getRowIndex() != -1)
             {
                 _rowTransientStates.put(getContainerClientId(facesContext), saveTransientDescendantComponentStates(facesContext, null, getChildren().iterator(), false));
@@ -1199,7 +1206,9 @@ public abstract class UIDataPatch extends UIData {
         
         Object values[] = (Object[]) state;
         super.restoreState(context, values[0]);
-        Object restoredRowStates = UIComponentBase.restoreAttachedState(context, values[1]);
+        Object restoredRowStates = values.length > 2 && values[2] != null
+                ? CompactRowStates.expand(getClientId(context), UINamingContainer.getSeparatorChar(context), (Object[]) values[2])
+                : UIComponentBase.restoreAttachedState(context, values[1]);
         if (restoredRowStates == null)
         {
             if (!_rowDeltaStates.isEmpty())
@@ -1256,20 +1265,71 @@ public abstract class UIDataPatch extends UIData {
             }
             else {
                 Object values[] = null;
-                Object attachedState = UIComponentBase.saveAttachedState(context, _rowDeltaStates);
-                if (superState != null || attachedState != null) {
-                    values = new Object[] { superState, attachedState };
+                Object[] rowStates = saveRowDeltaStates(context);
+                if (superState != null || rowStates[0] != null || rowStates[1] != null) {
+                    values = new Object[] { superState, rowStates[0], rowStates[1] };
                 }
                 return values; 
             }
         } else {
-            Object values[] = new Object[2];
+            Object[] rowStates = saveRowDeltaStates(context);
+            Object values[] = new Object[3];
             values[0] = super.saveState(context);
-            values[1] = UIComponentBase.saveAttachedState(context, _rowDeltaStates);
+            values[1] = rowStates[0];
+            values[2] = rowStates[1];
             return values;
         }
     }
 
+    /**
+     * Saves the row states in their compact form, see {@link CompactRowStates}.
+     * If the row states can't be compacted, they are saved keyed by their full client IDs.
+     *
+     * @return the full state at index 0 or the compact state at index 1, both <code>null</code> if there are no row states to save
+     */
+    protected Object[] saveRowDeltaStates(FacesContext context) {
+        if (_rowDeltaStates.isEmpty()) {
+            return new Object[2];
+        }
+
+        Object[] compact = CompactRowStates.compact(getClientId(context), UINamingContainer.getSeparatorChar(context), _rowDeltaStates);
+        if (compact == null) {
+            return new Object[] { UIComponentBase.saveAttachedState(context, _rowDeltaStates), null };
+        }
+        return new Object[] { null, compact.length == 0 ? null : compact };
+    }
+
+    /**
+     * @return the number of rows with a state different from the initial state of the row components
+     */
+    public int getRowStateCount() {
+        return _rowDeltaStates.size();
+    }
+
+    /**
+     * Calculates the serialized size of the row states, as they are saved into the view state.
+     * As this requires a serialization of the states, it should only be used for diagnostics.
+     *
+     * @param context the {@link FacesContext}
+     * @return the size in bytes
+     */
+    public int getRowStateSize(FacesContext context) {
+        Object[] rowStates = saveRowDeltaStates(context);
+        Object state = rowStates[0] == null ? rowStates[1] : rowStates[0];
+        if (state == null) {
+            return 0;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(state);
+        }
+        catch (IOException e) {
+            throw new FacesException("Could not serialize the row states of " + getClientId(context), e);
+        }
+        return bytes.size();
+    }
+
     // --------------------------------------------------------- Protected Methods
 
 
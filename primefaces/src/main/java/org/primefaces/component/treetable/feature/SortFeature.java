@@ -36,7 +36,6 @@ import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.SortTableComparator;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -139,7 +138,7 @@ public class SortFeature implements TreeTableFeature {
 
         if (children != null && !children.isEmpty()) {
             Object[] childrenArray = children.toArray();
-            Arrays.sort(childrenArray, SortTableComparator.comparingTreeNodeSortByVE(context, table));
+            SortTableComparator.sortByTreeNodeSortByVE(context, table, childrenArray);
             for (int i = 0; i < childrenArray.length; i++) {
                 children.set(i, (TreeNode) childrenArray[i]);
             }
@@ -59,6 +59,11 @@ public class PrimeConfiguration {
     private String cspReportOnlyPolicy;
     private String[] exceptionTypesToIgnoreInLogging;
     private final String multiViewStateStore;
+    private final int multiViewStateMaxEntries;
+    private final int multiViewStateMaxWindows;
+    private final int exportAjaxFileThreshold;
+    private final int exportMaxConcurrentJobs;
+    private final int exportJobTimeout;
     private final boolean markInputAsInvalidOnErrorMsg;
     private int dynamicContentLimit;
 
@@ -164,6 +169,21 @@ public class PrimeConfiguration {
 
         multiViewStateStore = externalContext.getInitParameter(Constants.ContextParams.MULTI_VIEW_STATE_STORE);
 
+        value = externalContext.getInitParameter(Constants.ContextParams.MULTI_VIEW_STATE_MAX_ENTRIES);
+        multiViewStateMaxEntries = Integer.parseInt(Objects.toString(value, "100"));
+
+        value = externalContext.getInitParameter(Constants.ContextParams.MULTI_VIEW_STATE_MAX_WINDOWS);
+        multiViewStateMaxWindows = Integer.parseInt(Objects.toString(value, "10"));
+
+        value = externalContext.getInitParameter(Constants.ContextParams.EXPORT_AJAX_FILE_THRESHOLD);
+        exportAjaxFileThreshold = Integer.parseInt(Objects.toString(value, "1048576"));
+
+        value = externalContext.getInitParameter(Constants.ContextParams.EXPORT_MAX_CONCURRENT_JOBS);
+        exportMaxConcurrentJobs = Integer.parseInt(Objects.toString(value, "2"));
+
+        value = externalContext.getInitParameter(Constants.ContextParams.EXPORT_JOB_TIMEOUT);
+        exportJobTimeout = Integer.parseInt(Objects.toString(value, "600"));
+
         value = externalContext.getInitParameter(Constants.ContextParams.MARK_INPUT_AS_INVALID_ON_ERROR_MSG);
         markInputAsInvalidOnErrorMsg = Boolean.parseBoolean(value);
 
@@ -294,6 +314,26 @@ public class PrimeConfiguration {
         return multiViewStateStore;
     }
 
+    public int getMultiViewStateMaxEntries() {
+        return multiViewStateMaxEntries;
+    }
+
+    public int getMultiViewStateMaxWindows() {
+        return multiViewStateMaxWindows;
+    }
+
+    public int getExportAjaxFileThreshold() {
+        return exportAjaxFileThreshold;
+    }
+
+    public int getExportMaxConcurrentJobs() {
+        return exportMaxConcurrentJobs;
+    }
+
+    public int getExportJobTimeout() {
+        return exportJobTimeout;
+    }
+
     public boolean isMarkInputAsInvalidOnErrorMsg() {
         return markInputAsInvalidOnErrorMsg;
     }
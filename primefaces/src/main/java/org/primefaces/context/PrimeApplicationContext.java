@@ -32,6 +32,7 @@ import org.primefaces.component.datatable.export.DataTableExcelXExporter;
 import org.primefaces.component.datatable.export.DataTableExcelXStreamExporter;
 import org.primefaces.component.datatable.export.DataTablePDFExporter;
 import org.primefaces.component.datatable.export.DataTableXMLExporter;
+import org.primefaces.component.export.ExportJobs;
 import org.primefaces.component.export.Exporter;
 import org.primefaces.component.fileupload.FileUploadDecoder;
 import org.primefaces.component.treetable.TreeTable;
@@ -44,6 +45,10 @@ import org.primefaces.component.treetable.export.TreeTableXMLExporter;
 import org.primefaces.config.PrimeConfiguration;
 import org.primefaces.config.PrimeEnvironment;
 import org.primefaces.metadata.transformer.MetadataTransformer;
+import org.primefaces.multiviewstate.CacheProviderMultiViewStateStore;
+import org.primefaces.multiviewstate.ClientWindowMultiViewStateStore;
+import org.primefaces.multiviewstate.MultiViewStateStore;
+import org.primefaces.multiviewstate.SessionMultiViewStateStore;
 import org.primefaces.util.Constants;
 import org.primefaces.util.LangUtils;
 import org.primefaces.util.Lazy;
@@ -64,6 +69,11 @@ import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -106,6 +116,9 @@ public class PrimeApplicationContext {
     private final Lazy<Validator> validator;
     private final Lazy<CacheProvider> cacheProvider;
     private final Lazy<VirusScannerService> virusScannerService;
+    private final Lazy<ExecutorService> asyncExecutor;
+    private final Lazy<MultiViewStateStore> multiViewStateStore;
+    private final Lazy<ExportJobs> exportJobs;
     private FileTypeDetector fileTypeDetector;
     private FileUploadDecoder fileUploadDecoder;
     private String fileUploadResumeUrl;
@@ -161,6 +174,8 @@ public class PrimeApplicationContext {
 
         virusScannerService = new Lazy<>(() -> new VirusScannerService(applicationClassLoader));
 
+        asyncExecutor = new Lazy<>(() -> createAsyncExecutor(config.getExportMaxConcurrentJobs()));
+
         cacheProvider = new Lazy<>(() -> {
             String cacheProviderConfigValue = FacesContext.getCurrentInstance().getExternalContext()
                     .getInitParameter(Constants.ContextParams.CACHE_PROVIDER);
@@ -178,6 +193,10 @@ public class PrimeApplicationContext {
             }
         });
 
+        multiViewStateStore = new Lazy<>(this::createMultiViewStateStore);
+
+        exportJobs = new Lazy<>(() -> new ExportJobs(getAsyncExecutor(), config.getExportMaxConcurrentJobs(), config.getExportJobTimeout()));
+
         resolveFileUploadDecoder();
 
         resolveFileUploadResumeUrl(facesContext);
@@ -189,6 +208,28 @@ public class PrimeApplicationContext {
         resolvePropertyDescriptorResolver();
     }
 
+    private MultiViewStateStore createMultiViewStateStore() {
+        String store = config.getMultiViewStateStore();
+        int maxEntries = config.getMultiViewStateMaxEntries();
+        if (LangUtils.isBlank(store) || "session".equals(store)) {
+            return new SessionMultiViewStateStore(maxEntries);
+        }
+        else if ("client-window".equals(store)) {
+            return new ClientWindowMultiViewStateStore(maxEntries, config.getMultiViewStateMaxWindows());
+        }
+        else if ("cache".equals(store)) {
+            return new CacheProviderMultiViewStateStore(maxEntries, this::getCacheProvider);
+        }
+
+        try {
+            Class<? extends MultiViewStateStore> storeClazz = LangUtils.loadClassForName(store);
+            return storeClazz.getConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException | IllegalArgumentException ex) {
+            throw new FacesException(ex);
+        }
+    }
+
     private void registerDefaultExporters() {
         MapBuilder.builder(exporters)
                 .put(DataTable.class, MapBuilder.<String, Class<? extends Exporter<?>>>builder()
@@ -264,6 +305,33 @@ public class PrimeApplicationContext {
                 .orElseThrow(() -> new FacesException("FileUploaderDecoder '" + finalUploader + "' not found"));
     }
 
+    private static ExecutorService createAsyncExecutor(int maxConcurrentExportJobs) {
+        try {
+            // virtual threads are only available since Java 21, so we must lookup it reflectively
+            Method newVirtualThreadPerTaskExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+        }
+        catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            LOGGER.fine(() -> "Virtual threads not available, falling back to a bounded thread pool for async operations");
+            // export jobs wait for the pages they prefetch on the same executor, so there must be more threads than jobs
+            return createBoundedExecutor(Math.max(Runtime.getRuntime().availableProcessors() * 2, maxConcurrentExportJobs + 1));
+        }
+    }
+
+    /**
+     * Creates a pool of platform threads, which queues counts, prefetches and export jobs once all threads are busy
+     * instead of starting a new thread for each of them.
+     */
+    protected static ExecutorService createBoundedExecutor(int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "primefaces-async");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     private void resolvePropertyDescriptorResolver() {
         propertyDescriptorResolver = ServiceLoader.load(PropertyDescriptorResolver.class, applicationClassLoader).stream()
                 .findFirst()
@@ -331,6 +399,58 @@ public class PrimeApplicationContext {
         return validator == null ? null : validator.get();
     }
 
+    /**
+     * Executor for work which runs in parallel to the current request, e.g. {@link org.primefaces.model.LazyDataModel#countAsync}.
+     * Uses virtual threads when running on Java 21+, otherwise a bounded pool of platform threads.
+     *
+     * @return the executor
+     */
+    public ExecutorService getAsyncExecutor() {
+        return asyncExecutor.get();
+    }
+
+    public MultiViewStateStore getMultiViewStateStore() {
+        return multiViewStateStore.get();
+    }
+
+    /**
+     * Registry of the exports running in the background and of the export files waiting for their download.
+     *
+     * @return the export jobs
+     */
+    public ExportJobs getExportJobs() {
+        return exportJobs.get();
+    }
+
+    /**
+     * Releases the state bound to the destroyed session, see {@link org.primefaces.webapp.SessionCleanerListener}.
+     *
+     * @param sessionId the id of the destroyed session
+     */
+    public void releaseSession(String sessionId) {
+        if (exportJobs.isInitialized()) {
+            exportJobs.get().removeAll(sessionId);
+        }
+        if (multiViewStateStore.isInitialized()) {
+            multiViewStateStore.get().releaseSession(sessionId);
+        }
+    }
+
+    /**
+     * Moves the state bound to the session to its new id, see {@link org.primefaces.webapp.SessionCleanerListener}.
+     *
+     * @param oldSessionId the previous id of the session
+     * @param newSessionId the new id of the session
+     */
+    public void changeSessionId(String oldSessionId, String newSessionId) {
+        if (exportJobs.isInitialized()) {
+            exportJobs.get().changeOwner(oldSessionId, newSessionId);
+        }
+        if (multiViewStateStore.isInitialized()) {
+            multiViewStateStore.get().changeSessionId(oldSessionId, newSessionId);
+        }
+    }
+
     public VirusScannerService getVirusScannerService() {
         return virusScannerService.get();
     }
@@ -345,6 +465,14 @@ public class PrimeApplicationContext {
                 validatorFactory.get().close();
             }
         }
+
+        if (exportJobs.isInitialized()) {
+            exportJobs.get().release();
+        }
+
+        if (asyncExecutor.isInitialized()) {
+            asyncExecutor.get().shutdown();
+        }
     }
 
     public FileUploadDecoder getFileUploadDecoder() {
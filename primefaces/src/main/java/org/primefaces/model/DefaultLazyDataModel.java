@@ -23,9 +23,12 @@
  */
 package org.primefaces.model;
 
+import org.primefaces.cache.CacheProvider;
 import org.primefaces.component.api.UITable;
 import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.model.filter.FilterConstraint;
+import org.primefaces.model.filter.FilterSnapshot;
+import org.primefaces.model.filter.FunctionFilterConstraint;
 import org.primefaces.util.Callbacks;
 import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.LocaleUtils;
@@ -33,13 +36,18 @@ import org.primefaces.util.PropertyDescriptorResolver;
 import org.primefaces.util.SortTableComparator;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -61,6 +69,13 @@ public class DefaultLazyDataModel<T> extends LazyDataModel<T> {
 
     private static final Logger LOGGER = Logger.getLogger(DefaultLazyDataModel.class.getName());
 
+    /**
+     * A bounded heap is only used while the requested rows are less than this fraction of all filtered rows.
+     */
+    private static final int PARTIAL_SORT_RATIO = 4;
+
+    private static final String SORTED_VALUES_ATTRIBUTE = DefaultLazyDataModel.class.getName() + ".SORTED_VALUES";
+
     protected String rowKeyField;
     protected FilterConstraint filter;
     protected Sorter<T> sorter;
@@ -68,6 +83,9 @@ public class DefaultLazyDataModel<T> extends LazyDataModel<T> {
     protected Callbacks.SerializableFunction<T, Object> rowKeyProvider;
     protected Callbacks.SerializablePredicate<T> skipFiltering;
     protected Callbacks.SerializablePredicate<FilterMeta> ignoreFilter;
+    protected int parallelFilter;
+    protected transient FilterSnapshot previousFilterSnapshot;
+    protected transient List<T> previousFilteredValues;
 
     /**
      * For serialization only
@@ -78,7 +96,10 @@ public class DefaultLazyDataModel<T> extends LazyDataModel<T> {
 
     @Override
     public int count(Map<String, FilterMeta> filterBy) {
-        return 0;
+        // the count is calculated while loading, but we can reuse it from the count cache if available
+        CacheProvider cacheProvider = getCountCacheProvider();
+        Integer cachedCount = getCachedCount(cacheProvider, getCountCacheKey(cacheProvider, filterBy));
+        return cachedCount == null ? 0 : cachedCount;
     }
 
     @Override
@@ -87,15 +108,108 @@ public class DefaultLazyDataModel<T> extends LazyDataModel<T> {
         List<T> filteredValues = filter(values, filterBy);
 
         setRowCount(filteredValues.size());
+        CacheProvider cacheProvider = getCountCacheProvider();
+        putCachedCount(cacheProvider, getCountCacheKey(cacheProvider, filterBy), getRowCount());
         first = recalculateFirst(first, pageSize, getRowCount());
 
-        sort(filteredValues);
+        // keep the unsorted result, so the next request can only re-evaluate these rows if it narrows the current filters
+        previousFilteredValues = filteredValues;
+
+        if (pageSize > 0 && isPartialSort(first + pageSize, filteredValues.size(), sortBy)) {
+            return sortPage(filteredValues, first, pageSize);
+        }
+
+        List<T> sortedValues = getSortedValues(filteredValues, sortBy, filterBy);
 
         if (pageSize == 0) {
-            return filteredValues;
+            return new ArrayList<>(sortedValues);
+        }
+
+        return sortedValues.stream().skip(first).limit(pageSize).collect(Collectors.toList());
+    }
+
+    /**
+     * Only ordering the rows up to the requested page pays off, if the page is near the start of the filtered values.
+     * Custom {@link #sorter}s are always applied to the whole list.
+     */
+    protected boolean isPartialSort(int limit, int size, Map<String, SortMeta> sortBy) {
+        if (sorter != null || limit > size / PARTIAL_SORT_RATIO || getActiveSortSignature(sortBy).isEmpty()) {
+            return false;
+        }
+
+        return UIComponent.getCurrentComponent(FacesContext.getCurrentInstance()) instanceof UITable;
+    }
+
+    /**
+     * Orders only the first <code>first + pageSize</code> values via {@link SortTableComparator#sortIndexes(Object[], int)}
+     * and returns the requested page.
+     */
+    protected List<T> sortPage(List<T> values, int first, int pageSize) {
+        FacesContext context = FacesContext.getCurrentInstance();
+        UITable<?> table = (UITable<?>) UIComponent.getCurrentComponent(context);
+
+        int[] indexes = new SortTableComparator(context, table, SortTableComparator.FIELD_MAPPER).sortIndexes(values.toArray(), first + pageSize);
+
+        List<T> page = new ArrayList<>(pageSize);
+        for (int i = first; i < indexes.length; i++) {
+            page.add(values.get(indexes[i]));
+        }
+        return page;
+    }
+
+    /**
+     * Sorts the whole list, the result is cached for the current request, so e.g. further loads of deep pages don't sort again.
+     * The cache is bound to the identity of the given list, {@link #filter(List, Map)} returns the same list for unchanged filters and values.
+     */
+    protected List<T> getSortedValues(List<T> values, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        FacesContext context = FacesContext.getCurrentInstance();
+        if (context == null || sorter != null) {
+            List<T> sortedValues = new ArrayList<>(values);
+            sort(sortedValues);
+            return sortedValues;
+        }
+
+        Map<DefaultLazyDataModel<?>, SortedValues> cache = getSortedValuesCache(context);
+
+        String signature = getActiveSortSignature(sortBy);
+        SortedValues cached = cache.get(this);
+        if (cached != null && cached.source == values && cached.signature.equals(signature)) {
+            return (List<T>) cached.values;
         }
 
-        return filteredValues.stream().skip(first).limit(pageSize).collect(Collectors.toList());
+        List<T> sortedValues = new ArrayList<>(values);
+        sort(sortedValues);
+        cache.put(this, new SortedValues(values, signature, sortedValues));
+        return sortedValues;
+    }
+
+    protected boolean isSortedInCurrentRequest(FacesContext context, List<T> values) {
+        if (context == null) {
+            return false;
+        }
+        SortedValues cached = getSortedValuesCache(context).get(this);
+        return cached != null && cached.source == values;
+    }
+
+    private static Map<DefaultLazyDataModel<?>, SortedValues> getSortedValuesCache(FacesContext context) {
+        return (Map<DefaultLazyDataModel<?>, SortedValues>) context.getAttributes()
+                .computeIfAbsent(SORTED_VALUES_ATTRIBUTE, k -> new IdentityHashMap<>());
+    }
+
+    protected String getActiveSortSignature(Map<String, SortMeta> sortBy) {
+        StringBuilder signature = new StringBuilder();
+        if (sortBy != null) {
+            for (SortMeta sortMeta : sortBy.values()) {
+                if (sortMeta.isActive()) {
+                    signature.append(sortMeta.getField())
+                            .append('|').append(sortMeta.getOrder())
+                            .append('|').append(sortMeta.isCaseSensitiveSort())
+                            .append('|').append(sortMeta.getNullSortOrder())
+                            .append(';');
+                }
+            }
+        }
+        return signature.toString();
     }
 
     protected void sort(List<T> values) {
@@ -106,7 +220,7 @@ public class DefaultLazyDataModel<T> extends LazyDataModel<T> {
         FacesContext context = FacesContext.getCurrentInstance();
         UIComponent source = UIComponent.getCurrentComponent(context);
         if (source instanceof UITable) {
-            values.sort(SortTableComparator.comparingField(context, (UITable<?>) source));
+            SortTableComparator.sortByField(context, (UITable<?>) source, values);
         }
 
         if (sorter != null) {
@@ -115,97 +229,182 @@ public class DefaultLazyDataModel<T> extends LazyDataModel<T> {
     }
 
     protected List<T> filter(List<T> values, Map<String, FilterMeta> filterBy) {
+        FacesContext context = FacesContext.getCurrentInstance();
+        Locale locale = LocaleUtils.getCurrentLocale(context);
+
+        // like a FunctionFilterConstraint, the filter of the model may depend on anything, so we can't tell if it's narrowing
+        FilterSnapshot snapshot = filter == null ? FilterSnapshot.of(filterBy, values) : null;
+        if (snapshot != null && previousFilteredValues != null && previousFilterSnapshot != null && previousFilterSnapshot.isNarrowedBy(snapshot, locale)) {
+            // same filters on the unchanged values in the same request (e.g. a further load of a deep page),
+            // returning the identical list allows to reuse its sorting; rows might have been edited between requests though
+            if (snapshot.isNarrowedBy(previousFilterSnapshot, locale) && isSortedInCurrentRequest(context, previousFilteredValues)) {
+                previousFilterSnapshot = snapshot;
+                return previousFilteredValues;
+            }
+
+            // only the rows matching the previous filters can match the current ones
+            values = previousFilteredValues;
+        }
+        previousFilterSnapshot = snapshot;
+
         if (values == null || values.isEmpty()) {
             return Collections.emptyList();
         }
 
-        FacesContext context = FacesContext.getCurrentInstance();
         PropertyDescriptorResolver propResolver = PrimeApplicationContext.getCurrentInstance(context).getPropertyDescriptorResolver();
-        Locale locale = LocaleUtils.getCurrentLocale(context);
         UIComponent source = UIComponent.getCurrentComponent(context);
 
         FilterMeta globalFilter = filterBy.get(FilterMeta.GLOBAL_FILTER_KEY);
         boolean hasGlobalFilter = (globalFilter != null && globalFilter.isActive()) || filter != null;
 
-        AtomicReference<Object> fieldValueHolder = new AtomicReference<>();
+        // converted filter values per filter and field value type, so we convert only once instead of once per row
+        Map<FilterMeta, Map<Class<?>, Object>> convertedFilterValues = new ConcurrentHashMap<>();
+
+        if (isParallelFilter(values, filterBy, globalFilter)) {
+            // null means that the filter value must be converted first, which requires the FacesContext of the request thread
+            Boolean[] matches = values.parallelStream()
+                    .map(obj -> isMatching(context, propResolver, locale, source, globalFilter, hasGlobalFilter, filterBy, convertedFilterValues, obj,
+                            false))
+                    .toArray(Boolean[]::new);
+
+            List<T> filteredValues = new ArrayList<>();
+            for (int i = 0; i < matches.length; i++) {
+                T obj = values.get(i);
+                boolean match = matches[i] == null
+                        ? isMatching(context, propResolver, locale, source, globalFilter, hasGlobalFilter, filterBy, convertedFilterValues, obj, true)
+                        : matches[i];
+                if (match) {
+                    filteredValues.add(obj);
+                }
+            }
+            return filteredValues;
+        }
 
         return values.stream()
-                .filter(obj -> {
-                    // always include the current obj in the result?
-                    if (skipFiltering != null && skipFiltering.test(obj)) {
-                        return true;
-                    }
+                .filter(obj -> isMatching(context, propResolver, locale, source, globalFilter, hasGlobalFilter, filterBy, convertedFilterValues, obj,
+                        true))
+                .collect(Collectors.toList());
+    }
 
-                    boolean localMatch = true;
-                    boolean globalMatch = false;
+    /**
+     * Parallel filtering is only possible if all filters can be resolved via reflection,
+     * as user-defined filterBy expressions and filter functions require the request-scoped <code>var</code>.
+     */
+    protected boolean isParallelFilter(List<T> values, Map<String, FilterMeta> filterBy, FilterMeta globalFilter) {
+        if (parallelFilter <= 0 || values.size() < parallelFilter || !(values instanceof RandomAccess)) {
+            return false;
+        }
 
-                    // global filtering
-                    if (hasGlobalFilter) {
-                        if (globalFilter != null && globalFilter.isActive()) {
-                            globalMatch = globalFilter.getConstraint().isMatching(context, obj, globalFilter.getFilterValue(), locale);
-                        }
-                        if (filter != null && !globalMatch) {
-                            globalMatch = filter.isMatching(context, obj, null, locale);
-                        }
-                    }
+        if (globalFilter != null && globalFilter.isActive() && globalFilter.getConstraint() instanceof FunctionFilterConstraint) {
+            return false;
+        }
 
-                    // local filtering
-                    for (FilterMeta filterMeta : filterBy.values()) {
-                        // skip filter
-                        if (filterMeta.getField() == null || filterMeta.getFilterValue() == null || filterMeta.isGlobalFilter()) {
-                            continue;
-                        }
+        for (FilterMeta filterMeta : filterBy.values()) {
+            if (filterMeta.getField() == null || filterMeta.getFilterValue() == null || filterMeta.isGlobalFilter()) {
+                continue;
+            }
+            if (ignoreFilter != null && ignoreFilter.test(filterMeta)) {
+                continue;
+            }
+            if (!filterMeta.isFilterByGenerated() || filterMeta.getConstraint() instanceof FunctionFilterConstraint) {
+                return false;
+            }
+        }
 
-                        // ignore this filter?
-                        if (ignoreFilter != null && ignoreFilter.test(filterMeta)) {
-                            continue;
-                        }
+        return true;
+    }
 
-                        fieldValueHolder.set(null);
+    protected Boolean isMatching(FacesContext context, PropertyDescriptorResolver propResolver, Locale locale, UIComponent source,
+            FilterMeta globalFilter, boolean hasGlobalFilter, Map<String, FilterMeta> filterBy,
+            Map<FilterMeta, Map<Class<?>, Object>> convertedFilterValues, T obj, boolean requestThread) {
+        // always include the current obj in the result?
+        if (skipFiltering != null && skipFiltering.test(obj)) {
+            return true;
+        }
 
-                        // in case its generated, we can just directly use reflection
-                        if (filterMeta.isFilterByGenerated()) {
-                            fieldValueHolder.set(propResolver.getValue(obj, filterMeta.getField()));
-                        }
-                        // otherwise it's a user-defined filterBy expression
-                        else {
-                            if (source instanceof UITable) {
-                                UITable<?> table = (UITable<?>) source;
-                                table.invokeOnColumn(filterMeta.getColumnKey(), (column) -> {
-                                    Object localValue = ComponentUtils.executeInRequestScope(context, table.getVar(), obj,
-                                            () -> filterMeta.getLocalValue(context.getELContext(), column));
-                                    fieldValueHolder.set(localValue);
-                                });
-                            }
-                        }
+        boolean localMatch = true;
+        boolean globalMatch = false;
 
-                        Object fieldValue = fieldValueHolder.get();
-                        Object filterValue = filterMeta.getFilterValue();
-                        Object convertedFilterValue = null;
-
-                        if (fieldValue != null) {
-                            Class<?> filterValueClass = filterValue.getClass();
-                            if (filterValueClass.isArray() || Collection.class.isAssignableFrom(filterValueClass)) {
-                                convertedFilterValue = filterValue;
-                            }
-                            else {
-                                convertedFilterValue = ComponentUtils.convertToType(filterValue, fieldValue.getClass(), LOGGER);
-                            }
-                        }
+        // global filtering
+        if (hasGlobalFilter) {
+            if (globalFilter != null && globalFilter.isActive()) {
+                globalMatch = globalFilter.getConstraint().isMatching(context, obj, globalFilter.getFilterValue(), locale);
+            }
+            if (filter != null && !globalMatch) {
+                globalMatch = filter.isMatching(context, obj, null, locale);
+            }
+        }
+
+        // local filtering
+        for (FilterMeta filterMeta : filterBy.values()) {
+            // skip filter
+            if (filterMeta.getField() == null || filterMeta.getFilterValue() == null || filterMeta.isGlobalFilter()) {
+                continue;
+            }
+
+            // ignore this filter?
+            if (ignoreFilter != null && ignoreFilter.test(filterMeta)) {
+                continue;
+            }
+
+            Object fieldValue = null;
+
+            // in case its generated, we can just directly use reflection
+            if (filterMeta.isFilterByGenerated()) {
+                fieldValue = propResolver.getValue(obj, filterMeta.getField());
+            }
+            // otherwise it's a user-defined filterBy expression
+            else {
+                if (source instanceof UITable) {
+                    AtomicReference<Object> fieldValueHolder = new AtomicReference<>();
+                    UITable<?> table = (UITable<?>) source;
+                    table.invokeOnColumn(filterMeta.getColumnKey(), (column) -> {
+                        Object localValue = ComponentUtils.executeInRequestScope(context, table.getVar(), obj,
+                                () -> filterMeta.getLocalValue(context.getELContext(), column));
+                        fieldValueHolder.set(localValue);
+                    });
+                    fieldValue = fieldValueHolder.get();
+                }
+            }
 
-                        localMatch = filterMeta.getConstraint().isMatching(context, fieldValue, convertedFilterValue, locale);
-                        if (!localMatch) {
-                            break;
+            Object filterValue = filterMeta.getFilterValue();
+            Object convertedFilterValue = null;
+
+            if (fieldValue != null) {
+                Class<?> filterValueClass = filterValue.getClass();
+                if (filterValueClass.isArray() || Collection.class.isAssignableFrom(filterValueClass)
+                        || fieldValue.getClass().isAssignableFrom(filterValueClass)) {
+                    convertedFilterValue = filterValue;
+                }
+                else {
+                    Map<Class<?>, Object> converted = convertedFilterValues.computeIfAbsent(filterMeta, k -> new ConcurrentHashMap<>());
+                    Class<?> fieldValueClass = fieldValue.getClass();
+                    if (converted.containsKey(fieldValueClass)) {
+                        convertedFilterValue = converted.get(fieldValueClass);
+                    }
+                    else if (!requestThread) {
+                        return null;
+                    }
+                    else {
+                        convertedFilterValue = ComponentUtils.convertToType(filterValue, fieldValueClass, LOGGER);
+                        if (convertedFilterValue != null) {
+                            converted.put(fieldValueClass, convertedFilterValue);
                         }
                     }
+                }
+            }
 
-                    boolean matches = localMatch;
-                    if (hasGlobalFilter) {
-                        matches = matches && globalMatch;
-                    }
-                    return matches;
-                })
-                .collect(Collectors.toList());
+            localMatch = filterMeta.getConstraint().isMatching(context, fieldValue, convertedFilterValue, locale);
+            if (!localMatch) {
+                break;
+            }
+        }
+
+        boolean matches = localMatch;
+        if (hasGlobalFilter) {
+            matches = matches && globalMatch;
+        }
+        return matches;
     }
 
     @Override
@@ -285,6 +484,48 @@ public class DefaultLazyDataModel<T> extends LazyDataModel<T> {
             return this;
         }
 
+        /**
+         * Enables parallel filtering for lists with at least the given number of elements.
+         * The elements are matched concurrently on the common {@link java.util.concurrent.ForkJoinPool},
+         * the order of the filtered elements is preserved.
+         * Filtering falls back to sequential mode if a filter requires the request-scoped <code>var</code>,
+         * e.g. a user-defined filterBy expression or filter function.
+         * Registered callbacks like {@link #filter(FilterConstraint)} or {@link #skipFiltering(Callbacks.SerializablePredicate)}
+         * must be thread-safe and must not rely on the {@link FacesContext} in this mode.
+         *
+         * @param parallelFilter the minimum number of elements, 0 disables parallel filtering
+         * @return the current builder
+         */
+        public Builder<T, TM> parallelFilter(int parallelFilter) {
+            model.parallelFilter = parallelFilter;
+            return this;
+        }
+
+        /**
+         * Caches the count per filter signature, see {@link LazyDataModel#setCountCacheName(String)}.
+         * Call {@link LazyDataModel#invalidateCountCache()} after modifying the values.
+         *
+         * @param cacheName the name of the count cache
+         * @param ttl the time to live of cached counts, may be <code>null</code>
+         * @return the current builder
+         */
+        public Builder<T, TM> countCache(String cacheName, Duration ttl) {
+            model.setCountCacheName(cacheName);
+            model.setCountCacheTtl(ttl);
+            return this;
+        }
+
+        /**
+         * Separates the cached counts, e.g. per tenant or user, see {@link LazyDataModel#setCountCacheDiscriminator}.
+         *
+         * @param discriminator supplies the discriminator on each count
+         * @return the current builder
+         */
+        public Builder<T, TM> countCacheDiscriminator(Callbacks.SerializableSupplier<?> discriminator) {
+            model.setCountCacheDiscriminator(discriminator);
+            return this;
+        }
+
         public Builder<T, TM> sorter(Sorter<T> sorter) {
             model.sorter = sorter;
             return this;
@@ -310,6 +551,19 @@ public class DefaultLazyDataModel<T> extends LazyDataModel<T> {
         }
     }
 
+    private static final class SortedValues {
+
+        private final List<?> source;
+        private final String signature;
+        private final List<?> values;
+
+        SortedValues(List<?> source, String signature, List<?> values) {
+            this.source = source;
+            this.signature = signature;
+            this.values = values;
+        }
+    }
+
     @FunctionalInterface
     public interface Sorter<T> extends Comparator<T>, Serializable {
 
@@ -0,0 +1,415 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import org.primefaces.component.api.UITable;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.util.ComponentUtils;
+import org.primefaces.util.LocaleUtils;
+import org.primefaces.util.PropertyDescriptorResolver;
+import org.primefaces.util.SortTableComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.FacesContext;
+
+/**
+ * {@link DefaultLazyDataModel} which takes a snapshot of the supplied values and answers filter, sort and page requests via indexes,
+ * which are built per field on first use:
+ * <ul>
+ * <li>hash indexes for <code>equals</code> and <code>in</code> filters, which restrict the rows to check for all other filters</li>
+ * <li>sorted indexes (calculated with the same {@link SortTableComparator} semantics) for single column sorts,
+ * so only the requested page is materialized</li>
+ * </ul>
+ *
+ * As the {@link DefaultLazyDataModel.ValuesSupplier} is only called once for the snapshot (with empty filters),
+ * it must return all values. Call {@link #invalidate()} or {@link #refresh()} after the source data has been modified.
+ *
+ * @param <T> The result obj
+ */
+public class IndexedLazyDataModel<T> extends DefaultLazyDataModel<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(IndexedLazyDataModel.class.getName());
+
+    protected transient volatile Index<T> index;
+
+    /**
+     * For serialization only
+     */
+    public IndexedLazyDataModel() {
+        // NOOP
+    }
+
+    /**
+     * Discards the snapshot and all indexes, they will be rebuilt on next use.
+     */
+    public void invalidate() {
+        index = null;
+    }
+
+    /**
+     * Takes a new snapshot of the supplied values immediately.
+     */
+    public void refresh() {
+        index = createIndex();
+    }
+
+    protected Index<T> getIndex() {
+        Index<T> current = index;
+        if (current == null) {
+            current = createIndex();
+            index = current;
+        }
+        return current;
+    }
+
+    protected Index<T> createIndex() {
+        List<T> values = Objects.requireNonNullElseGet(valuesSupplier.get(Collections.emptyMap()), Collections::emptyList);
+        return new Index<>(new ArrayList<>(values));
+    }
+
+    @Override
+    public List<T> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        Index<T> current = getIndex();
+
+        BitSet matches = filter(current, filterBy);
+
+        setRowCount(matches.cardinality());
+        putCachedCount(getCountCacheProvider(), getCountCacheKey(getCountCacheProvider(), filterBy), getRowCount());
+        first = recalculateFirst(first, pageSize, getRowCount());
+
+        int last = pageSize == 0 ? getRowCount() : Math.min(getRowCount(), first + pageSize);
+        int[] sortIndex = getSortIndex(current, sortBy);
+        if (sortIndex == null) {
+            // not supported by the index, e.g. multiple sorts or custom sort functions
+            List<T> filteredValues = new ArrayList<>(getRowCount());
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                filteredValues.add(current.rows.get(i));
+            }
+            sort(filteredValues);
+            return new ArrayList<>(filteredValues.subList(first, last));
+        }
+
+        List<T> page = new ArrayList<>(last - first);
+        int position = 0;
+        for (int i = 0; i < sortIndex.length && position < last; i++) {
+            int row = sortIndex[i];
+            if (matches.get(row)) {
+                if (position >= first) {
+                    page.add(current.rows.get(row));
+                }
+                position++;
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Restricts the rows via the hash indexes first and only checks the remaining rows against all filters.
+     */
+    protected BitSet filter(Index<T> current, Map<String, FilterMeta> filterBy) {
+        int size = current.rows.size();
+
+        FilterMeta globalFilter = filterBy.get(FilterMeta.GLOBAL_FILTER_KEY);
+        boolean hasGlobalFilter = (globalFilter != null && globalFilter.isActive()) || filter != null;
+
+        BitSet candidates = new BitSet(size);
+        candidates.set(0, size);
+
+        boolean hasLocalFilter = false;
+        for (FilterMeta filterMeta : filterBy.values()) {
+            if (filterMeta.getField() == null || filterMeta.getFilterValue() == null || filterMeta.isGlobalFilter()) {
+                continue;
+            }
+            if (ignoreFilter != null && ignoreFilter.test(filterMeta)) {
+                continue;
+            }
+            hasLocalFilter = true;
+
+            // rows which are skipped from filtering must always be included
+            if (skipFiltering == null) {
+                BitSet indexed = lookup(current, filterMeta);
+                if (indexed != null) {
+                    candidates.and(indexed);
+                }
+            }
+        }
+
+        if (!hasLocalFilter && !hasGlobalFilter) {
+            return candidates;
+        }
+
+        FacesContext context = FacesContext.getCurrentInstance();
+        Locale locale = LocaleUtils.getCurrentLocale(context);
+        PropertyDescriptorResolver propResolver = PrimeApplicationContext.getCurrentInstance(context).getPropertyDescriptorResolver();
+        UIComponent source = UIComponent.getCurrentComponent(context);
+        Map<FilterMeta, Map<Class<?>, Object>> convertedFilterValues = new ConcurrentHashMap<>();
+
+        BitSet matches = new BitSet(size);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (isMatching(context, propResolver, locale, source, globalFilter, hasGlobalFilter, filterBy, convertedFilterValues,
+                    current.rows.get(i), true)) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return all rows which might match the given filter, or <code>null</code> if the filter can't be answered via a hash index
+     */
+    protected BitSet lookup(Index<T> current, FilterMeta filterMeta) {
+        MatchMode matchMode = filterMeta.getMatchMode();
+        if (!filterMeta.isFilterByGenerated() || (matchMode != MatchMode.EQUALS && matchMode != MatchMode.IN)) {
+            return null;
+        }
+
+        HashIndex hashIndex = current.getHashIndex(filterMeta.getField());
+        if (hashIndex == null) {
+            return null;
+        }
+
+        Object filterValue = filterMeta.getFilterValue();
+        if (matchMode == MatchMode.EQUALS) {
+            if (filterValue.getClass().isArray() || filterValue instanceof Collection) {
+                return null;
+            }
+
+            // same conversion as DefaultLazyDataModel#isMatching
+            Object convertedFilterValue = hashIndex.valueClass == null || hashIndex.valueClass.isAssignableFrom(filterValue.getClass())
+                    ? filterValue
+                    : ComponentUtils.convertToType(filterValue, hashIndex.valueClass, LOGGER);
+
+            // EqualsFilterConstraint matches null values against the unconverted filter
+            BitSet result = (BitSet) hashIndex.nulls.clone();
+            if (convertedFilterValue != null) {
+                hashIndex.or(result, hashIndex.key(convertedFilterValue));
+            }
+            return result;
+        }
+
+        Collection<?> filterValues = filterValue.getClass().isArray()
+                ? Arrays.asList((Object[]) filterValue)
+                : filterValue instanceof Collection ? (Collection<?>) filterValue : Collections.singletonList(filterValue);
+
+        // same semantics as InFilterConstraint
+        BitSet result = new BitSet();
+        for (Object value : filterValues) {
+            if (value == null || "".equals(value)) {
+                result.or(hashIndex.nulls);
+            }
+            if (value != null && (!hashIndex.enumKeys || value instanceof String || value.getClass() == hashIndex.valueClass)) {
+                hashIndex.or(result, hashIndex.key(value));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the row indexes in sorted order, or <code>null</code> if the sort can't be answered via a sorted index
+     */
+    protected int[] getSortIndex(Index<T> current, Map<String, SortMeta> sortBy) {
+        List<SortMeta> activeSortBy = new ArrayList<>();
+        if (sortBy != null) {
+            for (SortMeta sortMeta : sortBy.values()) {
+                if (sortMeta.isActive()) {
+                    activeSortBy.add(sortMeta);
+                }
+            }
+        }
+
+        if (activeSortBy.isEmpty()) {
+            return sorter == null ? current.getRowOrder() : null;
+        }
+
+        FacesContext context = FacesContext.getCurrentInstance();
+        UIComponent source = UIComponent.getCurrentComponent(context);
+        if (activeSortBy.size() > 1 || sorter != null || !(source instanceof UITable)) {
+            return null;
+        }
+
+        SortMeta sortMeta = activeSortBy.get(0);
+        if (sortMeta.getField() == null || sortMeta.getFunction() != null) {
+            return null;
+        }
+
+        UITable<?> table = (UITable<?>) source;
+        String key = sortMeta.getField()
+                + "|" + sortMeta.getOrder()
+                + "|" + sortMeta.isCaseSensitiveSort()
+                + "|" + sortMeta.getNullSortOrder()
+                + "|" + table.resolveDataLocale(context);
+        // the index is shared by all requests, so it must only depend on the given sort and not on the current state of the table
+        return current.sortIndexes.computeIfAbsent(key,
+            k -> new SortTableComparator(context, table, Collections.singletonList(sortMeta), SortTableComparator.FIELD_MAPPER)
+                    .sortIndexes(current.rows.toArray()));
+    }
+
+    @Override
+    public T getRowData(String rowKey) {
+        return getIndex().getRowKeyIndex(this).get(rowKey);
+    }
+
+    public static <T> Builder<T, IndexedLazyDataModel<T>> builder() {
+        return new Builder<>(new IndexedLazyDataModel<>());
+    }
+
+    /**
+     * Snapshot of the values with its lazily built indexes.
+     *
+     * @param <T> The result obj
+     */
+    protected static class Index<T> {
+
+        protected final List<T> rows;
+        protected final Map<String, HashIndex> hashIndexes = new ConcurrentHashMap<>();
+        protected final Map<String, int[]> sortIndexes = new ConcurrentHashMap<>();
+        protected volatile int[] rowOrder;
+        protected volatile Map<String, T> rowKeyIndex;
+
+        public Index(List<T> rows) {
+            this.rows = rows;
+        }
+
+        public HashIndex getHashIndex(String field) {
+            HashIndex hashIndex = hashIndexes.computeIfAbsent(field, k -> HashIndex.of(rows, field));
+            return hashIndex == HashIndex.UNSUPPORTED ? null : hashIndex;
+        }
+
+        public int[] getRowOrder() {
+            if (rowOrder == null) {
+                int[] order = new int[rows.size()];
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = i;
+                }
+                rowOrder = order;
+            }
+            return rowOrder;
+        }
+
+        public Map<String, T> getRowKeyIndex(LazyDataModel<T> model) {
+            if (rowKeyIndex == null) {
+                Map<String, T> index = new HashMap<>();
+                for (T row : rows) {
+                    index.putIfAbsent(model.getRowKey(row), row);
+                }
+                rowKeyIndex = index;
+            }
+            return rowKeyIndex;
+        }
+    }
+
+    /**
+     * Maps the values of a field to the rows containing them.
+     * Only supported for value types where {@link Object#equals(Object)} is consistent with {@link Comparable#compareTo(Object)},
+     * as the filter constraints compare via <code>compareTo</code>, and only if all rows share the same value type.
+     */
+    protected static class HashIndex {
+
+        protected static final HashIndex UNSUPPORTED = new HashIndex(null, false);
+
+        protected final Class<?> valueClass;
+        protected final boolean enumKeys;
+        protected final Map<Object, BitSet> values = new HashMap<>();
+        protected final BitSet nulls = new BitSet();
+
+        protected HashIndex(Class<?> valueClass, boolean enumKeys) {
+            this.valueClass = valueClass;
+            this.enumKeys = enumKeys;
+        }
+
+        public static HashIndex of(List<?> rows, String field) {
+            PropertyDescriptorResolver propResolver =
+                    PrimeApplicationContext.getCurrentInstance(FacesContext.getCurrentInstance()).getPropertyDescriptorResolver();
+
+            Object[] fieldValues = new Object[rows.size()];
+            Class<?> valueClass = null;
+            for (int i = 0; i < fieldValues.length; i++) {
+                Object value = propResolver.getValue(rows.get(i), field);
+                if (value != null) {
+                    if (valueClass == null) {
+                        if (!isSupported(value.getClass())) {
+                            return UNSUPPORTED;
+                        }
+                        valueClass = value.getClass();
+                    }
+                    else if (valueClass != value.getClass()) {
+                        return UNSUPPORTED;
+                    }
+                }
+                fieldValues[i] = value;
+            }
+
+            HashIndex hashIndex = new HashIndex(valueClass, valueClass != null && valueClass.isEnum());
+            for (int i = 0; i < fieldValues.length; i++) {
+                if (fieldValues[i] == null) {
+                    hashIndex.nulls.set(i);
+                }
+                else {
+                    hashIndex.values.computeIfAbsent(hashIndex.key(fieldValues[i]), k -> new BitSet()).set(i);
+                }
+            }
+            return hashIndex;
+        }
+
+        protected static boolean isSupported(Class<?> valueClass) {
+            return valueClass.isEnum()
+                    || valueClass == String.class
+                    || valueClass == Integer.class
+                    || valueClass == Long.class
+                    || valueClass == Short.class
+                    || valueClass == Byte.class
+                    || valueClass == Character.class
+                    || valueClass == Boolean.class
+                    || valueClass == UUID.class;
+        }
+
+        protected Object key(Object value) {
+            // enums are compared via their string representation
+            return enumKeys ? value.toString() : value;
+        }
+
+        protected void or(BitSet result, Object key) {
+            BitSet rows = values.get(key);
+            if (rows != null) {
+                result.or(rows);
+            }
+        }
+    }
+}
@@ -23,43 +23,67 @@
  */
 package org.primefaces.model;
 
+import org.primefaces.cache.CacheProvider;
+import org.primefaces.component.api.UIColumn;
+import org.primefaces.component.api.UITable;
 import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.model.filter.FunctionFilterConstraint;
 import org.primefaces.util.BeanUtils;
 import org.primefaces.util.Callbacks;
 import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.Constants;
+import org.primefaces.util.LimitedSizeHashMap;
 import org.primefaces.util.LocaleUtils;
 import org.primefaces.util.PropertyDescriptorResolver;
 
 import java.beans.PropertyDescriptor;
 import java.io.Serializable;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import jakarta.faces.FacesException;
+import jakarta.faces.component.UIComponent;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.convert.Converter;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.ParameterExpression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
 import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
 import jakarta.persistence.metamodel.SingularAttribute;
 import jakarta.persistence.metamodel.Type;
 
@@ -74,6 +98,8 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
 
     private static final Logger LOGGER = Logger.getLogger(JPALazyDataModel.class.getName());
 
+    private static final char LIKE_ESCAPE_CHAR = '!';
+
     protected Class<T> entityClass;
     protected String rowKeyField;
     protected boolean caseSensitive = true;
@@ -86,6 +112,18 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
     protected Callbacks.SerializableSupplier<EntityManager> entityManager;
     protected Callbacks.SerializableFunction<T, Object> rowKeyProvider;
     protected Callbacks.SerializableConsumer<List<T>> resultEnricher;
+    protected boolean keysetPagination;
+    protected List<String> globalFilterFields;
+    protected GlobalFilterPredicate<T> globalFilterPredicate;
+    protected boolean projection;
+    protected List<String> projectionFields;
+    protected ProjectionMapper<T> projectionMapper;
+    protected QueryEnricher<Tuple> projectionQueryEnricher;
+    protected String entityGraph;
+    protected List<String> fetches;
+    protected Keyset keyset;
+    protected int queryShapeCacheSize;
+    protected transient Map<String, QueryShape> queryShapes;
 
     /**
      * For serialization only
@@ -96,17 +134,95 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
 
     @Override
     public int count(Map<String, FilterMeta> filterBy) {
+        return count(filterBy, () -> {
+            EntityManager em = entityManager.get();
+
+            QueryShape shape = resolveCountQueryShape(em.getCriteriaBuilder(), filterBy);
+
+            TypedQuery<Long> query = shape.createQuery(em, bindFilterValues(shape, filterBy));
+            return query.getSingleResult().intValue();
+        });
+    }
+
+    /**
+     * The count query is created on the calling (request) thread, as filters might require the {@link FacesContext},
+     * and executed with a separate {@link EntityManager} from the same {@link EntityManagerFactory},
+     * as the request's {@link EntityManager} is not thread-safe and used by {@link #load(int, int, Map, Map)} meanwhile.
+     */
+    @Override
+    public CompletableFuture<Integer> countAsync(Executor executor, Map<String, FilterMeta> filterBy) {
+        CacheProvider cacheProvider = getCountCacheProvider();
+        String cacheKey = getCountCacheKey(cacheProvider, filterBy);
+        Integer cachedCount = getCachedCount(cacheProvider, cacheKey);
+        if (cachedCount != null) {
+            return CompletableFuture.completedFuture(cachedCount);
+        }
+
         EntityManager em = entityManager.get();
 
-        CriteriaBuilder cb = em.getCriteriaBuilder();
+        QueryShape shape = resolveCountQueryShape(em.getCriteriaBuilder(), filterBy);
+        List<Object> values = bindFilterValues(shape, filterBy);
+        EntityManagerFactory emf = em.getEntityManagerFactory();
+
+        return CompletableFuture.supplyAsync(() -> {
+            EntityManager countEm = emf.createEntityManager();
+            try {
+                TypedQuery<Long> query = shape.createQuery(countEm, values);
+                int count = query.getSingleResult().intValue();
+                putCachedCount(cacheProvider, cacheKey, count);
+                return count;
+            }
+            finally {
+                countEm.close();
+            }
+        }, executor);
+    }
+
+    @Override
+    protected String getCountCacheSignature(Map<String, FilterMeta> filterBy) {
+        String signature = super.getCountCacheSignature(filterBy);
+        if (additionalFilterMeta != null) {
+            Map<String, FilterMeta> additionalFilterBy = new HashMap<>();
+            for (FilterMeta filter : additionalFilterMeta.process()) {
+                additionalFilterBy.put(additionalFilterBy.size() + ":" + filter.getField(), filter);
+            }
+            signature += "+" + super.getCountCacheSignature(additionalFilterBy);
+        }
+        return signature;
+    }
+
+    protected CriteriaQuery<Long> createCountQuery(CriteriaBuilder cb, Map<String, FilterMeta> filterBy) {
+        return createCountQuery(cb, filterBy, null);
+    }
+
+    /**
+     * @param parameters if not <code>null</code>, the filter values are added as parameters instead of literals
+     */
+    protected CriteriaQuery<Long> createCountQuery(CriteriaBuilder cb, Map<String, FilterMeta> filterBy, List<ParameterExpression<?>> parameters) {
         CriteriaQuery<Long> cq = cb.createQuery(Long.class);
         Root<T> root = cq.from(entityClass);
         cq = cq.select(cb.count(root));
 
-        applyFilters(cb, cq, root, filterBy);
+        if (parameters == null) {
+            applyFilters(cb, cq, root, filterBy);
+        }
+        else {
+            applyParameterizedFilters(cb, cq, root, filterBy, parameters);
+        }
+
+        return cq;
+    }
+
+    protected QueryShape resolveCountQueryShape(CriteriaBuilder cb, Map<String, FilterMeta> filterBy) {
+        String shapeKey = getQueryShapeKey(filterBy);
+        if (shapeKey == null) {
+            return new QueryShape(createCountQuery(cb, filterBy), Collections.emptyList());
+        }
 
-        TypedQuery<Long> query = em.createQuery(cq);
-        return query.getSingleResult().intValue();
+        return getQueryShape("count:" + shapeKey, () -> {
+            List<ParameterExpression<?>> parameters = new ArrayList<>();
+            return new QueryShape(createCountQuery(cb, filterBy, parameters), parameters);
+        });
     }
 
     @Override
@@ -114,28 +230,734 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
         EntityManager em = entityManager.get();
 
         CriteriaBuilder cb = em.getCriteriaBuilder();
-        CriteriaQuery<T> cq = cb.createQuery(entityClass);
-        Root<T> root = cq.from(entityClass);
-        cq = cq.select(root);
+        List<String> projectionFields = resolveProjectionFields(sortBy);
+
+        List<SortMeta> keysetSort = keysetPagination ? resolveKeysetSort(em.getMetamodel(), sortBy) : null;
+        String keysetSignature = null;
+        boolean seek = false;
+        if (keysetSort != null) {
+            keysetSignature = getCountCacheSignature(filterBy) + keysetSort.stream()
+                    .map(sort -> sort.getField() + "|" + sort.getOrder())
+                    .collect(Collectors.joining(";", "#", ""));
+            seek = first > 0 && keyset != null && keyset.isNext(first, keysetSignature);
+        }
 
-        applyFilters(cb, cq, root, filterBy);
-        applySort(cb, cq, root, sortBy);
+        QueryShape shape = resolveLoadQueryShape(cb, filterBy, sortBy, projectionFields, keysetSort, seek ? keyset.values : null);
+        List<T> result = executeLoadQuery(em, shape, bindFilterValues(shape, filterBy), seek ? 0 : first, pageSize, projectionFields,
+                PrimeApplicationContext.getCurrentInstance(FacesContext.getCurrentInstance()).getPropertyDescriptorResolver());
+        if (keysetSort != null) {
+            keyset = createKeyset(first, result, keysetSort, keysetSignature);
+        }
+        if (resultEnricher != null) {
+            resultEnricher.accept(result);
+        }
+        return result;
+    }
 
-        TypedQuery<T> query = em.createQuery(cq);
-        query.setFirstResult(first);
+    /**
+     * @return <code>true</code>, see {@link #loadAsync(Executor, int, int, Map, Map)}
+     */
+    @Override
+    public boolean isLoadAsyncSupported() {
+        return true;
+    }
+
+    /**
+     * Builds the query on the calling (request) thread and executes it on a separate {@link EntityManager} on the executor.
+     * Keyset pagination always uses an offset here, as the last row of the previous page is not known.
+     * As the entities are detached when the future completes, required associations should be fetched eagerly,
+     * see {@link Builder#fetch(String...)} or {@link Builder#entityGraph(String)}.
+     */
+    @Override
+    public CompletableFuture<List<T>> loadAsync(Executor executor, int first, int pageSize, Map<String, SortMeta> sortBy,
+            Map<String, FilterMeta> filterBy) {
+        EntityManager em = entityManager.get();
+
+        List<String> projectionFields = resolveProjectionFields(sortBy);
+        List<SortMeta> keysetSort = keysetPagination ? resolveKeysetSort(em.getMetamodel(), sortBy) : null;
+        QueryShape shape = resolveLoadQueryShape(em.getCriteriaBuilder(), filterBy, sortBy, projectionFields, keysetSort, null);
+        List<Object> values = bindFilterValues(shape, filterBy);
+        EntityManagerFactory emf = em.getEntityManagerFactory();
+        PropertyDescriptorResolver propResolver =
+                PrimeApplicationContext.getCurrentInstance(FacesContext.getCurrentInstance()).getPropertyDescriptorResolver();
+
+        return CompletableFuture.supplyAsync(() -> {
+            EntityManager loadEm = emf.createEntityManager();
+            try {
+                List<T> result = executeLoadQuery(loadEm, shape, values, first, pageSize, projectionFields, propResolver);
+                if (resultEnricher != null) {
+                    resultEnricher.accept(result);
+                }
+                return result;
+            }
+            finally {
+                loadEm.close();
+            }
+        }, executor);
+    }
+
+    /**
+     * Builds the count and load queries on the calling (request) thread, like {@link #loadAsync}, and executes them
+     * with a separate {@link EntityManager}, which is cleared after each page and closed with the loader.
+     */
+    @Override
+    public DetachedLoader<T> createDetachedLoader(Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        EntityManager em = entityManager.get();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        QueryShape countShape = resolveCountQueryShape(cb, filterBy);
+        List<Object> countValues = bindFilterValues(countShape, filterBy);
+
+        List<String> projectionFields = resolveProjectionFields(sortBy);
+        List<SortMeta> keysetSort = keysetPagination ? resolveKeysetSort(em.getMetamodel(), sortBy) : null;
+        QueryShape loadShape = resolveLoadQueryShape(cb, filterBy, sortBy, projectionFields, keysetSort, null);
+        List<Object> loadValues = bindFilterValues(loadShape, filterBy);
+
+        EntityManagerFactory emf = em.getEntityManagerFactory();
+        PropertyDescriptorResolver propResolver =
+                PrimeApplicationContext.getCurrentInstance(FacesContext.getCurrentInstance()).getPropertyDescriptorResolver();
+
+        return new DetachedLoader<T>() {
+
+            private EntityManager loaderEm;
+
+            @Override
+            public int count() {
+                TypedQuery<Long> query = countShape.createQuery(getEntityManager(), countValues);
+                return query.getSingleResult().intValue();
+            }
+
+            @Override
+            public List<T> load(int first, int pageSize) {
+                EntityManager loadEm = getEntityManager();
+                List<T> result = executeLoadQuery(loadEm, loadShape, loadValues, first, pageSize, projectionFields, propResolver);
+                if (resultEnricher != null) {
+                    resultEnricher.accept(result);
+                }
+                // the rows are only read once, so don't keep them in the persistence context
+                loadEm.clear();
+                return result;
+            }
+
+            @Override
+            public String getRowKey(T row) {
+                return JPALazyDataModel.this.getRowKey(row);
+            }
+
+            @Override
+            public void close() {
+                if (loaderEm != null) {
+                    loaderEm.close();
+                    loaderEm = null;
+                }
+            }
+
+            private EntityManager getEntityManager() {
+                if (loaderEm == null) {
+                    loaderEm = emf.createEntityManager();
+                }
+                return loaderEm;
+            }
+        };
+    }
+
+    /**
+     * @param seekValues the keyset of the last row, if the query should seek to the next page
+     */
+    protected QueryShape resolveLoadQueryShape(CriteriaBuilder cb, Map<String, FilterMeta> filterBy, Map<String, SortMeta> sortBy,
+                                               List<String> projectionFields, List<SortMeta> keysetSort, Object[] seekValues) {
+        // seeking binds the values of the last row, so it can't be cached
+        String shapeKey = seekValues != null ? null : getQueryShapeKey(filterBy);
+        if (shapeKey == null) {
+            return new QueryShape(
+                    createLoadQuery(cb, filterBy, sortBy, projectionFields, keysetSort, seekValues, null),
+                    Collections.emptyList());
+        }
+
+        String sortKey = sortBy == null ? "" : sortBy.values().stream()
+                .sorted()
+                .filter(sort -> sort.getField() != null && sort.getOrder() != SortOrder.UNSORTED)
+                .map(sort -> sort.getField() + "|" + sort.getOrder())
+                .collect(Collectors.joining(";"));
+        return getQueryShape("load:" + shapeKey + "#" + sortKey + "#" + projectionFields + "#" + (keysetSort != null), () -> {
+            List<ParameterExpression<?>> parameters = new ArrayList<>();
+            return new QueryShape(createLoadQuery(cb, filterBy, sortBy, projectionFields, keysetSort, null, parameters), parameters);
+        });
+    }
+
+    /**
+     * @param projectionFields the selected fields, or <code>null</code> if the shape selects the whole entity
+     * @param propResolver the resolver to map the projection with, as the query might run outside the request thread
+     */
+    protected List<T> executeLoadQuery(EntityManager em, QueryShape shape, List<Object> values, int firstResult, int pageSize,
+                                       List<String> projectionFields, PropertyDescriptorResolver propResolver) {
+        if (projectionFields == null) {
+            return createLoadQuery(em, shape, values, firstResult, pageSize).getResultList();
+        }
+        return mapProjection(projectionFields, createProjectionQuery(em, shape, values, firstResult, pageSize).getResultList(), propResolver);
+    }
+
+    protected TypedQuery<T> createLoadQuery(EntityManager em, QueryShape shape, List<Object> values, int firstResult, int pageSize) {
+        TypedQuery<T> query = shape.createQuery(em, values);
+        query.setFirstResult(firstResult);
         query.setMaxResults(pageSize);
 
+        if (entityGraph != null) {
+            query.setHint("jakarta.persistence.fetchgraph", em.getEntityGraph(entityGraph));
+        }
+
         if (queryEnricher != null) {
             queryEnricher.enrich(query);
         }
+        return query;
+    }
 
-        List<T> result = query.getResultList();
-        if (resultEnricher != null) {
-            resultEnricher.accept(result);
+    protected TypedQuery<Tuple> createProjectionQuery(EntityManager em, QueryShape shape, List<Object> values, int firstResult, int pageSize) {
+        TypedQuery<Tuple> query = shape.createQuery(em, values);
+        query.setFirstResult(firstResult);
+        query.setMaxResults(pageSize);
+
+        if (projectionQueryEnricher != null) {
+            projectionQueryEnricher.enrich(query);
+        }
+        return query;
+    }
+
+    /**
+     * @param seekValues the keyset of the last row, if the query should seek to the next page
+     * @param parameters if not <code>null</code>, the filter values are added as parameters instead of literals
+     */
+    protected CriteriaQuery<?> createLoadQuery(CriteriaBuilder cb, Map<String, FilterMeta> filterBy, Map<String, SortMeta> sortBy,
+                                               List<String> projectionFields, List<SortMeta> keysetSort, Object[] seekValues,
+                                               List<ParameterExpression<?>> parameters) {
+        CriteriaQuery<?> cq;
+        Root<T> root;
+        if (projectionFields == null) {
+            CriteriaQuery<T> entityQuery = cb.createQuery(entityClass);
+            root = entityQuery.from(entityClass);
+            entityQuery.select(root);
+            applyFetches(root);
+            applyLoadFilters(cb, entityQuery, root, filterBy, parameters);
+            applySort(cb, entityQuery, root, sortBy);
+            cq = entityQuery;
+        }
+        else {
+            CriteriaQuery<Tuple> tupleQuery = cb.createTupleQuery();
+            root = tupleQuery.from(entityClass);
+            // selected first, so the filters and sorts reuse these joins, see #resolveFieldExpression
+            List<Selection<?>> selections = new ArrayList<>(projectionFields.size());
+            for (String field : projectionFields) {
+                selections.add(resolveFieldExpression(cb, tupleQuery, root, field, JoinType.LEFT));
+            }
+            tupleQuery.multiselect(selections);
+            applyLoadFilters(cb, tupleQuery, root, filterBy, parameters);
+            List<Order> orders = createOrders(cb, tupleQuery, root, sortBy);
+            if (!orders.isEmpty()) {
+                tupleQuery.orderBy(orders);
+            }
+            cq = tupleQuery;
+        }
+
+        if (keysetSort != null) {
+            applyKeysetTieBreaker(cb, cq, root);
+            if (seekValues != null) {
+                applyKeyset(cb, cq, root, keysetSort, seekValues);
+            }
+        }
+
+        return cq;
+    }
+
+    protected void applyLoadFilters(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<T> root, Map<String, FilterMeta> filterBy,
+                                    List<ParameterExpression<?>> parameters) {
+        if (parameters == null) {
+            applyFilters(cb, cq, root, filterBy);
+        }
+        else {
+            applyParameterizedFilters(cb, cq, root, filterBy, parameters);
+        }
+    }
+
+    protected QueryShape getQueryShape(String shapeKey, Supplier<QueryShape> shapeSupplier) {
+        if (queryShapes == null) {
+            queryShapes = Collections.synchronizedMap(new LimitedSizeHashMap<>(queryShapeCacheSize));
+        }
+        // no computeIfAbsent, as building the shape might resolve other shapes
+        QueryShape shape = queryShapes.get(shapeKey);
+        if (shape == null) {
+            shape = shapeSupplier.get();
+            queryShapes.put(shapeKey, shape);
+        }
+        return shape;
+    }
+
+    /**
+     * Creates a key for the shape of the filters (filtered fields and their match modes),
+     * or <code>null</code> if the filters can't be expressed with parameters only.
+     */
+    protected String getQueryShapeKey(Map<String, FilterMeta> filterBy) {
+        if (queryShapeCacheSize <= 0 || filterEnricher != null || sortEnricher != null || additionalFilterMeta != null) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder();
+        for (FilterMeta filter : getParameterizedFilters(filterBy)) {
+            if (filter.getMatchMode() == null || filter.getMatchMode() == MatchMode.GLOBAL) {
+                return null;
+            }
+            key.append(filter.getField()).append('|').append(filter.getMatchMode());
+            if (filter.getMatchMode() == MatchMode.EXACT && isWildcardValue(filter)) {
+                key.append("|wildcard");
+            }
+            key.append(';');
+        }
+
+        FilterMeta globalFilter = getParameterizedGlobalFilter(filterBy);
+        if (globalFilter != null) {
+            if (globalFilterPredicate != null) {
+                return null;
+            }
+            key.append("global:").append(resolveGlobalFilterFields(FacesContext.getCurrentInstance()));
+        }
+
+        return key.toString();
+    }
+
+    protected Collection<FilterMeta> getParameterizedFilters(Map<String, FilterMeta> filterBy) {
+        // sorted, so the parameters are always created and bound in the same order;
+        // keyed by field and column, as multiple columns can filter the same field
+        Map<String, FilterMeta> filters = new TreeMap<>();
+        for (Map.Entry<String, FilterMeta> entry : filterBy.entrySet()) {
+            FilterMeta filter = entry.getValue();
+            if (filter.getField() == null || filter.getFilterValue() == null || filter.isGlobalFilter()) {
+                continue;
+            }
+            filters.put(filter.getField() + "|" + entry.getKey(), filter);
+        }
+        return filters.values();
+    }
+
+    protected FilterMeta getParameterizedGlobalFilter(Map<String, FilterMeta> filterBy) {
+        FilterMeta globalFilter = filterBy.get(FilterMeta.GLOBAL_FILTER_KEY);
+        if (globalFilter != null && globalFilter.isActive() && !(globalFilter.getConstraint() instanceof FunctionFilterConstraint)) {
+            return globalFilter;
+        }
+        return null;
+    }
+
+    /**
+     * Same as {@link #applyFilters(CriteriaBuilder, CriteriaQuery, Root, Map)} but with parameters instead of literal values,
+     * which are bound per request via {@link #bindFilterValues(QueryShape, Map)}.
+     * Only used if {@link #getQueryShapeKey(Map)} supports the current filters.
+     */
+    protected void applyParameterizedFilters(CriteriaBuilder cb,
+                                             CriteriaQuery<?> cq,
+                                             Root<T> root,
+                                             Map<String, FilterMeta> filterBy,
+                                             List<ParameterExpression<?>> parameters) {
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        PropertyDescriptorResolver propResolver =
+                PrimeApplicationContext.getCurrentInstance(FacesContext.getCurrentInstance()).getPropertyDescriptorResolver();
+        for (FilterMeta filter : getParameterizedFilters(filterBy)) {
+            PropertyDescriptor pd = propResolver.get(entityClass, filter.getField());
+            Expression fieldExpression = resolveFieldExpression(cb, cq, root, filter.getField());
+            predicates.add(createParameterizedPredicate(filter, pd, cb, fieldExpression, parameters));
+        }
+
+        FilterMeta globalFilter = getParameterizedGlobalFilter(filterBy);
+        if (globalFilter != null) {
+            Collection<String> fields = resolveGlobalFilterFields(FacesContext.getCurrentInstance());
+            if (!fields.isEmpty()) {
+                ParameterExpression<String> parameter = cb.parameter(String.class);
+                parameters.add(parameter);
+
+                List<Predicate> globalPredicates = new ArrayList<>(fields.size());
+                for (String field : fields) {
+                    Expression<String> fieldExpression = resolveFieldExpression(cb, cq, root, field, JoinType.LEFT).as(String.class);
+                    globalPredicates.add(like(cb, cb.upper(fieldExpression), parameter));
+                }
+                predicates.add(cb.or(globalPredicates.toArray(new Predicate[0])));
+            }
+        }
+
+        if (!predicates.isEmpty()) {
+            cq.where(
+                cb.and(predicates.toArray(new Predicate[0])));
+        }
+    }
+
+    protected Predicate createParameterizedPredicate(FilterMeta filter,
+                                                     PropertyDescriptor pd,
+                                                     CriteriaBuilder cb,
+                                                     Expression fieldExpression,
+                                                     List<ParameterExpression<?>> parameters) {
+
+        boolean isCaseSensitive = caseSensitive || !(CharSequence.class.isAssignableFrom(pd.getPropertyType()) || pd.getPropertyType() == char.class);
+        Supplier<Expression<String>> fieldExpressionAsString = () -> isCaseSensitive
+                ? fieldExpression.as(String.class)
+                : cb.upper(fieldExpression.as(String.class));
+        Supplier<ParameterExpression<String>> stringParameter = () -> addParameter(cb, parameters, String.class);
+        Supplier<ParameterExpression> valueParameter = () -> addParameter(cb, parameters, MethodType.methodType(pd.getPropertyType()).wrap().returnType());
+
+        switch (filter.getMatchMode()) {
+            case STARTS_WITH:
+            case ENDS_WITH:
+            case CONTAINS:
+                return cb.like(fieldExpressionAsString.get(), stringParameter.get());
+            case NOT_STARTS_WITH:
+            case NOT_ENDS_WITH:
+            case NOT_CONTAINS:
+                return cb.notLike(fieldExpressionAsString.get(), stringParameter.get());
+            case EXACT:
+                if (isWildcardValue(filter)) {
+                    return cb.like(fieldExpressionAsString.get(), stringParameter.get());
+                }
+                else {
+                    return cb.equal(fieldExpressionAsString.get(), stringParameter.get());
+                }
+            case EQUALS:
+                return cb.equal(fieldExpression, valueParameter.get());
+            case NOT_EXACT:
+            case NOT_EQUALS:
+                return cb.notEqual(fieldExpression, valueParameter.get());
+            case LESS_THAN:
+                return cb.lessThan(fieldExpression, valueParameter.get());
+            case LESS_THAN_EQUALS:
+                return cb.lessThanOrEqualTo(fieldExpression, valueParameter.get());
+            case GREATER_THAN:
+                return cb.greaterThan(fieldExpression, valueParameter.get());
+            case GREATER_THAN_EQUALS:
+                return cb.greaterThanOrEqualTo(fieldExpression, valueParameter.get());
+            case IN:
+                return fieldExpression.in(addParameter(cb, parameters, List.class));
+            case NOT_IN:
+                return fieldExpression.in(addParameter(cb, parameters, List.class)).not();
+            case BETWEEN:
+                return cb.between(fieldExpression, valueParameter.get(), valueParameter.get());
+            case NOT_BETWEEN:
+                return cb.between(fieldExpression, valueParameter.get(), valueParameter.get()).not();
+            default:
+                throw new UnsupportedOperationException("MatchMode." + filter.getMatchMode() + " can't be parameterized!");
+        }
+    }
+
+    protected <P> ParameterExpression<P> addParameter(CriteriaBuilder cb, List<ParameterExpression<?>> parameters, Class<P> type) {
+        ParameterExpression<P> parameter = cb.parameter(type);
+        parameters.add(parameter);
+        return parameter;
+    }
+
+    /**
+     * Resolves the values of the parameters created by {@link #applyParameterizedFilters}, in the same order.
+     */
+    protected List<Object> bindFilterValues(QueryShape shape, Map<String, FilterMeta> filterBy) {
+        if (shape.parameters.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        FacesContext context = FacesContext.getCurrentInstance();
+        Locale locale = LocaleUtils.getCurrentLocale(context);
+        PropertyDescriptorResolver propResolver = PrimeApplicationContext.getCurrentInstance(context).getPropertyDescriptorResolver();
+
+        List<Object> values = new ArrayList<>(shape.parameters.size());
+        for (FilterMeta filter : getParameterizedFilters(filterBy)) {
+            PropertyDescriptor pd = propResolver.get(entityClass, filter.getField());
+            Object filterValue = convertFilterValue(filter, pd);
+
+            switch (filter.getMatchMode()) {
+                case STARTS_WITH:
+                case NOT_STARTS_WITH:
+                    values.add(getStringFilterValue(filterValue, locale) + "%");
+                    break;
+                case ENDS_WITH:
+                case NOT_ENDS_WITH:
+                    values.add("%" + getStringFilterValue(filterValue, locale));
+                    break;
+                case CONTAINS:
+                case NOT_CONTAINS:
+                    values.add("%" + getStringFilterValue(filterValue, locale) + "%");
+                    break;
+                case EXACT:
+                    values.add(getStringFilterValue(filterValue, locale));
+                    break;
+                case IN:
+                case NOT_IN:
+                    values.add(new ArrayList<>(asCollection(filterValue)));
+                    break;
+                case BETWEEN:
+                case NOT_BETWEEN:
+                    Iterator<Object> iterBetween = asCollection(filterValue).iterator();
+                    values.add(iterBetween.next());
+                    values.add(iterBetween.next());
+                    break;
+                default:
+                    values.add(filterValue);
+                    break;
+            }
+        }
+
+        if (getParameterizedGlobalFilter(filterBy) != null && values.size() < shape.parameters.size()) {
+            values.add(getGlobalFilterLikeValue(filterBy.get(FilterMeta.GLOBAL_FILTER_KEY), locale));
+        }
+
+        return values;
+    }
+
+    protected Object convertFilterValue(FilterMeta filter, PropertyDescriptor pd) {
+        Object filterValue = filter.getFilterValue();
+        Class<?> filterValueClass = filterValue.getClass();
+        if (filterValueClass.isArray() || Collection.class.isAssignableFrom(filterValueClass)) {
+            return filterValue;
+        }
+        return ComponentUtils.convertToType(filterValue, pd.getPropertyType(), LOGGER);
+    }
+
+    protected Collection<Object> asCollection(Object filterValue) {
+        return filterValue.getClass().isArray()
+                ? Arrays.asList((Object[]) filterValue)
+                : (Collection<Object>) filterValue;
+    }
+
+    protected boolean isWildcardValue(FilterMeta filter) {
+        if (!wildcardSupport) {
+            return false;
+        }
+        String value = getStringFilterValue(filter.getFilterValue(), LocaleUtils.getCurrentLocale(FacesContext.getCurrentInstance()));
+        return value.contains("%") || value.contains("_");
+    }
+
+    /**
+     * @return the fields to select, or <code>null</code> if the whole entity should be loaded
+     */
+    protected List<String> resolveProjectionFields(Map<String, SortMeta> sortBy) {
+        if (!projection) {
+            return null;
+        }
+
+        Set<String> fields = new LinkedHashSet<>();
+        if (projectionFields != null && !projectionFields.isEmpty()) {
+            fields.addAll(projectionFields);
+        }
+        else {
+            // derive from the rendered columns of the current table
+            FacesContext context = FacesContext.getCurrentInstance();
+            UIComponent source = context == null ? null : UIComponent.getCurrentComponent(context);
+            if (source instanceof UITable) {
+                for (UIColumn column : ((UITable<?>) source).getColumns()) {
+                    if (column.isRendered() && column.getField() != null) {
+                        fields.add(column.getField());
+                    }
+                }
+            }
+        }
+
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        // required for selection and keyset pagination
+        if (rowKeyField != null) {
+            fields.add(rowKeyField);
+        }
+        if (sortBy != null) {
+            for (SortMeta sort : sortBy.values()) {
+                if (sort.getField() != null && sort.getOrder() != SortOrder.UNSORTED) {
+                    fields.add(sort.getField());
+                }
+            }
+        }
+        return new ArrayList<>(fields);
+    }
+
+    protected List<T> mapProjection(List<String> fields, List<Tuple> tuples) {
+        return mapProjection(fields, tuples,
+                PrimeApplicationContext.getCurrentInstance(FacesContext.getCurrentInstance()).getPropertyDescriptorResolver());
+    }
+
+    /**
+     * @param propResolver the resolver to create the entities with, as the mapping might run outside the request thread
+     */
+    protected List<T> mapProjection(List<String> fields, List<Tuple> tuples, PropertyDescriptorResolver propResolver) {
+        List<T> result = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                values.put(fields.get(i), tuple.get(i));
+            }
+            result.add(projectionMapper == null ? newEntity(values, propResolver) : projectionMapper.map(values));
         }
         return result;
     }
 
+    /**
+     * Creates a new (non-managed) entity instance with the given values, nested objects are instantiated if required.
+     */
+    protected T newEntity(Map<String, Object> values) {
+        return newEntity(values, PrimeApplicationContext.getCurrentInstance(FacesContext.getCurrentInstance()).getPropertyDescriptorResolver());
+    }
+
+    protected T newEntity(Map<String, Object> values, PropertyDescriptorResolver propResolver) {
+        try {
+            T obj = entityClass.getConstructor().newInstance();
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                String field = entry.getKey();
+                Object parent = obj;
+                int dot;
+                while ((dot = field.indexOf('.')) > 0) {
+                    String property = field.substring(0, dot);
+                    Object nested = propResolver.getValue(parent, property);
+                    if (nested == null) {
+                        nested = propResolver.get(parent.getClass(), property).getPropertyType().getConstructor().newInstance();
+                        propResolver.setValue(parent, property, nested);
+                    }
+                    parent = nested;
+                    field = field.substring(dot + 1);
+                }
+                propResolver.setValue(parent, field, entry.getValue());
+            }
+            return obj;
+        }
+        catch (ReflectiveOperationException e) {
+            throw new FacesException("Could not map projection to " + entityClass.getName() + ", define a projectionMapper!", e);
+        }
+    }
+
+    protected void applyFetches(Root<T> root) {
+        if (fetches == null) {
+            return;
+        }
+
+        for (String association : fetches) {
+            Fetch<?, ?> fetch = null;
+            for (String property : association.split("\\.")) {
+                fetch = fetch == null ? root.fetch(property, JoinType.LEFT) : fetch.fetch(property, JoinType.LEFT);
+            }
+        }
+    }
+
+    /**
+     * Keyset pagination requires a deterministic order, which can only be guaranteed for plain field sorts
+     * with the row key as final tie-breaker.
+     * NULLs are neither greater nor less than the keyset and their position in the order depends on the database,
+     * so all sorted fields must be non-optional, see {@link #isKeysetField(Metamodel, String)}.
+     *
+     * @return the active sorts in the order of {@link #applySort}, or <code>null</code> if keyset pagination isn't possible
+     */
+    protected List<SortMeta> resolveKeysetSort(Metamodel metamodel, Map<String, SortMeta> sortBy) {
+        if (rowKeyField == null || sortEnricher != null) {
+            return null;
+        }
+
+        List<SortMeta> keysetSort = new ArrayList<>();
+        if (sortBy != null) {
+            for (SortMeta sort : sortBy.values().stream().sorted().collect(Collectors.toList())) {
+                if (sort.getOrder() == SortOrder.UNSORTED) {
+                    continue;
+                }
+                if (sort.getField() == null || sort.getFunction() != null || !isKeysetField(metamodel, sort.getField())) {
+                    return null;
+                }
+                keysetSort.add(sort);
+            }
+        }
+        return keysetSort;
+    }
+
+    /**
+     * @return if the field and all associations on its path are non-optional singular attributes,
+     *         e.g. <code>@Basic(optional = false)</code>, <code>@ManyToOne(optional = false)</code> or primitives
+     */
+    protected boolean isKeysetField(Metamodel metamodel, String field) {
+        try {
+            ManagedType<?> type = metamodel.managedType(entityClass);
+            String[] properties = field.split("\\.");
+            for (int i = 0; i < properties.length; i++) {
+                Attribute<?, ?> attribute = type.getAttribute(properties[i]);
+                if (!(attribute instanceof SingularAttribute) || ((SingularAttribute<?, ?>) attribute).isOptional()) {
+                    return false;
+                }
+
+                Type<?> attributeType = ((SingularAttribute<?, ?>) attribute).getType();
+                if (i < properties.length - 1) {
+                    if (!(attributeType instanceof ManagedType)) {
+                        return false;
+                    }
+                    type = (ManagedType<?>) attributeType;
+                }
+            }
+            return true;
+        }
+        catch (IllegalArgumentException e) {
+            // not a JPA attribute
+            return false;
+        }
+    }
+
+    protected void applyKeysetTieBreaker(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<T> root) {
+        List<Order> orders = new ArrayList<>(cq.getOrderList());
+        orders.add(cb.asc(root.get(rowKeyField)));
+        cq.orderBy(orders);
+    }
+
+    /**
+     * Restricts the query to the rows after the given keyset, e.g. for sorts a ASC, b DESC and the row key id:
+     * <code>(a &gt; :a) OR (a = :a AND b &lt; :b) OR (a = :a AND b = :b AND id &gt; :id)</code>.
+     * The expressions are taken from the order of the query (see {@link #applySort} and {@link #applyKeysetTieBreaker}),
+     * so the joins of the sorted fields are reused.
+     */
+    protected void applyKeyset(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<T> root, List<SortMeta> keysetSort, Object[] values) {
+        List<Order> orders = cq.getOrderList();
+        if (orders.size() != keysetSort.size() + 1) {
+            throw new IllegalStateException("The order of the query doesn't match the keyset: " + keysetSort);
+        }
+
+        List<Predicate> seek = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            List<Predicate> predicates = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                predicates.add(cb.equal(orders.get(j).getExpression(), values[j]));
+            }
+
+            Expression expression = orders.get(i).getExpression();
+            predicates.add(orders.get(i).isAscending()
+                    ? cb.greaterThan(expression, (Comparable) values[i])
+                    : cb.lessThan(expression, (Comparable) values[i]));
+
+            seek.add(cb.and(predicates.toArray(new Predicate[0])));
+        }
+
+        Predicate keysetPredicate = cb.or(seek.toArray(new Predicate[0]));
+        Predicate restriction = cq.getRestriction();
+        cq.where(restriction == null ? keysetPredicate : cb.and(restriction, keysetPredicate));
+    }
+
+    protected Keyset createKeyset(int first, List<T> result, List<SortMeta> keysetSort, String signature) {
+        if (result.isEmpty()) {
+            return null;
+        }
+
+        PropertyDescriptorResolver propResolver =
+                PrimeApplicationContext.getCurrentInstance(FacesContext.getCurrentInstance()).getPropertyDescriptorResolver();
+
+        T last = result.get(result.size() - 1);
+        Object[] values = new Object[keysetSort.size() + 1];
+        for (int i = 0; i < keysetSort.size(); i++) {
+            values[i] = propResolver.getValue(last, keysetSort.get(i).getField());
+        }
+        values[keysetSort.size()] = propResolver.getValue(last, rowKeyField);
+
+        // NULLs can't be compared in SQL, so we must fallback to offset pagination
+        for (Object value : values) {
+            if (!(value instanceof Comparable)) {
+                return null;
+            }
+        }
+
+        return new Keyset(first + result.size(), signature, values);
+    }
+
     protected void applyFilters(CriteriaBuilder cb,
                                 CriteriaQuery<?> cq,
                                 Root<T> root,
@@ -153,6 +975,14 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
             applyFiltersFromFilterMeta(entityClass, additionalFilterMeta.process(), cb, cq, root, predicates);
         }
 
+        FilterMeta globalFilter = filterBy.get(FilterMeta.GLOBAL_FILTER_KEY);
+        if (globalFilter != null && globalFilter.isActive() && !(globalFilter.getConstraint() instanceof FunctionFilterConstraint)) {
+            Predicate globalFilterPredicate = createGlobalFilterPredicate(cb, cq, root, globalFilter);
+            if (globalFilterPredicate != null) {
+                predicates.add(globalFilterPredicate);
+            }
+        }
+
         if (!predicates.isEmpty()) {
             cq.where(
                 cb.and(predicates.toArray(new Predicate[0])));
@@ -191,6 +1021,68 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
         }
     }
 
+    /**
+     * Creates an OR of case insensitive "contains" predicates over all global filter fields,
+     * or over the custom {@link GlobalFilterPredicate}s if configured (e.g. for full-text search functions of the database).
+     */
+    protected Predicate createGlobalFilterPredicate(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<T> root, FilterMeta globalFilter) {
+        FacesContext context = FacesContext.getCurrentInstance();
+        Locale locale = LocaleUtils.getCurrentLocale(context);
+
+        Collection<String> fields = resolveGlobalFilterFields(context);
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        String filterValue = Objects.toString(globalFilter.getFilterValue(), Constants.EMPTY_STRING);
+        String likeValue = getGlobalFilterLikeValue(globalFilter, locale);
+
+        List<Predicate> predicates = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            // a row must still match via its other fields, if an association of one field is null
+            Expression<String> fieldExpression = resolveFieldExpression(cb, cq, root, field, JoinType.LEFT).as(String.class);
+            predicates.add(globalFilterPredicate == null
+                    ? like(cb, cb.upper(fieldExpression), likeValue)
+                    : globalFilterPredicate.create(cb, root, fieldExpression, filterValue));
+        }
+
+        return cb.or(predicates.toArray(new Predicate[0]));
+    }
+
+    /**
+     * @return the upper case "contains" pattern of the global filter value
+     */
+    protected String getGlobalFilterLikeValue(FilterMeta globalFilter, Locale locale) {
+        String value = Objects.toString(globalFilter.getFilterValue(), Constants.EMPTY_STRING).toUpperCase(locale);
+        return "%" + toLikePattern(value) + "%";
+    }
+
+    /**
+     * @return the configured global filter fields or all filterable string fields of the current table
+     */
+    protected Collection<String> resolveGlobalFilterFields(FacesContext context) {
+        if (globalFilterFields != null) {
+            return globalFilterFields;
+        }
+
+        List<String> fields = new ArrayList<>();
+        UIComponent source = context == null ? null : UIComponent.getCurrentComponent(context);
+        if (source instanceof UITable) {
+            PropertyDescriptorResolver propResolver = PrimeApplicationContext.getCurrentInstance(context).getPropertyDescriptorResolver();
+            for (FilterMeta filter : ((UITable<?>) source).getFilterByAsMap().values()) {
+                if (filter.getField() == null || filter.isGlobalFilter() || !filter.isFilterByGenerated()) {
+                    continue;
+                }
+
+                PropertyDescriptor pd = propResolver.get(entityClass, filter.getField());
+                if (CharSequence.class.isAssignableFrom(pd.getPropertyType())) {
+                    fields.add(filter.getField());
+                }
+            }
+        }
+        return fields;
+    }
+
     protected Predicate createPredicate(FilterMeta filter,
                                         PropertyDescriptor pd,
                                         Root<T> root,
@@ -258,7 +1150,7 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
                 return cb.and(cb.greaterThanOrEqualTo(fieldExpression, (Comparable) iterNotBetween.next()),
                     cb.lessThanOrEqualTo(fieldExpression, (Comparable) iterNotBetween.next())).not();
             case GLOBAL:
-                throw new UnsupportedOperationException("MatchMode.GLOBAL currently not supported!");
+                throw new UnsupportedOperationException("MatchMode.GLOBAL is only supported via #createGlobalFilterPredicate!");
         }
 
         return null;
@@ -274,11 +1166,54 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
         return value;
     }
 
+    /**
+     * Translates the global filter value into a LIKE pattern: without {@link #wildcardSupport}, <code>%</code> and <code>_</code>
+     * are escaped (with <code>!</code>, as a backslash is an escape character of string literals on some databases), so they only match themselves.
+     */
+    protected String toLikePattern(String value) {
+        if (wildcardSupport) {
+            return value.replace("*", "%").replace("?", "_");
+        }
+
+        StringBuilder pattern = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE_CHAR) {
+                pattern.append(LIKE_ESCAPE_CHAR);
+            }
+            pattern.append(c);
+        }
+        return pattern.toString();
+    }
+
+    /**
+     * LIKE predicate for a pattern of {@link #toLikePattern(String)}.
+     */
+    protected Predicate like(CriteriaBuilder cb, Expression<String> expression, Expression<String> pattern) {
+        return wildcardSupport ? cb.like(expression, pattern) : cb.like(expression, pattern, LIKE_ESCAPE_CHAR);
+    }
+
+    protected Predicate like(CriteriaBuilder cb, Expression<String> expression, String pattern) {
+        return wildcardSupport ? cb.like(expression, pattern) : cb.like(expression, pattern, LIKE_ESCAPE_CHAR);
+    }
+
     protected void applySort(CriteriaBuilder cb,
                              CriteriaQuery<T> cq,
                              Root<T> root,
                              Map<String, SortMeta> sortBy) {
 
+        List<Order> orders = createOrders(cb, cq, root, sortBy);
+
+        if (sortEnricher != null) {
+            sortEnricher.enrich(sortBy, cb, cq, root, orders);
+        }
+
+        if (!orders.isEmpty()) {
+            cq.orderBy(orders);
+        }
+    }
+
+    protected List<Order> createOrders(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<T> root, Map<String, SortMeta> sortBy) {
         List<Order> orders = new ArrayList<>();
 
         if (sortBy != null) {
@@ -292,16 +1227,14 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
             }
         }
 
-        if (sortEnricher != null) {
-            sortEnricher.enrich(sortBy, cb, cq, root, orders);
-        }
-
-        if (!orders.isEmpty()) {
-            cq.orderBy(orders);
-        }
+        return orders;
     }
 
     protected Expression resolveFieldExpression(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<T> root, String fieldName) {
+        return resolveFieldExpression(cb, cq, root, fieldName, JoinType.INNER);
+    }
+
+    protected Expression resolveFieldExpression(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<T> root, String fieldName, JoinType joinType) {
         Join<?, ?> join = null;
 
         // join if required; e.g. company.name -> join to company and get "name" field from the joined table
@@ -309,17 +1242,33 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
             String currentName = fieldName.substring(0, fieldName.indexOf("."));
             fieldName = fieldName.substring(currentName.length() + 1);
 
-            if (join == null) {
-                join = root.join(currentName, JoinType.INNER);
+            From<?, ?> parent = join == null ? root : join;
+            join = findJoin(parent, currentName, joinType);
+            if (join == null && joinType == JoinType.INNER && Tuple.class.equals(cq.getResultType())) {
+                // a projection selects nested fields via left joins, which also serve filters and sorts:
+                // filter predicates never match NULLs and keyset pagination only sorts non-optional associations
+                join = findJoin(parent, currentName, JoinType.LEFT);
             }
-            else {
-                join = join.join(currentName, JoinType.INNER);
+            if (join == null) {
+                join = parent.join(currentName, joinType);
             }
         }
 
         return join == null ? root.get(fieldName) : join.get(fieldName);
     }
 
+    /**
+     * Reuses an existing join, so e.g. a filter and the global filter on fields of the same association don't join it twice.
+     */
+    protected Join<?, ?> findJoin(From<?, ?> parent, String attributeName, JoinType joinType) {
+        for (Join<?, ?> join : parent.getJoins()) {
+            if (join.getJoinType() == joinType && attributeName.equals(join.getAttribute().getName())) {
+                return join;
+            }
+        }
+        return null;
+    }
+
     @Override
     public T getRowData(String rowKey) {
         if (rowKeyConverter != null) {
@@ -401,6 +1350,14 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
             return this;
         }
 
+        /**
+         * Translates <code>*</code> and <code>?</code> of string filter values into the LIKE wildcards <code>%</code> and <code>_</code>.
+         * Otherwise, <code>%</code> and <code>_</code> of the global filter value are escaped and match literally,
+         * while column filter values are used as they are.
+         *
+         * @param wildcardSupport whether wildcards are supported
+         * @return the builder
+         */
         public Builder<T, TM> wildcardSupport(boolean wildcardSupport) {
             model.wildcardSupport = wildcardSupport;
             return this;
@@ -426,6 +1383,152 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
             return this;
         }
 
+        /**
+         * Runs the count query concurrently to the load query, see {@link LazyDataModel#setConcurrentCount(boolean)}.
+         * The count query uses its own {@link EntityManager}, created from the {@link EntityManagerFactory}.
+         *
+         * @param concurrentCount if the count query should run concurrently
+         * @return the builder
+         */
+        public Builder<T, TM> concurrentCount(boolean concurrentCount) {
+            model.setConcurrentCount(concurrentCount);
+            return this;
+        }
+
+        /**
+         * Caches the count query results per filter signature, see {@link LazyDataModel#setCountCacheName(String)}.
+         * Call {@link LazyDataModel#invalidateCountCache()} after modifying the entities.
+         *
+         * @param cacheName the name of the count cache, e.g. the entity name
+         * @param ttl the time to live of cached counts, may be <code>null</code>
+         * @return the builder
+         */
+        public Builder<T, TM> countCache(String cacheName, Duration ttl) {
+            model.setCountCacheName(cacheName);
+            model.setCountCacheTtl(ttl);
+            return this;
+        }
+
+        /**
+         * Separates the cached counts, e.g. per tenant or user, see {@link LazyDataModel#setCountCacheDiscriminator}.
+         *
+         * @param discriminator supplies the discriminator on each count
+         * @return the builder
+         */
+        public Builder<T, TM> countCacheDiscriminator(Callbacks.SerializableSupplier<?> discriminator) {
+            model.setCountCacheDiscriminator(discriminator);
+            return this;
+        }
+
+        /**
+         * Enables keyset (seek) pagination: when the next page is requested (e.g. paging forward or live/virtual scrolling),
+         * the rows are restricted to the ones after the last row of the previous page instead of skipping <code>first</code> rows.
+         * Random page jumps still use offset pagination.
+         * Requires a <code>rowKeyField</code> and doesn't apply when sorting via <code>sortEnricher</code>, sort functions
+         * or by optional (nullable) fields, as NULLs can't be compared to the last row.
+         *
+         * @param keysetPagination if keyset pagination should be used
+         * @return the builder
+         */
+        public Builder<T, TM> keysetPagination(boolean keysetPagination) {
+            model.keysetPagination = keysetPagination;
+            return this;
+        }
+
+        /**
+         * Defines the fields used for the global filter.
+         * Per default all filterable string fields of the table are used.
+         *
+         * @param globalFilterFields the fields, nested fields (e.g. <code>company.name</code>) are joined
+         * @return the builder
+         */
+        public Builder<T, TM> globalFilterFields(String... globalFilterFields) {
+            model.globalFilterFields = Arrays.asList(globalFilterFields);
+            return this;
+        }
+
+        /**
+         * Replaces the default case insensitive LIKE predicate of the global filter,
+         * e.g. to use a full-text search function of the database.
+         *
+         * @param globalFilterPredicate creates the predicate per global filter field
+         * @return the builder
+         */
+        public Builder<T, TM> globalFilterPredicate(GlobalFilterPredicate<T> globalFilterPredicate) {
+            model.globalFilterPredicate = globalFilterPredicate;
+            return this;
+        }
+
+        /**
+         * Only selects the given fields instead of the whole entity.
+         * Without fields, the fields of the rendered columns of the current table are used.
+         * The <code>rowKeyField</code> and the sorted fields are always selected.
+         * The results are mapped to new non-managed entity instances, or via {@link #projectionMapper(ProjectionMapper)}.
+         * Can't be combined with a <code>sortEnricher</code> or <code>queryEnricher</code>,
+         * see {@link #projectionQueryEnricher(QueryEnricher)}.
+         *
+         * @param fields the fields to select, nested fields (e.g. <code>company.name</code>) are left joined
+         * @return the builder
+         */
+        public Builder<T, TM> projection(String... fields) {
+            model.projection = true;
+            model.projectionFields = Arrays.asList(fields);
+            return this;
+        }
+
+        public Builder<T, TM> projectionMapper(ProjectionMapper<T> projectionMapper) {
+            model.projectionMapper = projectionMapper;
+            return this;
+        }
+
+        /**
+         * Same as {@link #queryEnricher(QueryEnricher)} but for the tuple query of a {@link #projection(String...)}.
+         *
+         * @param projectionQueryEnricher the enricher of the tuple query
+         * @return the builder
+         */
+        public Builder<T, TM> projectionQueryEnricher(QueryEnricher<Tuple> projectionQueryEnricher) {
+            model.projectionQueryEnricher = projectionQueryEnricher;
+            return this;
+        }
+
+        /**
+         * Applies the named entity graph as fetch graph to the load query.
+         *
+         * @param entityGraph the name of the entity graph
+         * @return the builder
+         */
+        public Builder<T, TM> entityGraph(String entityGraph) {
+            model.entityGraph = entityGraph;
+            return this;
+        }
+
+        /**
+         * Fetches the given associations within the load query via left fetch joins, to avoid N+1 queries while rendering.
+         * Should only be used for single-valued associations, as the database can't paginate collection fetches.
+         *
+         * @param associations the associations, nested associations are separated with a dot (e.g. <code>company.address</code>)
+         * @return the builder
+         */
+        public Builder<T, TM> fetch(String... associations) {
+            model.fetches = Arrays.asList(associations);
+            return this;
+        }
+
+        /**
+         * Caches the criteria queries per shape (filtered fields, match modes, sorts) and only binds the filter values per request,
+         * which avoids rebuilding the criteria and allows the JPA provider to reuse its translation.
+         * Not applied if a <code>filterEnricher</code>, <code>sortEnricher</code>, <code>additionalFilterMeta</code>
+         * or <code>globalFilterPredicate</code> is used.
+         *
+         * @param queryShapeCacheSize the maximum number of cached query shapes, 0 disables the cache
+         * @return the builder
+         */
+        public Builder<T, TM> queryShapeCache(int queryShapeCacheSize) {
+            model.queryShapeCacheSize = queryShapeCacheSize;
+            return this;
+        }
+
         public Builder<T, TM> resultEnricher(Callbacks.SerializableConsumer<List<T>> resultEnricher) {
             model.resultEnricher = resultEnricher;
             return this;
@@ -435,6 +1538,13 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
             Objects.requireNonNull(model.entityClass, "entityClass not set");
             Objects.requireNonNull(model.entityManager, "entityManager not set");
 
+            if (model.projection && model.sortEnricher != null) {
+                throw new FacesException("projection can't be combined with a sortEnricher!");
+            }
+            if (model.projection && model.queryEnricher != null) {
+                throw new FacesException("projection can't be combined with a queryEnricher, use a projectionQueryEnricher!");
+            }
+
             // some notes about required options for the rowKey to implement #getRowData/#getRowKey,
             // which is actually mandatory as required for selection
             // - rowKeyConverter
@@ -501,6 +1611,51 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
         }
     }
 
+    /**
+     * A criteria query with parameters instead of literal filter values, which can be reused for all requests
+     * with the same filtered fields, match modes and sorts.
+     */
+    protected static class QueryShape {
+
+        protected final CriteriaQuery<?> query;
+        protected final List<ParameterExpression<?>> parameters;
+
+        public QueryShape(CriteriaQuery<?> query, List<ParameterExpression<?>> parameters) {
+            this.query = query;
+            this.parameters = parameters;
+        }
+
+        public <X> TypedQuery<X> createQuery(EntityManager em, List<Object> values) {
+            TypedQuery<X> typedQuery = em.createQuery((CriteriaQuery<X>) query);
+            for (int i = 0; i < parameters.size(); i++) {
+                typedQuery.setParameter((ParameterExpression<Object>) parameters.get(i), values.get(i));
+            }
+            return typedQuery;
+        }
+    }
+
+    /**
+     * The sort values and row key of the last loaded row, which allows to seek to the next page.
+     */
+    protected static class Keyset implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final int nextFirst;
+        protected final String signature;
+        protected final Object[] values;
+
+        public Keyset(int nextFirst, String signature, Object[] values) {
+            this.nextFirst = nextFirst;
+            this.signature = signature;
+            this.values = values;
+        }
+
+        public boolean isNext(int first, String signature) {
+            return nextFirst == first && Objects.equals(this.signature, signature);
+        }
+    }
+
     @FunctionalInterface
     public interface QueryEnricher<T> extends Serializable {
 
@@ -519,6 +1674,18 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
         void enrich(Map<String, FilterMeta> filterBy, CriteriaBuilder cb, CriteriaQuery<?> cq, Root<T> root, List<Predicate> predicates);
     }
 
+    @FunctionalInterface
+    public interface ProjectionMapper<T> extends Serializable {
+
+        T map(Map<String, Object> values);
+    }
+
+    @FunctionalInterface
+    public interface GlobalFilterPredicate<T> extends Serializable {
+
+        Predicate create(CriteriaBuilder cb, Root<T> root, Expression<String> field, String filterValue);
+    }
+
     @FunctionalInterface
     public interface AdditionalFilterMeta extends Serializable {
 
@@ -23,10 +23,26 @@
  */
 package org.primefaces.model;
 
+import org.primefaces.cache.CacheProvider;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.util.Callbacks;
+
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.context.FacesContext;
@@ -47,11 +63,17 @@ import jakarta.faces.model.DataModelListener;
  */
 public abstract class LazyDataModel<T> extends DataModel<T> implements SelectableDataModel<T>, Serializable {
 
+    public static final String COUNT_CACHE_REGION = "primefaces.lazyDataModel.count";
+
     private static final long serialVersionUID = 1L;
 
     protected Converter<T> rowKeyConverter;
     private int rowCount;
     private int pageSize;
+    private boolean concurrentCount;
+    private String countCacheName;
+    private Duration countCacheTtl;
+    private Callbacks.SerializableSupplier<?> countCacheDiscriminator;
 
     // overwrite to restore serialization support; see #7699
     private int rowIndex = -1;
@@ -141,6 +163,190 @@ public abstract class LazyDataModel<T> extends DataModel<T> implements Selectabl
         return loaded.get(0);
     }
 
+    /**
+     * Counts the data for the given filters on the given executor, so the count can run in parallel to
+     * {@link #load(int, int, java.util.Map, java.util.Map)}. Only used if {@link #isConcurrentCount()} is enabled.
+     *
+     * The default implementation simply invokes {@link #count(java.util.Map)} on the executor, which means
+     * <code>count</code> must not rely on thread-bound state like {@link FacesContext#getCurrentInstance()},
+     * request scoped beans or a non thread-safe connection shared with <code>load</code>.
+     * Overwrite this method to resolve such state on the calling (request) thread first.
+     *
+     * @param executor the executor to run the count on
+     * @param filterBy a map with all filter information
+     * @return the future data count
+     */
+    public CompletableFuture<Integer> countAsync(Executor executor, Map<String, FilterMeta> filterBy) {
+        CacheProvider cacheProvider = getCountCacheProvider();
+        String cacheKey = getCountCacheKey(cacheProvider, filterBy);
+        Integer cachedCount = getCachedCount(cacheProvider, cacheKey);
+        if (cachedCount != null) {
+            return CompletableFuture.completedFuture(cachedCount);
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            int count = count(filterBy);
+            putCachedCount(cacheProvider, cacheKey, count);
+            return count;
+        }, executor);
+    }
+
+    /**
+     * Loads the data for the given parameters on the given executor, e.g. to prefetch the next block of a
+     * scrolling DataTable while the current one is rendered. Only used if {@link #isLoadAsyncSupported()}.
+     *
+     * The default implementation simply invokes {@link #load(int, int, java.util.Map, java.util.Map)} on the executor,
+     * so the same restrictions as for {@link #countAsync(Executor, Map)} apply; additionally <code>load</code> must not modify
+     * the state of the model (e.g. the row count), as it runs concurrently to the request.
+     *
+     * @param executor the executor to run the load on
+     * @param first the first entry
+     * @param pageSize the page size
+     * @param sortBy a map with all sort information
+     * @param filterBy a map with all filter information
+     * @return the future data
+     */
+    public CompletableFuture<List<T>> loadAsync(Executor executor, int first, int pageSize, Map<String, SortMeta> sortBy,
+            Map<String, FilterMeta> filterBy) {
+        return CompletableFuture.supplyAsync(() -> load(first, pageSize, sortBy, filterBy), executor);
+    }
+
+    /**
+     * Opt-in for {@link #loadAsync(Executor, int, int, Map, Map)}, e.g. for the scroll prefetch of the DataTable
+     * or the prefetch of lazy exports. Must only return <code>true</code> if <code>loadAsync</code> doesn't rely on the request thread
+     * and doesn't modify the state of the model, either by overwriting it or because <code>load</code> is safe to run concurrently.
+     *
+     * @return if the model supports loading on another thread, <code>false</code> per default
+     */
+    public boolean isLoadAsyncSupported() {
+        return false;
+    }
+
+    /**
+     * Prepares loading the rows for the given sorts and filters outside of the current request, e.g. for asynchronous exports.
+     * Everything bound to the request, like the {@link FacesContext} or request scoped beans, must be resolved by this method,
+     * as the returned loader is used on another thread. The loader must also not modify the state of this model (e.g. the row count),
+     * as the model is used by the following requests of the session meanwhile.
+     *
+     * @param sortBy a map with all sort information
+     * @param filterBy a map with all filter information
+     * @return the loader or <code>null</code>, if the rows can't be loaded outside of the request (default)
+     */
+    public DetachedLoader<T> createDetachedLoader(Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        return null;
+    }
+
+    /**
+     * Returns the count for the given filters from the count cache or calculates and caches it via the given counter,
+     * if a count cache is configured via {@link #setCountCacheName(String)}.
+     *
+     * @param filterBy a map with all filter information
+     * @param counter calculates the count, e.g. via a "SELECT COUNT ... WHERE ..."
+     * @return the data count
+     */
+    protected int count(Map<String, FilterMeta> filterBy, IntSupplier counter) {
+        CacheProvider cacheProvider = getCountCacheProvider();
+        String cacheKey = getCountCacheKey(cacheProvider, filterBy);
+        Integer cachedCount = getCachedCount(cacheProvider, cacheKey);
+        if (cachedCount != null) {
+            return cachedCount;
+        }
+
+        int count = counter.getAsInt();
+        putCachedCount(cacheProvider, cacheKey, count);
+        return count;
+    }
+
+    /**
+     * Invalidates all cached counts of this model (and all other models using the same count cache name),
+     * must be called after the underlying data has been modified.
+     */
+    public void invalidateCountCache() {
+        CacheProvider cacheProvider = getCountCacheProvider();
+        if (cacheProvider != null) {
+            // a new generation makes all previous keys unreachable, so we don't need to know them
+            cacheProvider.put(COUNT_CACHE_REGION, countCacheName + ":generation", UUID.randomUUID().toString());
+        }
+    }
+
+    protected CacheProvider getCountCacheProvider() {
+        if (countCacheName == null) {
+            return null;
+        }
+
+        // the count might run outside the request thread, see #countAsync
+        FacesContext context = FacesContext.getCurrentInstance();
+        return context == null ? null : PrimeApplicationContext.getCurrentInstance(context).getCacheProvider();
+    }
+
+    protected String getCountCacheKey(CacheProvider cacheProvider, Map<String, FilterMeta> filterBy) {
+        if (cacheProvider == null) {
+            return null;
+        }
+
+        String generationKey = countCacheName + ":generation";
+        Object generation = cacheProvider.get(COUNT_CACHE_REGION, generationKey);
+        if (generation == null) {
+            // the generation is unknown or has been evicted, so counts cached before the last invalidation must not become reachable again
+            generation = UUID.randomUUID().toString();
+            cacheProvider.put(COUNT_CACHE_REGION, generationKey, generation);
+        }
+
+        Object discriminator = countCacheDiscriminator == null ? null : countCacheDiscriminator.get();
+        return countCacheName + ":" + generation + ":" + (discriminator == null ? "" : discriminator) + ":" + getCountCacheSignature(filterBy);
+    }
+
+    /**
+     * Creates a canonical signature of all active filters, which is independent of the order of the filters.
+     *
+     * @param filterBy a map with all filter information
+     * @return the signature
+     */
+    protected String getCountCacheSignature(Map<String, FilterMeta> filterBy) {
+        Map<String, FilterMeta> sortedFilterBy = new TreeMap<>();
+        if (filterBy != null) {
+            for (Map.Entry<String, FilterMeta> entry : filterBy.entrySet()) {
+                if (entry.getValue() != null && entry.getValue().isActive()) {
+                    sortedFilterBy.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        StringBuilder signature = new StringBuilder();
+        for (Map.Entry<String, FilterMeta> entry : sortedFilterBy.entrySet()) {
+            FilterMeta filter = entry.getValue();
+            signature.append(entry.getKey())
+                    .append('|').append(filter.getField())
+                    .append('|').append(filter.getMatchMode())
+                    .append('|').append(Arrays.deepToString(new Object[] {filter.getFilterValue()}))
+                    .append(';');
+        }
+        return signature.toString();
+    }
+
+    protected Integer getCachedCount(CacheProvider cacheProvider, String cacheKey) {
+        if (cacheProvider == null) {
+            return null;
+        }
+
+        CachedCount cachedCount = (CachedCount) cacheProvider.get(COUNT_CACHE_REGION, cacheKey);
+        if (cachedCount == null) {
+            return null;
+        }
+        if (cachedCount.isExpired()) {
+            cacheProvider.remove(COUNT_CACHE_REGION, cacheKey);
+            return null;
+        }
+        return cachedCount.count;
+    }
+
+    protected void putCachedCount(CacheProvider cacheProvider, String cacheKey, int count) {
+        if (cacheProvider != null) {
+            long expiresAt = countCacheTtl == null ? Long.MAX_VALUE : System.currentTimeMillis() + countCacheTtl.toMillis();
+            cacheProvider.put(COUNT_CACHE_REGION, cacheKey, new CachedCount(count, expiresAt));
+        }
+    }
+
     /**
      * Recalculates <code>first</code>, see #1921.
      * Also see: {@link org.primefaces.component.api.UIPageableData#calculateFirst()}
@@ -170,8 +376,9 @@ public abstract class LazyDataModel<T> extends DataModel<T> implements Selectabl
     }
 
     protected String getRowKeyFromConverter(T object) {
+        // no context outside of the request, see DetachedLoader#getRowKey
         FacesContext context = FacesContext.getCurrentInstance();
-        return rowKeyConverter.getAsString(context, UIComponent.getCurrentComponent(context), object);
+        return rowKeyConverter.getAsString(context, context == null ? null : UIComponent.getCurrentComponent(context), object);
     }
 
     protected String getMessage(String msg) {
@@ -252,6 +459,43 @@ public abstract class LazyDataModel<T> extends DataModel<T> implements Selectabl
         return new LazyDataModelIterator<>(this, sortBy, filterBy);
     }
 
+    /**
+     * Counts the rows of the given selection, without loading them.
+     * The excluded rows are expected to match the filters of the selection, as they have been displayed when they were excluded.
+     * Rows which can't be selected (<code>selectionDisabled</code> of the DataTable) are counted as well,
+     * as this would require to load all rows; use {@link #streamSelected(LazySelection, Predicate)} to skip them.
+     *
+     * @param selection the selection
+     * @return the number of selected rows
+     */
+    public int countSelected(LazySelection selection) {
+        return Math.max(0, count(selection.getFilterBy()) - selection.getExcludedRowKeys().size());
+    }
+
+    /**
+     * Streams the rows of the given selection, loading them page by page (see {@link #getPageSize()}) in the order of the selection.
+     *
+     * @param selection the selection
+     * @return the selected rows
+     */
+    public Stream<T> streamSelected(LazySelection selection) {
+        return streamSelected(selection, null);
+    }
+
+    /**
+     * Streams the rows of the given selection, skipping the rows which can't be selected,
+     * see {@link org.primefaces.component.datatable.DataTable#streamLazySelection(FacesContext)}.
+     *
+     * @param selection the selection
+     * @param selectable tests if a row can be selected, e.g. via <code>selectionDisabled</code>; may be <code>null</code>
+     * @return the selected rows
+     */
+    public Stream<T> streamSelected(LazySelection selection, Predicate<? super T> selectable) {
+        Iterator<T> rows = iterator(selection.getSortBy(), selection.getFilterBy());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false)
+                .filter(row -> selection.isSelected(getRowKey(row)) && (selectable == null || selectable.test(row)));
+    }
+
     @Override
     public int getRowCount() {
         return rowCount;
@@ -261,6 +505,66 @@ public abstract class LazyDataModel<T> extends DataModel<T> implements Selectabl
         this.rowCount = rowCount;
     }
 
+    /**
+     * If enabled, {@link #count(java.util.Map)} runs concurrently to {@link #load(int, int, java.util.Map, java.util.Map)}
+     * via {@link #countAsync(java.util.concurrent.Executor, java.util.Map)} and its result is used as the row count
+     * for the current request. Must not be enabled for models which return <code>0</code> in <code>count</code>
+     * and set the row count within <code>load</code>.
+     *
+     * @return if the count runs concurrently to the load
+     */
+    public boolean isConcurrentCount() {
+        return concurrentCount;
+    }
+
+    public void setConcurrentCount(boolean concurrentCount) {
+        this.concurrentCount = concurrentCount;
+    }
+
+    public String getCountCacheName() {
+        return countCacheName;
+    }
+
+    /**
+     * Enables the count cache, which caches the results of {@link #count(java.util.Map)} per filter signature
+     * in the {@link CacheProvider}. All models with the same name share their cached counts, e.g. across sessions or
+     * cluster nodes (depending on the {@link CacheProvider}), so the name must identify the underlying data.
+     * <p>
+     * <b>Counts are shared across users</b>: if the visible rows depend on anything else than the filters
+     * (e.g. the permissions of the user, the tenant or a query enricher), configure a {@link #setCountCacheDiscriminator discriminator}.
+     *
+     * @param countCacheName the name of the count cache or <code>null</code> to disable it
+     */
+    public void setCountCacheName(String countCacheName) {
+        this.countCacheName = countCacheName;
+    }
+
+    public Duration getCountCacheTtl() {
+        return countCacheTtl;
+    }
+
+    /**
+     * @param countCacheTtl the time to live of cached counts or <code>null</code> to only rely on the eviction
+     *                      of the {@link CacheProvider} and {@link #invalidateCountCache()}
+     */
+    public void setCountCacheTtl(Duration countCacheTtl) {
+        this.countCacheTtl = countCacheTtl;
+    }
+
+    public Callbacks.SerializableSupplier<?> getCountCacheDiscriminator() {
+        return countCacheDiscriminator;
+    }
+
+    /**
+     * Separates the cached counts of models with the same count cache name, e.g. per tenant or per user,
+     * if the visible rows depend on more than the filters. Evaluated on the request thread for each count.
+     *
+     * @param countCacheDiscriminator supplies the discriminator, e.g. the tenant id, or <code>null</code> to share the counts
+     */
+    public void setCountCacheDiscriminator(Callbacks.SerializableSupplier<?> countCacheDiscriminator) {
+        this.countCacheDiscriminator = countCacheDiscriminator;
+    }
+
     public int getPageSize() {
         return pageSize;
     }
@@ -268,4 +572,51 @@ public abstract class LazyDataModel<T> extends DataModel<T> implements Selectabl
     public void setPageSize(int pageSize) {
         this.pageSize = pageSize;
     }
+
+    /**
+     * Loads the rows for the sorts and filters of {@link LazyDataModel#createDetachedLoader(Map, Map)} outside of the request.
+     * Must be closed after loading, to release e.g. the connection.
+     *
+     * @param <T> The model class.
+     */
+    public interface DetachedLoader<T> extends AutoCloseable {
+
+        /**
+         * @return the number of rows
+         */
+        int count();
+
+        /**
+         * @param first the first entry
+         * @param pageSize the page size
+         * @return the rows
+         */
+        List<T> load(int first, int pageSize);
+
+        /**
+         * @param row a loaded row
+         * @return the row key, see {@link LazyDataModel#getRowKey(Object)}
+         */
+        String getRowKey(T row);
+
+        @Override
+        void close();
+    }
+
+    private static final class CachedCount implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int count;
+        private final long expiresAt;
+
+        CachedCount(int count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
 }
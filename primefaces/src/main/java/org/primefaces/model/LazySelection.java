@@ -0,0 +1,156 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selection of all rows of a {@link LazyDataModel} which match the given filters, except the excluded rows.
+ * Used by the DataTable to "select all" without loading the row keys of all rows; the selected rows
+ * can be counted or streamed via {@link LazyDataModel#countSelected(LazySelection)} and {@link LazyDataModel#streamSelected(LazySelection)},
+ * or a bulk action can translate {@link #getFilterBy()} and {@link #getExcludedRowKeys()} into a database query.
+ */
+public class LazySelection implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Map<String, SortMeta> sortBy;
+    private transient Map<String, FilterMeta> filterBy;
+    private transient Set<String> excludedRowKeys;
+
+    /**
+     * @param sortBy the sort of the table, used to iterate the selected rows in the displayed order
+     * @param filterBy the filters the selected rows match; copied, so later filter changes don't change the selection
+     * @param excludedRowKeys the keys of the rows which are not selected
+     */
+    public LazySelection(Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy, Collection<String> excludedRowKeys) {
+        this.sortBy = new LinkedHashMap<>();
+        if (sortBy != null) {
+            for (Map.Entry<String, SortMeta> entry : sortBy.entrySet()) {
+                SortMeta s = entry.getValue();
+                if (s.isActive()) {
+                    this.sortBy.put(entry.getKey(), new SortMeta(s.getColumnKey(), s.getField(), s.getOrder(), s.getFunction(), s.getSortBy(),
+                            s.getPriority(), s.getNullSortOrder(), s.isCaseSensitiveSort(), s.isHeaderRow(), s.isDynamic()));
+                }
+            }
+        }
+
+        this.filterBy = new LinkedHashMap<>();
+        if (filterBy != null) {
+            for (Map.Entry<String, FilterMeta> entry : filterBy.entrySet()) {
+                FilterMeta f = entry.getValue();
+                if (f.isActive()) {
+                    this.filterBy.put(entry.getKey(), new FilterMeta(f.getColumnKey(), f.getField(), f.getConstraint(), f.getFilterBy(),
+                            f.getFilterValue(), f.getMatchMode(), f.isNormalize(), f.isFilterByGenerated()));
+                }
+            }
+        }
+
+        this.excludedRowKeys = excludedRowKeys == null ? new LinkedHashSet<>() : new LinkedHashSet<>(excludedRowKeys);
+    }
+
+    public boolean isSelected(String rowKey) {
+        return !excludedRowKeys.contains(rowKey);
+    }
+
+    public void exclude(String rowKey) {
+        excludedRowKeys.add(rowKey);
+    }
+
+    public void include(String rowKey) {
+        excludedRowKeys.remove(rowKey);
+    }
+
+    /**
+     * @return the active sorts at the time of the selection
+     */
+    public Map<String, SortMeta> getSortBy() {
+        return Collections.unmodifiableMap(sortBy);
+    }
+
+    /**
+     * @return the active filters at the time of the selection
+     */
+    public Map<String, FilterMeta> getFilterBy() {
+        return Collections.unmodifiableMap(filterBy);
+    }
+
+    public Set<String> getExcludedRowKeys() {
+        return Collections.unmodifiableSet(excludedRowKeys);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(sortBy.size());
+        for (Map.Entry<String, SortMeta> entry : sortBy.entrySet()) {
+            out.writeObject(entry.getKey());
+            out.writeObject(entry.getValue());
+        }
+        out.writeInt(filterBy.size());
+        for (Map.Entry<String, FilterMeta> entry : filterBy.entrySet()) {
+            out.writeObject(entry.getKey());
+            out.writeObject(entry.getValue());
+        }
+        out.writeInt(excludedRowKeys.size());
+        for (String rowKey : excludedRowKeys) {
+            out.writeObject(rowKey);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int size = in.readInt();
+        sortBy = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            sortBy.put((String) in.readObject(), (SortMeta) in.readObject());
+        }
+        size = in.readInt();
+        filterBy = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            filterBy.put((String) in.readObject(), (FilterMeta) in.readObject());
+        }
+        size = in.readInt();
+        excludedRowKeys = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            excludedRowKeys.add((String) in.readObject());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LazySelection{" +
+                "filterBy=" + filterBy +
+                ", excludedRowKeys=" + excludedRowKeys +
+                '}';
+    }
+}
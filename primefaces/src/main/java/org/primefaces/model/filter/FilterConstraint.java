@@ -25,6 +25,7 @@ package org.primefaces.model.filter;
 
 import java.io.Serializable;
 import java.util.Locale;
+import java.util.function.Predicate;
 
 import jakarta.faces.context.FacesContext;
 
@@ -32,4 +33,17 @@ import jakarta.faces.context.FacesContext;
 public interface FilterConstraint extends Serializable {
 
     boolean isMatching(FacesContext ctxt, Object value, Object filter, Locale locale);
+
+    /**
+     * Binds this constraint to a fixed filter value, used when many values are matched against the same filter.
+     * Implementations may override it to normalize the filter only once instead of once per value.
+     *
+     * @param ctxt the {@link FacesContext}
+     * @param filter the filter value
+     * @param locale the locale used for matching
+     * @return a predicate which behaves like {@link #isMatching(FacesContext, Object, Object, Locale)}
+     */
+    default Predicate<Object> prepare(FacesContext ctxt, Object filter, Locale locale) {
+        return value -> isMatching(ctxt, value, filter, locale);
+    }
 }
@@ -0,0 +1,199 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model.filter;
+
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.MatchMode;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Snapshot of the active filters and the filtered source, used to detect if a new filter request only narrows the previous one.
+ * In this case, only the rows matching the previous filters must be re-evaluated instead of the whole source.
+ *
+ * Narrowing is detected for <code>contains</code>, <code>startsWith</code>, <code>endsWith</code> and the global filter,
+ * when the new filter value contains, starts with or ends with the previous one (e.g. "smi" followed by "smit").
+ * All other constraints are only considered as narrowing if the filter value didn't change.
+ * Adding a new filter is always narrowing, removing one never.
+ *
+ * The source is only considered unchanged if it's the same instance with the same elements (compared by identity) as before,
+ * changes of the row objects themselves (e.g. via cell editing) are not detected and require a reset of the snapshot.
+ * Only the identity hash codes of the source and its elements are kept, so a snapshot in the component state doesn't retain the source.
+ */
+public class FilterSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<String, Entry> filters;
+    private final transient boolean attached;
+    private final int sourceIdentity;
+    private final int sourceSize;
+    private final long sourceFingerprint;
+    private final boolean narrowable;
+
+    protected FilterSnapshot(Map<String, Entry> filters, Object source, int sourceSize, long sourceFingerprint, boolean narrowable) {
+        this.filters = filters;
+        this.attached = true;
+        this.sourceIdentity = System.identityHashCode(source);
+        this.sourceSize = sourceSize;
+        this.sourceFingerprint = sourceFingerprint;
+        this.narrowable = narrowable;
+    }
+
+    /**
+     * Creates a snapshot of the active filters.
+     *
+     * @param filterBy the filters
+     * @param source the unfiltered data; narrowing is only possible if it's a {@link Collection},
+     *        which is the same instance with the same elements in both snapshots
+     * @return the snapshot
+     */
+    public static FilterSnapshot of(Map<String, FilterMeta> filterBy, Object source) {
+        Map<String, Entry> filters = new HashMap<>();
+        boolean narrowable = source instanceof Collection;
+
+        for (Map.Entry<String, FilterMeta> filterEntry : filterBy.entrySet()) {
+            FilterMeta filterMeta = filterEntry.getValue();
+            if (!filterMeta.isActive()) {
+                continue;
+            }
+
+            // a custom function may depend on anything, so we can't tell if it's narrowing
+            if (filterMeta.getConstraint() instanceof FunctionFilterConstraint) {
+                narrowable = false;
+            }
+
+            filters.put(filterEntry.getKey(), new Entry(filterMeta));
+        }
+
+        if (!narrowable) {
+            return new FilterSnapshot(filters, null, -1, 0L, false);
+        }
+
+        Collection<?> rows = (Collection<?>) source;
+        return new FilterSnapshot(filters, rows, rows.size(), fingerprint(rows), true);
+    }
+
+    /**
+     * Combines the identities of all elements, so adding, removing, replacing or moving rows in place
+     * (e.g. via {@link java.util.List#set(int, Object)} or sorting) changes the fingerprint.
+     */
+    protected static long fingerprint(Collection<?> rows) {
+        long fingerprint = 1L;
+        for (Object row : rows) {
+            fingerprint = 31L * fingerprint + System.identityHashCode(row);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Checks if the given snapshot is a strict narrowing of this one, so each row matching the given snapshot also matches this one.
+     *
+     * @param next the snapshot of the current filter request
+     * @param locale the locale used for filtering
+     * @return <code>true</code> if only rows matching this snapshot must be re-evaluated for the given one
+     */
+    public boolean isNarrowedBy(FilterSnapshot next, Locale locale) {
+        // a deserialized snapshot is never narrowed, as the identities of the source and its rows changed
+        if (next == null || !narrowable || !next.narrowable || !attached || sourceIdentity != next.sourceIdentity
+                || sourceSize != next.sourceSize || sourceFingerprint != next.sourceFingerprint) {
+            return false;
+        }
+
+        for (Map.Entry<String, Entry> filterEntry : filters.entrySet()) {
+            Entry nextEntry = next.filters.get(filterEntry.getKey());
+            if (nextEntry == null || !filterEntry.getValue().isImpliedBy(nextEntry, locale)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    protected static class Entry implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final MatchMode matchMode;
+        private final String constraint;
+        private final Object filterValue;
+
+        protected Entry(FilterMeta filterMeta) {
+            this.matchMode = filterMeta.getMatchMode();
+            this.constraint = filterMeta.getConstraint() == null ? null : filterMeta.getConstraint().getClass().getName();
+            this.filterValue = copy(filterMeta.getFilterValue());
+        }
+
+        protected boolean isImpliedBy(Entry next, Locale locale) {
+            if (matchMode != next.matchMode || !Objects.equals(constraint, next.constraint)) {
+                return false;
+            }
+
+            if (Objects.deepEquals(filterValue, next.filterValue)) {
+                return true;
+            }
+
+            if (matchMode == null) {
+                return false;
+            }
+
+            switch (matchMode) {
+                case CONTAINS:
+                case GLOBAL:
+                    return normalize(next.filterValue, locale).contains(normalize(filterValue, locale));
+                case STARTS_WITH:
+                    return normalize(next.filterValue, locale).startsWith(normalize(filterValue, locale));
+                case ENDS_WITH:
+                    return normalize(next.filterValue, locale).endsWith(normalize(filterValue, locale));
+                default:
+                    return false;
+            }
+        }
+
+        protected static String normalize(Object value, Locale locale) {
+            return StringFilterConstraint.toString(value, locale);
+        }
+
+        protected static Object copy(Object value) {
+            if (value instanceof Collection) {
+                return new ArrayList<>((Collection<?>) value);
+            }
+            if (value != null && value.getClass().isArray()) {
+                Object[] copy = new Object[Array.getLength(value)];
+                for (int i = 0; i < copy.length; i++) {
+                    copy[i] = Array.get(value, i);
+                }
+                return copy;
+            }
+            return value;
+        }
+    }
+}
@@ -24,6 +24,7 @@
 package org.primefaces.model.filter;
 
 import java.util.Locale;
+import java.util.function.Predicate;
 
 import jakarta.faces.context.FacesContext;
 
@@ -41,4 +42,9 @@ public class NegationFilterConstraintWrapper implements FilterConstraint {
     public boolean isMatching(FacesContext ctxt, Object value, Object filter, Locale locale) {
         return !wrapped.isMatching(ctxt, value, filter, locale);
     }
+
+    @Override
+    public Predicate<Object> prepare(FacesContext ctxt, Object filter, Locale locale) {
+        return wrapped.prepare(ctxt, filter, locale).negate();
+    }
 }
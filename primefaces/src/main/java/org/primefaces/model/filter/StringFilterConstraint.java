@@ -25,6 +25,7 @@ package org.primefaces.model.filter;
 
 import java.util.Locale;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 import jakarta.faces.context.FacesContext;
 
@@ -43,6 +44,17 @@ public abstract class StringFilterConstraint implements FilterConstraint {
                         toString(filter, locale));
     }
 
+    @Override
+    public Predicate<Object> prepare(FacesContext ctxt, Object filter, Locale locale) {
+        if (filter == null) {
+            return value -> false;
+        }
+
+        BiPredicate<String, String> predicate = getPredicate();
+        String filterString = toString(filter, locale);
+        return value -> value != null && predicate.test(toString(value, locale), filterString);
+    }
+
     static String toString(Object object, Locale locale) {
         return object.toString().trim().toLowerCase(locale);
     }
@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Base class for stores which keep the states of the current user in a {@link MultiViewStates} map.
+ */
+public abstract class AbstractMultiViewStateStore implements MultiViewStateStore {
+
+    private final int maxEntries;
+
+    protected AbstractMultiViewStateStore(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param create whether the map should be created, if it does not exist yet
+     * @return the states of the current user or <code>null</code>
+     */
+    protected abstract MultiViewStates getStates(FacesContext context, boolean create);
+
+    /**
+     * Called after the given states have been modified, e.g. to replicate them.
+     */
+    protected abstract void storeStates(FacesContext context, MultiViewStates states);
+
+    /**
+     * Removes the states of the current user.
+     */
+    protected abstract void removeStates(FacesContext context);
+
+    protected MultiViewStates createStates() {
+        return new MultiViewStates(maxEntries);
+    }
+
+    @Override
+    public Object get(FacesContext context, MultiViewStateKey key) {
+        MultiViewStates states = getStates(context, false);
+        if (states == null) {
+            return null;
+        }
+        synchronized (states) {
+            return states.get(key);
+        }
+    }
+
+    @Override
+    public void put(FacesContext context, MultiViewStateKey key, Object state) {
+        MultiViewStates states = getStates(context, true);
+        synchronized (states) {
+            states.put(key, state);
+        }
+        storeStates(context, states);
+    }
+
+    @Override
+    public boolean remove(FacesContext context, MultiViewStateKey key) {
+        MultiViewStates states = getStates(context, false);
+        if (states == null) {
+            return false;
+        }
+        boolean removed;
+        synchronized (states) {
+            removed = states.remove(key) != null;
+        }
+        if (removed) {
+            storeStates(context, states);
+        }
+        return removed;
+    }
+
+    @Override
+    public Set<MultiViewStateKey> getKeys(FacesContext context) {
+        MultiViewStates states = getStates(context, false);
+        if (states == null) {
+            return Collections.emptySet();
+        }
+        synchronized (states) {
+            return new HashSet<>(states.keySet());
+        }
+    }
+
+    @Override
+    public void clear(FacesContext context) {
+        removeStates(context);
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+}
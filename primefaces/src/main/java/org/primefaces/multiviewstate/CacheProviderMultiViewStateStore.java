@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import org.primefaces.cache.CacheProvider;
+
+import java.util.function.Supplier;
+
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Stores the states outside of the HTTP session in the configured {@link CacheProvider}, keyed by the session id.
+ * The states are put into the cache again after each modification; as components update their state objects in place,
+ * the cache should keep its entries on the heap. The states are removed once the session is destroyed and moved if the session id changes,
+ * which requires the {@link org.primefaces.webapp.SessionCleanerListener}.
+ */
+public class CacheProviderMultiViewStateStore extends AbstractMultiViewStateStore {
+
+    public static final String CACHE_REGION = "primefaces.multiViewStates";
+
+    private final Supplier<CacheProvider> cacheProvider;
+
+    public CacheProviderMultiViewStateStore(int maxEntries, Supplier<CacheProvider> cacheProvider) {
+        super(maxEntries);
+        this.cacheProvider = cacheProvider;
+    }
+
+    @Override
+    protected MultiViewStates getStates(FacesContext context, boolean create) {
+        CacheProvider provider = getCacheProvider();
+        String key = getCacheKey(context, create);
+        if (key == null) {
+            return null;
+        }
+
+        MultiViewStates states = (MultiViewStates) provider.get(CACHE_REGION, key);
+        if (states == null && create) {
+            states = createStates();
+            provider.put(CACHE_REGION, key, states);
+        }
+        return states;
+    }
+
+    @Override
+    protected void storeStates(FacesContext context, MultiViewStates states) {
+        String key = getCacheKey(context, false);
+        if (key != null) {
+            getCacheProvider().put(CACHE_REGION, key, states);
+        }
+    }
+
+    @Override
+    protected void removeStates(FacesContext context) {
+        String key = getCacheKey(context, false);
+        if (key != null) {
+            getCacheProvider().remove(CACHE_REGION, key);
+        }
+    }
+
+    /**
+     * @return the cache key of the current user or <code>null</code>, if there is no session yet and none should be created
+     */
+    protected String getCacheKey(FacesContext context, boolean create) {
+        if (!create && context.getExternalContext().getSession(false) == null) {
+            return null;
+        }
+        return context.getExternalContext().getSessionId(true);
+    }
+
+    @Override
+    public void releaseSession(String sessionId) {
+        getCacheProvider().remove(CACHE_REGION, sessionId);
+    }
+
+    @Override
+    public void changeSessionId(String oldSessionId, String newSessionId) {
+        CacheProvider provider = getCacheProvider();
+        Object states = provider.get(CACHE_REGION, oldSessionId);
+        if (states != null) {
+            provider.put(CACHE_REGION, newSessionId, states);
+            provider.remove(CACHE_REGION, oldSessionId);
+        }
+    }
+
+    protected CacheProvider getCacheProvider() {
+        return cacheProvider.get();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import org.primefaces.util.Constants;
+import org.primefaces.util.LangUtils;
+
+import java.io.ObjectStreamException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.lifecycle.ClientWindow;
+
+/**
+ * Stores the states per {@link ClientWindow} in the HTTP session. The server is not notified when a window gets closed,
+ * so only the states of the <code>maxWindows</code> most recently used windows are kept; the states of the other,
+ * most likely closed, windows are evicted. Each window keeps at most <code>maxEntries</code> states.
+ */
+public class ClientWindowMultiViewStateStore extends AbstractMultiViewStateStore {
+
+    /**
+     * The window used, if the request has no client window.
+     */
+    public static final String DEFAULT_WINDOW_ID = "session";
+
+    private final int maxWindows;
+
+    public ClientWindowMultiViewStateStore(int maxEntries, int maxWindows) {
+        super(maxEntries);
+        this.maxWindows = maxWindows;
+    }
+
+    @Override
+    protected MultiViewStates getStates(FacesContext context, boolean create) {
+        WindowStates windows = getWindowStates(context, create);
+        if (windows == null) {
+            return null;
+        }
+
+        String windowId = getWindowId(context);
+        synchronized (windows) {
+            MultiViewStates states = windows.get(windowId);
+            if (states == null && create) {
+                states = createStates();
+                windows.put(windowId, states);
+            }
+            return states;
+        }
+    }
+
+    @Override
+    protected void storeStates(FacesContext context, MultiViewStates states) {
+        WindowStates windows = getWindowStates(context, false);
+        if (windows != null) {
+            // set the attribute again, so the modified session attribute gets replicated
+            context.getExternalContext().getSessionMap().put(Constants.MULTI_VIEW_STATES, windows);
+        }
+    }
+
+    @Override
+    protected void removeStates(FacesContext context) {
+        context.getExternalContext().getSessionMap().remove(Constants.MULTI_VIEW_STATES);
+    }
+
+    /**
+     * Removes the states of the given window, e.g. when the application knows that the window has been closed.
+     *
+     * @return <code>true</code> if states of the window have been removed
+     */
+    public boolean removeWindow(FacesContext context, String windowId) {
+        WindowStates windows = getWindowStates(context, false);
+        if (windows == null) {
+            return false;
+        }
+        boolean removed;
+        synchronized (windows) {
+            removed = windows.remove(windowId) != null;
+        }
+        if (removed) {
+            context.getExternalContext().getSessionMap().put(Constants.MULTI_VIEW_STATES, windows);
+        }
+        return removed;
+    }
+
+    protected String getWindowId(FacesContext context) {
+        ClientWindow clientWindow = context.getExternalContext().getClientWindow();
+        if (clientWindow != null && LangUtils.isNotBlank(clientWindow.getId())) {
+            return clientWindow.getId();
+        }
+        return DEFAULT_WINDOW_ID;
+    }
+
+    protected WindowStates getWindowStates(FacesContext context, boolean create) {
+        Map<String, Object> sessionMap = context.getExternalContext().getSessionMap();
+        Object windows = sessionMap.get(Constants.MULTI_VIEW_STATES);
+        if (windows instanceof WindowStates) {
+            return (WindowStates) windows;
+        }
+        if (!create) {
+            return null;
+        }
+        return (WindowStates) sessionMap.compute(Constants.MULTI_VIEW_STATES,
+                (k, v) -> v instanceof WindowStates ? v : new WindowStates(maxWindows));
+    }
+
+    public int getMaxWindows() {
+        return maxWindows;
+    }
+
+    /**
+     * The states per window id, evicting the least recently used window. Access must be synchronized on the map.
+     */
+    protected static class WindowStates extends LinkedHashMap<String, MultiViewStates> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxWindows;
+
+        protected WindowStates(int maxWindows) {
+            super(16, 0.75f, true);
+            this.maxWindows = maxWindows;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MultiViewStates> eldest) {
+            return maxWindows > 0 && size() > maxWindows;
+        }
+
+        /**
+         * Serializes a copy taken while holding the lock, see {@link MultiViewStates}.
+         */
+        private Object writeReplace() throws ObjectStreamException {
+            synchronized (this) {
+                WindowStates copy = new WindowStates(maxWindows);
+                copy.putAll(this);
+                return copy;
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Identifies the multiview state of a component by the viewId of its page and its clientId.
+ */
+public final class MultiViewStateKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String viewId;
+    private final String clientId;
+
+    private MultiViewStateKey(String viewId, String clientId) {
+        this.viewId = viewId;
+        this.clientId = clientId;
+    }
+
+    public static MultiViewStateKey of(String viewId, String clientId) {
+        return new MultiViewStateKey(viewId, clientId);
+    }
+
+    public String getViewId() {
+        return viewId;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MultiViewStateKey that = (MultiViewStateKey) o;
+        return Objects.equals(viewId, that.viewId) && Objects.equals(clientId, that.clientId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(viewId, clientId);
+    }
+
+    @Override
+    public String toString() {
+        return "MultiViewStateKey{viewId=" + viewId + ", clientId=" + clientId + "}";
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import java.util.Set;
+
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Stores the multiview states of the current user, see {@link org.primefaces.PrimeFaces.MultiViewState}.
+ * The store is configured via <code>primefaces.MULTI_VIEW_STATE_STORE</code>, which takes either
+ * <code>session</code> (default), <code>client-window</code>, <code>cache</code> or the class name of a custom implementation.
+ *
+ * Implementations must be thread-safe, a single instance is used by the whole application.
+ */
+public interface MultiViewStateStore {
+
+    /**
+     * @return the state or <code>null</code>, if no state is stored for the given key
+     */
+    Object get(FacesContext context, MultiViewStateKey key);
+
+    void put(FacesContext context, MultiViewStateKey key, Object state);
+
+    /**
+     * @return <code>true</code> if a state has been removed
+     */
+    boolean remove(FacesContext context, MultiViewStateKey key);
+
+    /**
+     * @return a snapshot of the keys of all stored states
+     */
+    Set<MultiViewStateKey> getKeys(FacesContext context);
+
+    /**
+     * Removes all stored states of the current user.
+     */
+    void clear(FacesContext context);
+
+    /**
+     * Called once the session is destroyed, see {@link org.primefaces.webapp.SessionCleanerListener}.
+     * Stores keeping the states outside of the session must release them here.
+     *
+     * @param sessionId the id of the destroyed session
+     */
+    default void releaseSession(String sessionId) {
+        // NOOP, the states are released with the session
+    }
+
+    /**
+     * Called if the id of a session changes, e.g. on login via {@link jakarta.servlet.http.HttpServletRequest#changeSessionId()}.
+     * Stores keying the states by the session id must move them to the new id.
+     *
+     * @param oldSessionId the previous id of the session
+     * @param newSessionId the new id of the session
+     */
+    default void changeSessionId(String oldSessionId, String newSessionId) {
+        // NOOP, the states are kept in the session
+    }
+}
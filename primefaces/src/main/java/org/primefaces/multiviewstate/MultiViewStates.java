@@ -0,0 +1,67 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import java.io.ObjectStreamException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Map of the multiview states of a session or client window, which evicts the least recently used state
+ * as soon as more than <code>maxEntries</code> states are stored. Access must be synchronized on the map.
+ */
+public class MultiViewStates extends LinkedHashMap<MultiViewStateKey, Object> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int maxEntries;
+
+    /**
+     * @param maxEntries the maximum number of states, <code>0</code> or less for an unbounded map
+     */
+    public MultiViewStates(int maxEntries) {
+        super(16, 0.75f, true);
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<MultiViewStateKey, Object> eldest) {
+        return maxEntries > 0 && size() > maxEntries;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Serializes a copy taken while holding the lock, as the session might be replicated while a request modifies the map.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        synchronized (this) {
+            MultiViewStates copy = new MultiViewStates(maxEntries);
+            copy.putAll(this);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import org.primefaces.util.Constants;
+
+import java.util.Map;
+
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Stores the states in the HTTP session, evicting the least recently used state of the session
+ * as soon as more than <code>maxEntries</code> states are stored.
+ */
+public class SessionMultiViewStateStore extends AbstractMultiViewStateStore {
+
+    public SessionMultiViewStateStore(int maxEntries) {
+        super(maxEntries);
+    }
+
+    @Override
+    protected MultiViewStates getStates(FacesContext context, boolean create) {
+        Map<String, Object> sessionMap = context.getExternalContext().getSessionMap();
+        Object states = sessionMap.get(Constants.MULTI_VIEW_STATES);
+        if (states instanceof MultiViewStates) {
+            return (MultiViewStates) states;
+        }
+        if (!create) {
+            return null;
+        }
+        return (MultiViewStates) sessionMap.compute(Constants.MULTI_VIEW_STATES,
+                (k, v) -> v instanceof MultiViewStates ? v : createStates());
+    }
+
+    @Override
+    protected void storeStates(FacesContext context, MultiViewStates states) {
+        // set the attribute again, so the modified session attribute gets replicated
+        context.getExternalContext().getSessionMap().put(Constants.MULTI_VIEW_STATES, states);
+    }
+
+    @Override
+    protected void removeStates(FacesContext context) {
+        context.getExternalContext().getSessionMap().remove(Constants.MULTI_VIEW_STATES);
+    }
+}
@@ -42,12 +42,17 @@ public class Constants {
         public static final String DIRECTION = "primefaces.DIR";
         public static final String EARLY_POST_PARAM_EVALUATION = "primefaces.EARLY_POST_PARAM_EVALUATION";
         public static final String EXCEPTION_TYPES_TO_IGNORE_IN_LOGGING = "primefaces.EXCEPTION_TYPES_TO_IGNORE_IN_LOGGING";
+        public static final String EXPORT_AJAX_FILE_THRESHOLD = "primefaces.EXPORT_AJAX_FILE_THRESHOLD";
+        public static final String EXPORT_MAX_CONCURRENT_JOBS = "primefaces.EXPORT_MAX_CONCURRENT_JOBS";
+        public static final String EXPORT_JOB_TIMEOUT = "primefaces.EXPORT_JOB_TIMEOUT";
         public static final String FLEX = "primefaces.FLEX";
         public static final String HIDE_RESOURCE_VERSION = "primefaces.HIDE_RESOURCE_VERSION";
         public static final String INTERPOLATE_CLIENT_SIDE_VALIDATION_MESSAGES = "primefaces.INTERPOLATE_CLIENT_SIDE_VALIDATION_MESSAGES";
         public static final String MARK_INPUT_AS_INVALID_ON_ERROR_MSG = "primefaces.MARK_INPUT_AS_INVALID_ON_ERROR_MSG";
         public static final String MOVE_SCRIPTS_TO_BOTTOM = "primefaces.MOVE_SCRIPTS_TO_BOTTOM";
         public static final String MULTI_VIEW_STATE_STORE = "primefaces.MULTI_VIEW_STATE_STORE";
+        public static final String MULTI_VIEW_STATE_MAX_ENTRIES = "primefaces.MULTI_VIEW_STATE_MAX_ENTRIES";
+        public static final String MULTI_VIEW_STATE_MAX_WINDOWS = "primefaces.MULTI_VIEW_STATE_MAX_WINDOWS";
         public static final String PRIME_ICONS = "primefaces.PRIME_ICONS";
         public static final String RESET_VALUES = "primefaces.RESET_VALUES";
         public static final String SUBMIT = "primefaces.SUBMIT";
@@ -25,6 +25,9 @@ package org.primefaces.util;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.Objects;
@@ -45,7 +48,7 @@ public interface PropertyDescriptorResolver {
 
     class DefaultResolver implements PropertyDescriptorResolver {
 
-        private static final Pattern NESTED_EXPRESSION_PATTERN = Pattern.compile("\\.");
+        protected static final Pattern NESTED_EXPRESSION_PATTERN = Pattern.compile("\\.");
         private final Map<String, Map<String, PropertyDescriptor>> pdCache;
 
         public DefaultResolver() {
@@ -148,4 +151,81 @@ public interface PropertyDescriptorResolver {
             });
         }
     }
+
+    /**
+     * Resolver which compiles each class and expression pair once into a chain of {@link MethodHandle}s,
+     * instead of splitting the expression and invoking the read methods via reflection on each call.
+     * Expressions which can't be compiled from the declared property types (e.g. properties only available on a subclass at runtime)
+     * are delegated to the {@link DefaultResolver}.
+     * It's the default service, see <code>PropertyDescriptorResolverBenchmarkTest</code> for a comparison with the {@link DefaultResolver}.
+     */
+    class MethodHandleResolver extends DefaultResolver {
+
+        private static final MethodHandle[] FALLBACK = new MethodHandle[0];
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        private final Map<Class<?>, Map<String, MethodHandle[]>> accessorCache;
+
+        public MethodHandleResolver() {
+            accessorCache = new ConcurrentHashMap<>();
+        }
+
+        @Override
+        public Object getValue(Object obj, String expression) {
+            Class<?> klazz = obj.getClass();
+            MethodHandle[] accessor = accessorCache.computeIfAbsent(klazz, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(expression, k -> compile(klazz, k));
+            if (accessor == FALLBACK) {
+                return super.getValue(obj, expression);
+            }
+
+            try {
+                for (MethodHandle getter : accessor) {
+                    obj = (Object) getter.invokeExact(obj);
+                    if (obj == null) {
+                        break;
+                    }
+                }
+
+                return obj;
+            }
+            catch (Error e) {
+                throw e;
+            }
+            catch (Throwable e) {
+                throw new FacesException(e);
+            }
+        }
+
+        @Override
+        public void flush() {
+            super.flush();
+            accessorCache.clear();
+        }
+
+        protected MethodHandle[] compile(Class<?> klazz, String expression) {
+            String[] properties = NESTED_EXPRESSION_PATTERN.split(expression);
+            MethodHandle[] accessor = new MethodHandle[properties.length];
+            Class<?> parent = klazz;
+
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                for (int i = 0; i < properties.length; i++) {
+                    PropertyDescriptor pd = get(parent, properties[i]);
+                    Method readMethod = pd.getReadMethod();
+                    if (readMethod == null) {
+                        return FALLBACK;
+                    }
+
+                    accessor[i] = lookup.unreflect(readMethod).asType(GETTER_TYPE);
+                    parent = pd.getPropertyType();
+                }
+
+                return accessor;
+            }
+            catch (FacesException | IllegalAccessException e) {
+                return FALLBACK;
+            }
+        }
+    }
 }
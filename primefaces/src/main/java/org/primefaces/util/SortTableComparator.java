@@ -28,9 +28,13 @@ import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.model.SortMeta;
 import org.primefaces.model.TreeNode;
 
+import java.text.CollationKey;
 import java.text.Collator;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -45,6 +49,8 @@ public class SortTableComparator implements Comparator<Object> {
     public static final BeanPropertyMapper FIELD_MAPPER = new FieldMapper();
     public static final BeanPropertyMapper TREE_NODE_MAPPER = new TreeNodeSortByVEMapper();
 
+    private static final int INSERTION_SORT_THRESHOLD = 7;
+
     private final FacesContext context;
     private final Collection<SortMeta> sortBy;
     private final UITable<?> table;
@@ -55,9 +61,19 @@ public class SortTableComparator implements Comparator<Object> {
     private final AtomicInteger compareResult = new AtomicInteger(0);
 
     public SortTableComparator(FacesContext context, UITable<?> table, BeanPropertyMapper mapper) {
+        this(context, table, table.getActiveSortMeta().values(), mapper);
+    }
+
+    /**
+     * @param context the {@link FacesContext}
+     * @param table the table, which provides the <code>var</code>, the locale and the dynamic columns
+     * @param sortBy the sorts to apply instead of the active sorts of the table
+     * @param mapper extracts the sort values of the rows
+     */
+    public SortTableComparator(FacesContext context, UITable<?> table, Collection<SortMeta> sortBy, BeanPropertyMapper mapper) {
         this.context = context;
         this.table = table;
-        this.sortBy = table.getActiveSortMeta().values();
+        this.sortBy = sortBy;
         this.var = table.getVar();
         this.locale = table.resolveDataLocale(context);
         this.collator = Collator.getInstance(locale);
@@ -134,6 +150,239 @@ public class SortTableComparator implements Comparator<Object> {
         }
     }
 
+    /**
+     * Sorts the given list like {@link List#sort(Comparator)} with this comparator would do, but evaluates the sort keys of each element only once
+     * (decorate-sort-undecorate) instead of twice per comparison. String keys are precomputed as {@link CollationKey}s.
+     *
+     * @param list the list to sort
+     * @param <T> the type of the elements
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void sort(List<T> list) {
+        if (list == null || list.size() < 2 || sortBy.isEmpty()) {
+            return;
+        }
+
+        Object[] rows = list.toArray();
+        sort(rows);
+
+        ListIterator<T> iterator = list.listIterator();
+        for (Object row : rows) {
+            iterator.next();
+            iterator.set((T) row);
+        }
+    }
+
+    /**
+     * Sorts the given array, see {@link #sort(List)}.
+     *
+     * @param rows the array to sort
+     */
+    public void sort(Object[] rows) {
+        if (rows == null || rows.length < 2 || sortBy.isEmpty()) {
+            return;
+        }
+
+        int[] indexes = sortIndexes(rows);
+
+        Object[] sorted = new Object[rows.length];
+        for (int i = 0; i < indexes.length; i++) {
+            sorted[i] = rows[indexes[i]];
+        }
+        System.arraycopy(sorted, 0, rows, 0, rows.length);
+    }
+
+    /**
+     * Calculates the sorted order of the given rows without modifying them, see {@link #sort(List)}.
+     * The sort is stable, so equal rows keep their original order.
+     *
+     * @param rows the rows to sort
+     * @return the indexes of the rows in sorted order
+     */
+    public int[] sortIndexes(Object[] rows) {
+        int[] indexes = new int[rows.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+
+        if (rows.length > 1 && !sortBy.isEmpty()) {
+            mergeSort(indexes.clone(), indexes, 0, indexes.length, createIndexComparator(rows));
+        }
+
+        return indexes;
+    }
+
+    /**
+     * Calculates only the first <code>limit</code> entries of {@link #sortIndexes(Object[])} via a bounded heap,
+     * which requires O(n log limit) instead of O(n log n) comparisons.
+     *
+     * @param rows the rows to sort
+     * @param limit the number of sorted indexes to calculate
+     * @return the indexes of the first <code>limit</code> rows in sorted order
+     */
+    public int[] sortIndexes(Object[] rows, int limit) {
+        if (limit <= 0) {
+            return new int[0];
+        }
+
+        if (limit >= rows.length || sortBy.isEmpty()) {
+            int[] indexes = sortIndexes(rows);
+            return limit >= indexes.length ? indexes : Arrays.copyOf(indexes, limit);
+        }
+
+        IndexComparator comparator = createIndexComparator(rows);
+
+        // max-heap containing the smallest rows seen so far, its head is the largest of them
+        int[] heap = new int[limit];
+        int size = 0;
+        for (int i = 0; i < rows.length; i++) {
+            if (size < limit) {
+                heap[size] = i;
+                siftUp(heap, size++, comparator);
+            }
+            else if (comparator.compare(i, heap[0]) < 0) {
+                heap[0] = i;
+                siftDown(heap, 0, size, comparator);
+            }
+        }
+
+        // heapsort, moves the largest remaining row to the end
+        for (int end = size - 1; end > 0; end--) {
+            swap(heap, 0, end);
+            siftDown(heap, 0, end, comparator);
+        }
+        return heap;
+    }
+
+    /**
+     * Stable merge sort of <code>dest</code>, which alternates with <code>src</code> (a copy of it) as buffer on each level,
+     * as {@link Arrays#sort(int[])} doesn't accept a comparator.
+     */
+    private static void mergeSort(int[] src, int[] dest, int from, int to, IndexComparator comparator) {
+        if (to - from < INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int index = dest[i];
+                int j = i;
+                while (j > from && comparator.compare(dest[j - 1], index) > 0) {
+                    dest[j] = dest[j - 1];
+                    j--;
+                }
+                dest[j] = index;
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(dest, src, from, mid, comparator);
+        mergeSort(dest, src, mid, to, comparator);
+
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, from, dest, from, to - from);
+            return;
+        }
+
+        for (int i = from, p = from, q = mid; i < to; i++) {
+            if (q >= to || (p < mid && comparator.compare(src[p], src[q]) <= 0)) {
+                dest[i] = src[p++];
+            }
+            else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    private static void siftUp(int[] heap, int k, IndexComparator comparator) {
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            if (comparator.compare(heap[k], heap[parent]) <= 0) {
+                return;
+            }
+            swap(heap, k, parent);
+            k = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int k, int size, IndexComparator comparator) {
+        while (2 * k + 1 < size) {
+            int child = 2 * k + 1;
+            if (child + 1 < size && comparator.compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (comparator.compare(heap[k], heap[child]) >= 0) {
+                return;
+            }
+            swap(heap, k, child);
+            k = child;
+        }
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    /**
+     * Compares row indexes by their precomputed sort keys, equal rows are ordered by their index, like a stable sort would do.
+     */
+    private IndexComparator createIndexComparator(Object[] rows) {
+        SortMeta[] sortMetas = sortBy.toArray(new SortMeta[0]);
+        Object[][] keys = new Object[sortMetas.length][];
+        for (int i = 0; i < sortMetas.length; i++) {
+            keys[i] = extractSortKeys(sortMetas[i], rows);
+        }
+
+        return (i1, i2) -> {
+            for (int i = 0; i < sortMetas.length; i++) {
+                int result = compare(context, sortMetas[i], keys[i][i1], keys[i][i2], collator, locale);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(i1, i2);
+        };
+    }
+
+    private Object[] extractSortKeys(SortMeta sortMeta, Object[] rows) {
+        Object[] keys = new Object[rows.length];
+        Runnable extractor = () -> {
+            for (int i = 0; i < rows.length; i++) {
+                keys[i] = toSortKey(sortMeta, mapper.map(context, var, sortMeta, rows[i]));
+            }
+        };
+
+        if (mapper.isValueExprBased() && sortMeta.isDynamic()) {
+            table.invokeOnColumn(sortMeta.getColumnKey(), column -> extractor.run());
+        }
+        else {
+            extractor.run();
+        }
+
+        return keys;
+    }
+
+    private Object toSortKey(SortMeta sortMeta, Object value) {
+        // a custom sort function expects the original values
+        if (sortMeta.getFunction() != null || !(value instanceof String)) {
+            return value;
+        }
+
+        String str = sortMeta.isCaseSensitiveSort() ? (String) value : ((String) value).toLowerCase(locale);
+        return collator.getCollationKey(str);
+    }
+
+    public static void sortBySortByVE(FacesContext context, UITable<?> table, List<?> list) {
+        new SortTableComparator(context, table, SORT_BY_VE_MAPPER).sort(list);
+    }
+
+    public static void sortByField(FacesContext context, UITable<?> table, List<?> list) {
+        new SortTableComparator(context, table, FIELD_MAPPER).sort(list);
+    }
+
+    public static void sortByTreeNodeSortByVE(FacesContext context, UITable<?> table, Object[] nodes) {
+        new SortTableComparator(context, table, TREE_NODE_MAPPER).sort(nodes);
+    }
+
     public static Comparator<Object> comparingSortByVE(FacesContext context, UITable<?> table) {
         return new SortTableComparator(context, table, SORT_BY_VE_MAPPER);
     }
@@ -190,4 +439,13 @@ public class SortTableComparator implements Comparator<Object> {
 
         Object map(FacesContext context, String var, SortMeta sortMeta, Object obj);
     }
+
+    /**
+     * {@link Comparator} of row indexes without boxing.
+     */
+    @FunctionalInterface
+    private interface IndexComparator {
+
+        int compare(int i1, int i2);
+    }
 }
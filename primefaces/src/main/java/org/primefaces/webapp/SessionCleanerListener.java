@@ -0,0 +1,53 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.webapp;
+
+import org.primefaces.context.PrimeApplicationContext;
+
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionIdListener;
+import jakarta.servlet.http.HttpSessionListener;
+
+/**
+ * Releases the state PrimeFaces keeps per session outside of the session, e.g. the files of export jobs,
+ * once the session is destroyed, and moves it to the new id if the session id changes.
+ */
+public class SessionCleanerListener implements HttpSessionListener, HttpSessionIdListener {
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent se) {
+        PrimeApplicationContext applicationContext = PrimeApplicationContext.getCurrentInstance(se.getSession().getServletContext());
+        if (applicationContext != null) {
+            applicationContext.releaseSession(se.getSession().getId());
+        }
+    }
+
+    @Override
+    public void sessionIdChanged(HttpSessionEvent se, String oldSessionId) {
+        PrimeApplicationContext applicationContext = PrimeApplicationContext.getCurrentInstance(se.getSession().getServletContext());
+        if (applicationContext != null) {
+            applicationContext.changeSessionId(oldSessionId, se.getSession().getId());
+        }
+    }
+}
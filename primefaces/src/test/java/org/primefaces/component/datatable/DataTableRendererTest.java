@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable;
+
+import java.util.Collections;
+
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.context.PartialViewContext;
+import jakarta.faces.context.ResponseWriter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.*;
+
+class DataTableRendererTest {
+
+    private DataTableRenderer renderer;
+    private DataTable table;
+    private FacesContext context;
+    private PartialViewContext partialViewContext;
+    private ResponseWriter writer;
+
+    @BeforeEach
+    void setup() throws Exception {
+        renderer = spy(new DataTableRenderer());
+        doReturn(true).when(renderer).encodeRow(any(), any(), anyInt(), anyInt(), anyInt());
+
+        table = mock(DataTable.class);
+        when(table.getSummaryRows()).thenReturn(Collections.emptyList());
+        when(table.isRowAvailable()).thenReturn(true);
+        when(table.getFlushRows()).thenReturn(3);
+
+        writer = mock(ResponseWriter.class);
+        partialViewContext = mock(PartialViewContext.class);
+        context = mock(FacesContext.class);
+        when(context.getResponseWriter()).thenReturn(writer);
+        when(context.getPartialViewContext()).thenReturn(partialViewContext);
+    }
+
+    @Test
+    void encodeRowsFlushesEveryFlushRows() throws Exception {
+        renderer.encodeRows(context, table, 10, 17, 0, 1);
+
+        verify(renderer, times(7)).encodeRow(eq(context), eq(table), anyInt(), eq(0), eq(1));
+        verify(writer, times(2)).flush();
+    }
+
+    @Test
+    void encodeRowsDoesntFlushAjaxResponses() throws Exception {
+        when(partialViewContext.isAjaxRequest()).thenReturn(true);
+
+        renderer.encodeRows(context, table, 0, 7, 0, 1);
+
+        verify(renderer, times(7)).encodeRow(eq(context), eq(table), anyInt(), eq(0), eq(1));
+        verify(writer, never()).flush();
+    }
+
+    @Test
+    void encodeRowsDoesntFlushByDefault() throws Exception {
+        when(table.getFlushRows()).thenReturn(0);
+
+        renderer.encodeRows(context, table, 0, 7, 0, 1);
+
+        verify(writer, never()).flush();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable;
+
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortMeta;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DataTableScrollCacheTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    void cachedBlocksAreServedForTheSameModelAndSignature() {
+        DataTableScrollCache cache = new DataTableScrollCache(2, 10);
+        LazyDataModel<Object> model = mock(LazyDataModel.class);
+
+        cache.put(model, "a", 0, 4, Arrays.asList(1, 2, 3, 4));
+
+        assertEquals(Arrays.asList(1, 2, 3, 4), cache.get(model, "a", 0, 4));
+        assertEquals(Arrays.asList(3, 4), cache.get(model, "a", 2, 2));
+        assertNull(cache.get(model, "a", 4, 2));
+        assertNull(cache.get(model, "b", 0, 2));
+        assertNull(cache.get(mock(LazyDataModel.class), "a", 0, 2));
+    }
+
+    @Test
+    void leastRecentlyUsedBlocksAreEvicted() {
+        DataTableScrollCache cache = new DataTableScrollCache(2, 4);
+        LazyDataModel<Object> model = mock(LazyDataModel.class);
+
+        cache.put(model, "a", 0, 4, Arrays.asList(1, 2, 3, 4));
+        assertNotNull(cache.get(model, "a", 0, 2));
+        cache.put(model, "a", 4, 2, Arrays.asList(5, 6));
+
+        assertNotNull(cache.get(model, "a", 0, 2));
+        assertNull(cache.get(model, "a", 2, 2));
+        assertNotNull(cache.get(model, "a", 4, 2));
+    }
+
+    @Test
+    void prefetchOnlyIfTheModelSupportsLoadAsync() {
+        DataTableScrollCache cache = new DataTableScrollCache(2, 10);
+        LazyDataModel<Object> model = mock(LazyDataModel.class);
+        Map<String, SortMeta> sortBy = Collections.emptyMap();
+        Map<String, FilterMeta> filterBy = Collections.emptyMap();
+
+        cache.prefetch(model, "a", 2, sortBy, filterBy, DIRECT);
+        verify(model, never()).loadAsync(any(), anyInt(), anyInt(), any(), any());
+        assertNull(cache.get(model, "a", 2, 2));
+
+        when(model.isLoadAsyncSupported()).thenReturn(true);
+        when(model.loadAsync(DIRECT, 2, 2, sortBy, filterBy)).thenReturn(CompletableFuture.<List<Object>> completedFuture(Arrays.asList(3, 4)));
+        cache.prefetch(model, "a", 2, sortBy, filterBy, DIRECT);
+        cache.prefetch(model, "a", 2, sortBy, filterBy, DIRECT);
+
+        verify(model, times(1)).loadAsync(DIRECT, 2, 2, sortBy, filterBy);
+        verify(model, never()).load(anyInt(), anyInt(), any(), any());
+        assertEquals(Arrays.asList(3, 4), cache.get(model, "a", 2, 2));
+    }
+
+    @Test
+    void failedPrefetchIsLoadedAgain() {
+        DataTableScrollCache cache = new DataTableScrollCache(2, 10);
+        LazyDataModel<Object> model = mock(LazyDataModel.class);
+        when(model.isLoadAsyncSupported()).thenReturn(true);
+        CompletableFuture<List<Object>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("broken"));
+        when(model.loadAsync(any(), anyInt(), anyInt(), any(), any())).thenReturn(failed);
+
+        cache.prefetch(model, "a", 2, Collections.emptyMap(), Collections.emptyMap(), DIRECT);
+
+        assertNull(cache.get(model, "a", 2, 2));
+    }
+
+    @Test
+    void rowCountIsCachedWithTheBlocks() {
+        DataTableScrollCache cache = new DataTableScrollCache(2, 10);
+        LazyDataModel<Object> model = mock(LazyDataModel.class);
+
+        assertEquals(-1, cache.getRowCount(model, "a"));
+
+        cache.put(model, "a", 0, 2, Arrays.asList(1, 2));
+        cache.putRowCount(model, "a", 42);
+        assertEquals(42, cache.getRowCount(model, "a"));
+        assertEquals(-1, cache.getRowCount(model, "b"));
+
+        // other criteria reset the cache
+        cache.put(model, "b", 0, 2, Arrays.asList(1, 2));
+        assertEquals(-1, cache.getRowCount(model, "b"));
+        assertEquals(-1, cache.getRowCount(model, "a"));
+    }
+}
@@ -24,19 +24,34 @@
 package org.primefaces.component.datatable;
 
 import org.primefaces.component.api.DynamicColumn;
+import org.primefaces.component.api.UIColumn;
 import org.primefaces.component.column.Column;
 import org.primefaces.component.columns.Columns;
+import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.el.MyBean;
 import org.primefaces.el.MyContainer;
 import org.primefaces.mock.FacesContextMock;
+import org.primefaces.mock.pf.PrimeApplicationContextMock;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortMeta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.el.ExpressionFactory;
 import jakarta.el.ValueExpression;
+import jakarta.faces.FacesException;
 import jakarta.faces.context.FacesContext;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -48,6 +63,34 @@ class DataTableTest {
         assertFalse(table.isAllowUnsorting());
     }
 
+    @Test
+    void columnPlanResolvesLiteralAttributesOnce() {
+        new FacesContextMock();
+
+        Column column = new Column();
+        column.setStyle("width: 10px");
+        column.setResponsivePriority(2);
+
+        AtomicInteger evaluations = new AtomicInteger();
+        ValueExpression styleClassVE = mock(ValueExpression.class);
+        when(styleClassVE.getValue(any())).thenAnswer(invocation -> "row-" + evaluations.incrementAndGet());
+        column.setValueExpression("styleClass", styleClassVE);
+
+        List<UIColumn> columns = Arrays.asList(column);
+        ColumnPlan plan = new ColumnPlan(columns);
+        assertTrue(plan.isPlanFor(columns));
+
+        ColumnPlan.Cell cell = plan.getCell(0);
+        column.setStyle("width: 20px");
+        assertEquals("width: 10px", cell.getStyle());
+        assertEquals(2, cell.getResponsivePriority());
+        assertTrue(cell.isRendered());
+
+        // value expressions are evaluated for each row
+        assertEquals("row-1", cell.getStyleClass());
+        assertEquals("row-2", cell.getStyleClass());
+    }
+
     @Test
     void resolveStaticField() {
         FacesContext context = new FacesContextMock();
@@ -105,4 +148,105 @@ class DataTableTest {
                 context.getELContext(), "#{i18n[row][column[property]]}", String.class);
         assertNull(column.resolveField(context, exprVE));
     }
+
+    @Test
+    void getRowDataByRowKeyUsesIndex() {
+        AtomicInteger evaluations = new AtomicInteger();
+        DataTable table = new DataTable() {
+            @Override
+            public String getRowKey(Object object) {
+                evaluations.incrementAndGet();
+                return "key" + object;
+            }
+        };
+
+        List<Integer> data = Arrays.asList(1, 2, 3, 4, 5);
+        table.setValue(data);
+
+        assertEquals(2, table.getRowData("key2"));
+        assertEquals(5, table.getRowData("key5"));
+        assertNull(table.getRowData("key6"));
+        assertEquals(data.size(), evaluations.get());
+
+        table.setValue(Arrays.asList(6, 7));
+        assertEquals(6, table.getRowData("key6"));
+        assertNull(table.getRowData("key2"));
+        assertEquals(data.size() + 2, evaluations.get());
+    }
+
+    @Test
+    void concurrentCountIsReusedForTheRequest() {
+        FacesContext context = new FacesContextMock();
+        PrimeApplicationContext.setCurrentInstance(new PrimeApplicationContextMock(context), context);
+        try {
+            AtomicInteger counts = new AtomicInteger();
+            List<Integer> offsets = new ArrayList<>();
+            LazyDataModel<Integer> model = new LazyDataModel<Integer>() {
+                @Override
+                public int count(Map<String, FilterMeta> filterBy) {
+                    counts.incrementAndGet();
+                    return 25;
+                }
+
+                @Override
+                public List<Integer> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+                    offsets.add(first);
+                    return Collections.nCopies(Math.max(0, Math.min(pageSize, 25 - first)), first);
+                }
+            };
+            model.setConcurrentCount(true);
+
+            DataTable table = lazyTable(model);
+
+            // the requested page is behind the last one, so it's loaded again, but counted only once
+            table.loadLazyScrollData(30, 10);
+
+            assertEquals(1, counts.get());
+            assertEquals(Arrays.asList(30, 20), offsets);
+            assertEquals(25, model.getRowCount());
+            assertEquals(20, table.getFirst());
+        }
+        finally {
+            context.release();
+        }
+    }
+
+    @Test
+    void concurrentCountPropagatesFailures() {
+        FacesContext context = new FacesContextMock();
+        PrimeApplicationContext.setCurrentInstance(new PrimeApplicationContextMock(context), context);
+        try {
+            IllegalStateException failure = new IllegalStateException("count failed");
+            LazyDataModel<Integer> model = new LazyDataModel<Integer>() {
+                @Override
+                public int count(Map<String, FilterMeta> filterBy) {
+                    throw failure;
+                }
+
+                @Override
+                public List<Integer> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+                    return Collections.emptyList();
+                }
+            };
+            model.setConcurrentCount(true);
+
+            DataTable table = lazyTable(model);
+
+            FacesException e = assertThrows(FacesException.class, () -> table.loadLazyScrollData(0, 10));
+            assertSame(failure, e.getCause());
+        }
+        finally {
+            context.release();
+        }
+    }
+
+    private static DataTable lazyTable(LazyDataModel<?> model) {
+        DataTable table = new DataTable();
+        table.setId("table");
+        table.setValue(model);
+        table.setRows(10);
+        table.setFilterByAsMap(Collections.emptyMap());
+        table.setSortByAsMap(Collections.emptyMap());
+        return table;
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupBoundariesTest {
+
+    @Test
+    void detectsGroupsOfPage() {
+        GroupBoundaries groups = new GroupBoundaries(10, new Object[] {"a", "a", "b", null, null}, 5, false);
+
+        assertEquals(3, groups.getGroupCount());
+        assertTrue(groups.isGroupStart(10));
+        assertFalse(groups.isGroupStart(11));
+        assertTrue(groups.isGroupStart(12));
+        assertTrue(groups.isGroupStart(13));
+        assertTrue(groups.isGroupEnd(11));
+        assertTrue(groups.isGroupEnd(12));
+        assertFalse(groups.isGroupEnd(13));
+        assertTrue(groups.isGroupEnd(14));
+        assertEquals(10, groups.getGroupStart(11));
+        assertEquals(2, groups.getGroupSize(14));
+        assertEquals("b", groups.getGroupKey(12));
+    }
+
+    @Test
+    void lastGroupContinuedOnNextPage() {
+        GroupBoundaries groups = new GroupBoundaries(0, new Object[] {"a", "b", "b"}, 3, true);
+
+        assertTrue(groups.isGroupEnd(0));
+        assertFalse(groups.isGroupEnd(2));
+    }
+
+    @Test
+    void shortPage() {
+        GroupBoundaries groups = new GroupBoundaries(0, new Object[] {"a", "a", null, null}, 2, false);
+
+        assertEquals(1, groups.getGroupCount());
+        assertTrue(groups.isGroupEnd(1));
+        assertEquals(2, groups.getGroupSize(0));
+    }
+}
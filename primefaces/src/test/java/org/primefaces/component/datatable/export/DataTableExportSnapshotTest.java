@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable.export;
+
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.component.export.ExportConfiguration;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.LazySelection;
+import org.primefaces.model.SortMeta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DataTableExportSnapshotTest {
+
+    @Test
+    void lazyModelWithoutDetachedLoaderIsNotSupported() {
+        LazyDataModel<Object> model = mock(LazyDataModel.class);
+        DataTable table = mockLazyTable(model);
+
+        assertNull(DataTableExportSnapshot.of(null, table, ExportConfiguration.builder().build()));
+    }
+
+    @Test
+    void lazyRowsAreLoadedPageByPageWithoutTheModel() throws Exception {
+        TestLoader loader = new TestLoader(Arrays.asList("a", "b", "c", "d", "e"));
+        LazyDataModel<Object> model = mock(LazyDataModel.class);
+        when(model.createDetachedLoader(any(), any())).thenReturn(loader);
+        DataTable table = mockLazyTable(model);
+
+        List<Object> exported = new ArrayList<>();
+        try (DataTableExportSnapshot snapshot = DataTableExportSnapshot.of(null, table, ExportConfiguration.builder().bufferSize(2).build())) {
+            assertEquals(5, snapshot.count());
+            snapshot.forEachRow(exported::add);
+        }
+
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), exported);
+        assertEquals(Arrays.asList(0, 2, 4), loader.firsts);
+        assertTrue(loader.closed);
+        verify(model, never()).load(anyInt(), anyInt(), any(), any());
+        verify(model, never()).count(any());
+    }
+
+    @Test
+    void lazySelectionSkipsExcludedRows() throws Exception {
+        TestLoader loader = new TestLoader(Arrays.asList("a", "b", "c"));
+        LazyDataModel<Object> model = mock(LazyDataModel.class);
+        when(model.createDetachedLoader(any(), any())).thenReturn(loader);
+        DataTable table = mockLazyTable(model);
+        when(table.isLazySelectionEnabled()).thenReturn(true);
+        when(table.getLazySelection()).thenReturn(new LazySelection(null, null, Collections.singletonList("b")));
+
+        List<Object> exported = new ArrayList<>();
+        try (DataTableExportSnapshot snapshot = DataTableExportSnapshot.of(null, table,
+                ExportConfiguration.builder().selectionOnly(true).bufferSize(2).build())) {
+            assertEquals(2, snapshot.count());
+            snapshot.forEachRow(exported::add);
+        }
+
+        assertEquals(Arrays.asList("a", "c"), exported);
+    }
+
+    private static DataTable mockLazyTable(LazyDataModel<Object> model) {
+        DataTable table = mock(DataTable.class);
+        when(table.isLazy()).thenReturn(true);
+        when(table.getValue()).thenReturn(model);
+        when(table.getActiveSortMeta()).thenReturn(Collections.<String, SortMeta>emptyMap());
+        when(table.getActiveFilterMeta()).thenReturn(Collections.<String, FilterMeta>emptyMap());
+        return table;
+    }
+
+    private static final class TestLoader implements LazyDataModel.DetachedLoader<Object> {
+
+        private final List<Object> rows;
+        private final List<Integer> firsts = new ArrayList<>();
+        private boolean closed;
+
+        private TestLoader(List<Object> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int count() {
+            return rows.size();
+        }
+
+        @Override
+        public List<Object> load(int first, int pageSize) {
+            firsts.add(first);
+            return new ArrayList<>(rows.subList(Math.min(first, rows.size()), Math.min(first + pageSize, rows.size())));
+        }
+
+        @Override
+        public String getRowKey(Object row) {
+            return (String) row;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
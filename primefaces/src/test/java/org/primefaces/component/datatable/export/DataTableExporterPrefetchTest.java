@@ -0,0 +1,192 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable.export;
+
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.component.export.ExportConfiguration;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortMeta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.faces.FacesException;
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DataTableExporterPrefetchTest {
+
+    @Test
+    void pagesAreExportedInOrderUntilTheShortLastPage() {
+        PagedModel model = new PagedModel(5, true);
+        model.pendingFrom = 6;
+        RecordingExporter exporter = new RecordingExporter(model, 2, 1);
+
+        exporter.exportAll(null, mockTable(model));
+
+        assertEquals(model.rows, exporter.exported);
+        assertEquals(List.of(0, 2, 4, 6), model.asyncOffsets);
+        assertTrue(model.sync.isEmpty());
+        // only the page behind the short last page is still pending
+        assertEquals(List.of(false, false, false, true), model.cancelled());
+    }
+
+    @Test
+    void emptyLastPageEndsTheExport() {
+        PagedModel model = new PagedModel(4, true);
+        model.pendingFrom = 6;
+        RecordingExporter exporter = new RecordingExporter(model, 2, 2);
+
+        exporter.exportAll(null, mockTable(model));
+
+        assertEquals(model.rows, exporter.exported);
+        assertEquals(List.of(0, 2, 4, 6, 8), model.asyncOffsets);
+        assertEquals(List.of(false, false, false, true, true), model.cancelled());
+    }
+
+    @Test
+    void failedPageCancelsPendingPages() {
+        PagedModel model = new PagedModel(10, true);
+        model.failAt = 2;
+        model.pendingFrom = 4;
+        RecordingExporter exporter = new RecordingExporter(model, 2, 2);
+
+        assertThrows(FacesException.class, () -> exporter.exportAll(null, mockTable(model)));
+
+        assertEquals(model.rows.subList(0, 2), exporter.exported);
+        assertEquals(List.of(false, false, true, true), model.cancelled());
+    }
+
+    @Test
+    void modelsWithoutLoadAsyncAreExportedSerially() {
+        PagedModel model = new PagedModel(5, false);
+        RecordingExporter exporter = new RecordingExporter(model, 2, 2);
+
+        exporter.exportAll(null, mockTable(model));
+
+        assertEquals(model.rows, exporter.exported);
+        assertTrue(model.asyncOffsets.isEmpty());
+        assertEquals(List.of(0, 2, 4, 5), model.sync);
+    }
+
+    private static DataTable mockTable(PagedModel model) {
+        DataTable table = mock(DataTable.class);
+        when(table.isLazy()).thenReturn(true);
+        when(table.getValue()).thenReturn(model);
+        when(table.getActiveSortMeta()).thenReturn(Collections.<String, SortMeta>emptyMap());
+        when(table.getActiveFilterMeta()).thenReturn(Collections.<String, FilterMeta>emptyMap());
+        return table;
+    }
+
+    private static final class RecordingExporter extends DataTableCSVExporter {
+
+        private final PagedModel model;
+        private final List<Object> exported = new ArrayList<>();
+
+        private RecordingExporter(PagedModel model, int bufferSize, int prefetch) {
+            this.model = model;
+            this.exportConfiguration = ExportConfiguration.builder().bufferSize(bufferSize).prefetch(prefetch).build();
+        }
+
+        @Override
+        protected Executor getPrefetchExecutor(FacesContext context) {
+            // pages are completed by the test model itself
+            return Runnable::run;
+        }
+
+        @Override
+        protected void exportRow(FacesContext context, DataTable table, int rowIndex) {
+            exported.add(model.getWrappedData().get(rowIndex));
+        }
+    }
+
+    private static final class PagedModel extends LazyDataModel<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Object> rows;
+        private final boolean loadAsyncSupported;
+        private final List<Integer> sync = new ArrayList<>();
+        private final List<Integer> asyncOffsets = new ArrayList<>();
+        private final List<CompletableFuture<List<Object>>> pages = new ArrayList<>();
+        private int failAt = -1;
+        private int pendingFrom = Integer.MAX_VALUE;
+
+        private PagedModel(int size, boolean loadAsyncSupported) {
+            this.rows = IntStream.range(0, size).boxed().collect(Collectors.toList());
+            this.loadAsyncSupported = loadAsyncSupported;
+        }
+
+        @Override
+        public int count(Map<String, FilterMeta> filterBy) {
+            return rows.size();
+        }
+
+        @Override
+        public List<Object> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+            sync.add(first);
+            return page(first, pageSize);
+        }
+
+        @Override
+        public boolean isLoadAsyncSupported() {
+            return loadAsyncSupported;
+        }
+
+        @Override
+        public CompletableFuture<List<Object>> loadAsync(Executor executor, int first, int pageSize, Map<String, SortMeta> sortBy,
+                Map<String, FilterMeta> filterBy) {
+            asyncOffsets.add(first);
+            CompletableFuture<List<Object>> page = new CompletableFuture<>();
+            if (first == failAt) {
+                page.completeExceptionally(new IllegalStateException("broken"));
+            }
+            else if (first < pendingFrom) {
+                page.complete(page(first, pageSize));
+            }
+            // pages from pendingFrom stay pending, so the test can check that they are cancelled
+            pages.add(page);
+            return page;
+        }
+
+        private List<Object> page(int first, int pageSize) {
+            return new ArrayList<>(rows.subList(Math.min(first, rows.size()), Math.min(first + pageSize, rows.size())));
+        }
+
+        private List<Boolean> cancelled() {
+            return pages.stream().map(CompletableFuture::isCancelled).collect(Collectors.toList());
+        }
+    }
+}
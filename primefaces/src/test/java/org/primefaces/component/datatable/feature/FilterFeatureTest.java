@@ -0,0 +1,238 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable.feature;
+
+import org.primefaces.component.api.UIColumn;
+import org.primefaces.component.column.Column;
+import org.primefaces.component.columns.Columns;
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.mock.FacesContextMock;
+import org.primefaces.mock.pf.PrimeApplicationContextMock;
+import org.primefaces.model.FilterMeta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jakarta.el.ValueExpression;
+import jakarta.faces.component.UIViewRoot;
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FilterFeatureTest {
+
+    private FacesContext context;
+    private List<Car> cars;
+
+    @BeforeEach
+    void setup() {
+        context = new FacesContextMock();
+        PrimeApplicationContext.setCurrentInstance(new PrimeApplicationContextMock(context), context);
+        UIViewRoot viewRoot = new UIViewRoot();
+        viewRoot.setLocale(Locale.ENGLISH);
+        context.setViewRoot(viewRoot);
+
+        cars = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            cars.add(new Car("car" + i, 2000 + i % 20));
+        }
+    }
+
+    @AfterEach
+    void teardown() {
+        context.release();
+    }
+
+    @Test
+    void parallelFilterKeepsOrderOfSequentialFilter() {
+        DataTable sequential = table(fieldColumn());
+        filter(sequential, "1");
+
+        DataTable parallel = table(fieldColumn());
+        parallel.setParallelFilter(100);
+        AtomicInteger parallelFilters = new AtomicInteger();
+        filter(parallel, "1", new FilterFeature() {
+            @Override
+            protected void filterParallel(FacesContext context, FilterPlan plan, List<?> rows, List<Object> filtered) {
+                parallelFilters.incrementAndGet();
+                super.filterParallel(context, plan, rows, filtered);
+            }
+        });
+        assertEquals(1, parallelFilters.get());
+
+        List<String> expected = cars.stream().map(Car::getBrand).filter(brand -> brand.contains("1")).collect(Collectors.toList());
+        assertEquals(expected, brands(sequential));
+        assertEquals(expected, brands(parallel));
+    }
+
+    @Test
+    void fieldColumnIsFilteredWithoutRowState() {
+        RowIndexCountingTable table = table(new RowIndexCountingTable(), fieldColumn());
+        filter(table, "19");
+
+        assertEquals(0, table.rowIndexChanges);
+        assertEquals(expectedBrands("19"), brands(table));
+    }
+
+    @Test
+    void filterByColumnIsFilteredWithRowState() {
+        Column column = new Column();
+        column.setId("brand");
+        column.setFilterMatchMode("contains");
+        ValueExpression filterBy = mock(ValueExpression.class);
+        when(filterBy.getExpressionString()).thenReturn("#{car.brand.toUpperCase()}");
+        when(filterBy.getValue(any())).thenAnswer(invocation -> {
+            Car car = (Car) context.getExternalContext().getRequestMap().get("car");
+            return car == null ? null : car.getBrand().toUpperCase();
+        });
+        column.setValueExpression("filterBy", filterBy);
+
+        RowIndexCountingTable table = table(new RowIndexCountingTable(), column);
+        filter(table, "CAR19");
+
+        // the filterBy expression relies on the var of the table, so each row must be set
+        assertEquals(cars.size(), table.rowIndexChanges);
+        assertEquals(expectedBrands("car19"), brands(table));
+    }
+
+    @Test
+    void dynamicColumnIsFilteredWithoutRowState() {
+        Columns columns = new Columns();
+        columns.setId("columns");
+        columns.setVar("column");
+        columns.setValue(Collections.singletonList("brand"));
+        ValueExpression field = mock(ValueExpression.class);
+        when(field.getValue(any())).thenAnswer(invocation -> context.getExternalContext().getRequestMap().get("column"));
+        columns.setValueExpression("field", field);
+        columns.setFilterMatchMode("contains");
+
+        RowIndexCountingTable table = new RowIndexCountingTable();
+        table.setId("table");
+        table.setVar("car");
+        table.setValueExpression("value", valueOf(cars));
+        table.getChildren().add(columns);
+        filter(table, "19");
+
+        assertEquals(0, table.rowIndexChanges);
+        assertEquals(expectedBrands("19"), brands(table));
+    }
+
+    private List<String> expectedBrands(String contains) {
+        return cars.stream().map(Car::getBrand).filter(brand -> brand.contains(contains)).collect(Collectors.toList());
+    }
+
+    private static List<String> brands(DataTable table) {
+        // the filtered rows are the value of the table until the next filter request
+        return ((List<?>) table.getValue()).stream().map(car -> ((Car) car).getBrand()).collect(Collectors.toList());
+    }
+
+    private DataTable table(Column column) {
+        return table(new DataTable(), column);
+    }
+
+    private <T extends DataTable> T table(T table, Column column) {
+        table.setId("table");
+        table.setVar("car");
+        table.setValueExpression("value", valueOf(cars));
+        table.getChildren().add(column);
+        return table;
+    }
+
+    private static ValueExpression valueOf(Object value) {
+        ValueExpression expression = mock(ValueExpression.class);
+        when(expression.getValue(any())).thenReturn(value);
+        return expression;
+    }
+
+    private static Column fieldColumn() {
+        Column column = new Column();
+        column.setId("brand");
+        column.setField("brand");
+        column.setFilterMatchMode("contains");
+        return column;
+    }
+
+    private void filter(DataTable table, Object filterValue) {
+        filter(table, filterValue, new FilterFeature());
+    }
+
+    private void filter(DataTable table, Object filterValue, FilterFeature feature) {
+        Map<String, FilterMeta> filterBy = new LinkedHashMap<>();
+        for (UIColumn column : table.getColumns()) {
+            FilterMeta filterMeta = FilterMeta.of(context, table.getVar(), column, false);
+            filterMeta.setFilterValue(filterValue);
+            filterBy.put(filterMeta.getColumnKey(), filterMeta);
+        }
+        table.setFilterByAsMap(filterBy);
+
+        feature.filter(context, table);
+    }
+
+    /**
+     * Counts the rows set via {@link DataTable#setRowIndex(int)}, resetting the row index (-1) isn't counted.
+     */
+    static class RowIndexCountingTable extends DataTable {
+
+        private int rowIndexChanges;
+
+        @Override
+        public void setRowIndex(int rowIndex) {
+            if (rowIndex >= 0) {
+                rowIndexChanges++;
+            }
+            super.setRowIndex(rowIndex);
+        }
+    }
+
+    public static class Car {
+
+        private final String brand;
+        private final int year;
+
+        public Car(String brand, int year) {
+            this.brand = brand;
+            this.year = year;
+        }
+
+        public String getBrand() {
+            return brand;
+        }
+
+        public int getYear() {
+            return year;
+        }
+    }
+}
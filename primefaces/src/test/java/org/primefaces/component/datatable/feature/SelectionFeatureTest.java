@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable.feature;
+
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.LazySelection;
+import org.primefaces.model.SortMeta;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.el.ValueExpression;
+import jakarta.faces.context.ExternalContext;
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SelectionFeatureTest {
+
+    private FacesContext context;
+    private Map<String, String> params;
+    private Map<String, Object> requestMap;
+    private DataTable table;
+    private ValueExpression lazySelectionVE;
+
+    @BeforeEach
+    void setup() {
+        context = mock(FacesContext.class);
+        ExternalContext externalContext = mock(ExternalContext.class);
+        params = new HashMap<>();
+        requestMap = new HashMap<>();
+        when(context.getExternalContext()).thenReturn(externalContext);
+        when(externalContext.getRequestParameterMap()).thenReturn(params);
+        when(externalContext.getRequestMap()).thenReturn(requestMap);
+
+        table = mock(DataTable.class);
+        lazySelectionVE = mock(ValueExpression.class);
+        when(table.getClientId(context)).thenReturn("table");
+        when(table.isLazySelectionEnabled()).thenReturn(true);
+        when(table.getValueExpression("lazySelection")).thenReturn(lazySelectionVE);
+    }
+
+    @Test
+    void decodeLazySelectionRoundTrip() {
+        params.put("table_selection", "@all,!2,!8");
+
+        new SelectionFeature().decode(context, table);
+
+        ArgumentCaptor<LazySelection> lazySelection = ArgumentCaptor.forClass(LazySelection.class);
+        verify(lazySelectionVE).setValue(any(), lazySelection.capture());
+        assertEquals(new LinkedHashSet<>(Arrays.asList("2", "8")), lazySelection.getValue().getExcludedRowKeys());
+        verify(table, never()).setSelectAll(true);
+
+        // encoded again for the widget
+        when(table.getLazySelection()).thenReturn(lazySelection.getValue());
+        when(table.getSelectedRowKeysAsString()).thenCallRealMethod();
+        assertEquals("@all,!2,!8", table.getSelectedRowKeysAsString());
+    }
+
+    @Test
+    void decodeWithoutSelectAllResetsLazySelection() {
+        params.put("table_selection", "2,8");
+
+        new SelectionFeature().decode(context, table);
+
+        verify(lazySelectionVE).setValue(any(), isNull());
+    }
+
+    @Test
+    void streamLazySelectionSkipsDisabledRows() {
+        NumbersModel model = new NumbersModel();
+        model.setPageSize(3);
+        when(table.getLazySelection()).thenReturn(new LazySelection(null, null, Collections.singleton("2")));
+        when(table.getValue()).thenReturn(model);
+        when(table.getValueExpression("selectionDisabled")).thenReturn(mock(ValueExpression.class));
+        when(table.getVar()).thenReturn("number");
+        when(table.isSelectionDisabled()).thenAnswer(invocation -> (Integer) requestMap.get("number") % 3 == 0);
+        when(table.streamLazySelection(context)).thenCallRealMethod();
+
+        assertEquals(Arrays.asList(1, 4, 5, 7), table.streamLazySelection(context).collect(Collectors.toList()));
+        assertFalse(requestMap.containsKey("number"));
+    }
+
+    /**
+     * The numbers 0 to 7.
+     */
+    private static class NumbersModel extends LazyDataModel<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int count(Map<String, FilterMeta> filterBy) {
+            return 8;
+        }
+
+        @Override
+        public List<Integer> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+            return IntStream.range(first, Math.min(first + pageSize, 8)).boxed().collect(Collectors.toList());
+        }
+
+        @Override
+        public String getRowKey(Integer row) {
+            return String.valueOf(row);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import org.primefaces.component.api.UIColumn;
+import org.primefaces.component.api.UITable;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.mock.FacesContextMock;
+import org.primefaces.mock.pf.PrimeApplicationContextMock;
+import org.primefaces.util.PropertyDescriptorResolver;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import jakarta.el.ValueExpression;
+import jakarta.faces.FacesException;
+import jakarta.faces.application.Application;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.convert.Converter;
+import jakarta.faces.convert.IntegerConverter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ColumnValueAccessorTest {
+
+    @Test
+    void rowProperty() {
+        assertEquals("brand", ColumnValueAccessor.getRowProperty("car", "#{car.brand}"));
+        assertEquals("owner.name", ColumnValueAccessor.getRowProperty("car", "#{car.owner.name}"));
+        assertNull(ColumnValueAccessor.getRowProperty("car", "#{car}"));
+        assertNull(ColumnValueAccessor.getRowProperty("car", "#{car.brand.toUpperCase()}"));
+        assertNull(ColumnValueAccessor.getRowProperty("car", "#{car['brand']}"));
+        assertNull(ColumnValueAccessor.getRowProperty("car", "#{car.brand} #{car.year}"));
+        assertNull(ColumnValueAccessor.getRowProperty("car", "#{bean.brand}"));
+        assertNull(ColumnValueAccessor.getRowProperty("car", "#{cars.brand}"));
+        assertNull(ColumnValueAccessor.getRowProperty(null, "#{car.brand}"));
+    }
+
+    @Test
+    void readsPropertyOfRowData() {
+        FacesContext context = mock(FacesContext.class);
+        ColumnValueAccessor accessor = new ColumnValueAccessor(new PropertyDescriptorResolver.MethodHandleResolver(), null,
+                "owner.name", false, null, null);
+
+        assertEquals("Max", accessor.getValue(context, new Car("BMW", new Owner("Max"))).getValue());
+        assertNull(accessor.getValue(context, new Car("BMW", null)).getValue());
+        assertNull(accessor.getValue(context, null).getValue());
+    }
+
+    @Test
+    void fallsBackForUnsupportedRowData() {
+        FacesContext context = mock(FacesContext.class);
+        ColumnValueAccessor accessor = new ColumnValueAccessor(new PropertyDescriptorResolver.MethodHandleResolver(), null,
+                "brand", false, null, null);
+
+        assertNull(accessor.getValue(context, Collections.singletonMap("brand", "BMW")));
+        assertNull(accessor.getValue(context, new Owner("Max")));
+        assertEquals("BMW", accessor.getValue(context, new Car("BMW", null)).getValue());
+    }
+
+    @Test
+    void constant() {
+        ColumnValueAccessor accessor = new ColumnValueAccessor(new PropertyDescriptorResolver.MethodHandleResolver(), null,
+                null, false, null, "n/a");
+
+        assertEquals("n/a", accessor.getValue(mock(FacesContext.class), new Car("BMW", null)).getValue());
+    }
+
+    @Test
+    void detachedAppliesStandardConvertersOnly() {
+        FacesContext context = mock(FacesContext.class);
+        Application application = mock(Application.class);
+        when(context.getApplication()).thenReturn(application);
+        when(application.getConverterTypes()).thenAnswer(i -> Arrays.<Class<?>> asList(Integer.class, int.class, Owner.class).iterator());
+        when(application.createConverter(Integer.class)).thenReturn(new IntegerConverter());
+        when(application.createConverter(Owner.class)).thenReturn(mock(Converter.class));
+        PropertyDescriptorResolver resolver = new PropertyDescriptorResolver.MethodHandleResolver();
+
+        ColumnValueAccessor brand = new ColumnValueAccessor(resolver, null, "brand", true, null, null).detach(context);
+        assertEquals("BMW", brand.getValue(null, new Car("BMW", null)).getValue());
+        assertNull(brand.getValue(null, new Car(null, null)).getValue());
+
+        ColumnValueAccessor owner = new ColumnValueAccessor(resolver, null, "owner", true, null, null).detach(context);
+        assertThrows(FacesException.class, () -> owner.getValue(null, new Car("BMW", new Owner("Max"))));
+
+        ColumnValueAccessor unconverted = new ColumnValueAccessor(resolver, null, "owner.name", false, null, null);
+        assertSame(unconverted, unconverted.detach(context));
+
+        assertNull(new ColumnValueAccessor(resolver, null, "brand", true, new IntegerConverter(), null).detach(context));
+        assertNull(new ColumnValueAccessor(resolver, null, "brand", false, null, null, true, false).detach(context));
+    }
+
+    @Test
+    void nullExportValueFallsBackToOtherSources() {
+        FacesContext context = new FacesContextMock();
+        PrimeApplicationContext.setCurrentInstance(new PrimeApplicationContextMock(context), context);
+        try {
+            UITable<?> table = mock(UITable.class);
+            when(table.getVar()).thenReturn("car");
+
+            ValueExpression exportValue = mock(ValueExpression.class);
+            when(exportValue.getExpressionString()).thenReturn("#{car.owner.name}");
+            UIComponent component = mock(UIComponent.class);
+            when(component.getValueExpression("exportValue")).thenReturn(exportValue);
+            UIColumn column = mock(UIColumn.class);
+            when(column.asUIComponent()).thenReturn(component);
+
+            // no other source, so null is the value
+            ColumnValueAccessor accessor = ColumnValueAccessor.of(context, table, column);
+            assertNull(accessor.getValue(context, new Car("BMW", null)).getValue());
+            assertFalse(accessor.isRowIndexRequired());
+
+            when(column.getField()).thenReturn("brand");
+            accessor = ColumnValueAccessor.of(context, table, column);
+            assertEquals("Max", accessor.getValue(context, new Car("BMW", new Owner("Max"))).getValue());
+            assertNull(accessor.getValue(context, new Car("BMW", null)));
+            assertFalse(accessor.isRowIndexRequired());
+
+            when(column.getField()).thenReturn(null);
+            when(component.getChildCount()).thenReturn(1);
+            accessor = ColumnValueAccessor.of(context, table, column);
+            assertNull(accessor.getValue(context, new Car("BMW", null)));
+            assertTrue(accessor.isRowIndexRequired());
+        }
+        finally {
+            context.release();
+        }
+    }
+
+    public static class Car {
+
+        private final String brand;
+        private final Owner owner;
+
+        public Car(String brand, Owner owner) {
+            this.brand = brand;
+            this.owner = owner;
+        }
+
+        public String getBrand() {
+            return brand;
+        }
+
+        public Owner getOwner() {
+            return owner;
+        }
+    }
+
+    public static class Owner {
+
+        private final String name;
+
+        public Owner(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeferredFileOutputStreamTest {
+
+    private final ExportJobs exportJobs = new ExportJobs(null, 1, 600);
+
+    @Test
+    void keepsSmallExportInMemory() throws Exception {
+        DeferredFileOutputStream os = new DeferredFileOutputStream(exportJobs, "cars.csv", 8);
+        try (os) {
+            os.write("a;b\n".getBytes(StandardCharsets.UTF_8));
+            os.write('c');
+            os.write(";d\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertNull(os.getFile());
+        assertEquals("a;b\nc;d\n", new String(os.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void movesLargeExportIntoFile() throws Exception {
+        DeferredFileOutputStream os = new DeferredFileOutputStream(exportJobs, "cars.csv", 8);
+        try (os) {
+            os.write("a;b\nc;d\n".getBytes(StandardCharsets.UTF_8));
+            os.write('e');
+            os.write(";f\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        Path file = os.getFile();
+        try {
+            assertNotNull(file);
+            assertTrue(file.getFileName().toString().endsWith(".csv"));
+            assertEquals("a;b\nc;d\ne;f\n", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void negativeThresholdNeverWritesFile() throws Exception {
+        DeferredFileOutputStream os = new DeferredFileOutputStream(exportJobs, "cars.csv", -1);
+        try (os) {
+            os.write(new byte[100_000]);
+        }
+
+        assertNull(os.getFile());
+        assertEquals(100_000, os.toByteArray().length);
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.faces.context.ExternalContext;
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExportJobsTest {
+
+    private ExecutorService executor;
+    private FacesContext context;
+    private FacesContext otherContext;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newCachedThreadPool();
+        context = mockContext("session1");
+        otherContext = mockContext("session2");
+    }
+
+    @AfterEach
+    void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void submitWritesFileWhichIsServedOnceToTheOwner() throws Exception {
+        ExportJobs jobs = new ExportJobs(executor, 2, 600);
+
+        ExportJob job = jobs.submit(context, "cars.csv", "text/csv", (os, j) -> {
+            j.setTotalRows(2);
+            os.write("a\nb\n".getBytes(StandardCharsets.UTF_8));
+            j.addRowsWritten(2);
+        });
+        awaitFinished(job);
+
+        assertEquals(ExportJob.Status.DONE, job.getStatus());
+        assertEquals(100, job.getProgress());
+        assertEquals(2, job.getRowsWritten());
+        assertEquals("a\nb\n", new String(Files.readAllBytes(job.getFile()), StandardCharsets.UTF_8));
+        assertTrue(job.getFile().getFileName().toString().endsWith(".csv"));
+
+        assertNull(jobs.get(otherContext, job.getId()));
+        assertNull(jobs.take(otherContext, job.getId()));
+        assertSame(job, jobs.take(context, job.getId()));
+        assertNull(jobs.take(context, job.getId()));
+
+        job.deleteFile();
+    }
+
+    @Test
+    void failedJobDeletesFile() throws Exception {
+        ExportJobs jobs = new ExportJobs(executor, 2, 600);
+
+        ExportJob job = jobs.submit(context, "cars.csv", "text/csv", (os, j) -> {
+            throw new IllegalStateException("broken");
+        });
+        awaitFinished(job);
+
+        assertEquals(ExportJob.Status.FAILED, job.getStatus());
+        assertInstanceOf(IllegalStateException.class, job.getError());
+        assertFalse(Files.exists(job.getFile()));
+        assertNull(jobs.take(context, job.getId()));
+    }
+
+    @Test
+    void limitsConcurrentJobs() throws Exception {
+        ExportJobs jobs = new ExportJobs(executor, 1, 600);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExportJob first = jobs.submit(context, "first.csv", "text/csv", (os, j) -> {
+            started.countDown();
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ExportJob second = jobs.submit(context, "second.csv", "text/csv", (os, j) -> os.write(1));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(ExportJob.Status.RUNNING, first.getStatus());
+        assertEquals(ExportJob.Status.QUEUED, second.getStatus());
+
+        release.countDown();
+        awaitFinished(first);
+        awaitFinished(second);
+        assertEquals(ExportJob.Status.DONE, second.getStatus());
+
+        jobs.release();
+        assertFalse(Files.exists(first.getFile()));
+        assertFalse(Files.exists(second.getFile()));
+    }
+
+    @Test
+    void queuedJobsDontOccupyExecutorThreads() throws Exception {
+        ExportJobs jobs = new ExportJobs(executor, 1, 600);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExportJob first = jobs.submit(context, "first.csv", "text/csv", (os, j) -> {
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ExportJob second = jobs.submit(context, "second.csv", "text/csv", (os, j) -> os.write(1));
+        ExportJob third = jobs.submit(context, "third.csv", "text/csv", (os, j) -> os.write(1));
+
+        assertEquals(1, ((ThreadPoolExecutor) executor).getTaskCount());
+
+        release.countDown();
+        awaitFinished(first);
+        awaitFinished(second);
+        awaitFinished(third);
+        assertEquals(ExportJob.Status.DONE, third.getStatus());
+        assertEquals(3, ((ThreadPoolExecutor) executor).getTaskCount());
+
+        jobs.release();
+    }
+
+    @Test
+    void cancelRunningJobStartsQueuedJob() throws Exception {
+        ExportJobs jobs = new ExportJobs(executor, 1, 600);
+        CountDownLatch started = new CountDownLatch(1);
+
+        ExportJob first = jobs.submit(context, "first.csv", "text/csv", (os, j) -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ExportJob second = jobs.submit(context, "second.csv", "text/csv", (os, j) -> os.write(1));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        first.cancel();
+        awaitFinished(second);
+
+        assertEquals(ExportJob.Status.CANCELLED, first.getStatus());
+        assertEquals(ExportJob.Status.DONE, second.getStatus());
+
+        jobs.release();
+    }
+
+    @Test
+    void removeAllDeletesJobsOfSession() throws Exception {
+        ExportJobs jobs = new ExportJobs(executor, 1, 600);
+        ExportJob job = jobs.register(context, "cars.csv", "text/csv", jobs.createTempFile("cars.csv"));
+        ExportJob otherJob = jobs.register(otherContext, "cars.csv", "text/csv", jobs.createTempFile("cars.csv"));
+
+        jobs.removeAll("session1");
+
+        assertNull(jobs.get(context, job.getId()));
+        assertFalse(Files.exists(job.getFile()));
+        assertSame(otherJob, jobs.get(otherContext, otherJob.getId()));
+        assertTrue(Files.exists(otherJob.getFile()));
+
+        jobs.release();
+    }
+
+    @Test
+    void changeOwnerKeepsJobsAccessible() throws Exception {
+        ExportJobs jobs = new ExportJobs(executor, 1, 600);
+        ExportJob job = jobs.register(context, "cars.csv", "text/csv", jobs.createTempFile("cars.csv"));
+
+        jobs.changeOwner("session1", "session2");
+
+        assertNull(jobs.get(context, job.getId()));
+        assertSame(job, jobs.take(otherContext, job.getId()));
+
+        job.deleteFile();
+        jobs.release();
+    }
+
+    @Test
+    void cancelQueuedJob() throws Exception {
+        ExportJobs jobs = new ExportJobs(executor, 1, 600);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExportJob first = jobs.submit(context, "first.csv", "text/csv", (os, j) -> {
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ExportJob second = jobs.submit(context, "second.csv", "text/csv", (os, j) -> os.write(1));
+
+        second.cancel();
+        release.countDown();
+        awaitFinished(first);
+
+        assertEquals(ExportJob.Status.CANCELLED, second.getStatus());
+        assertFalse(Files.exists(second.getFile()));
+        assertNull(jobs.take(context, second.getId()));
+
+        jobs.release();
+    }
+
+    @Test
+    void sweepRemovesAbandonedFiles() throws Exception {
+        ExportJobs jobs = new ExportJobs(executor, 1, 0);
+        Path file = jobs.createTempFile("cars.csv");
+
+        ExportJob job = jobs.register(context, "cars.csv", "text/csv", file);
+        assertTrue(job.isDone());
+
+        Thread.sleep(5);
+        jobs.sweep();
+
+        assertFalse(Files.exists(file));
+        assertNull(jobs.get(context, job.getId()));
+    }
+
+    private static FacesContext mockContext(String sessionId) {
+        FacesContext context = mock(FacesContext.class);
+        ExternalContext externalContext = mock(ExternalContext.class);
+        when(context.getExternalContext()).thenReturn(externalContext);
+        when(externalContext.getSessionId(true)).thenReturn(sessionId);
+        return context;
+    }
+
+    private static void awaitFinished(ExportJob job) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000;
+        while (!job.isFinished() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertTrue(job.isFinished(), "job not finished: " + job);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.patch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactRowStatesTest {
+
+    @Test
+    void compactAndExpand() {
+        Map<String, Object> rowStates = new HashMap<>();
+        rowStates.put("form:tbl:0", rowState("form:tbl:0:input", "a"));
+        rowStates.put("form:tbl:3", rowState("form:tbl:3:input", "b"));
+
+        Object[] compact = CompactRowStates.compact("form:tbl", ':', rowStates);
+        assertNotNull(compact);
+        assertEquals(4, compact.length);
+
+        assertEquals(rowStates, CompactRowStates.expand("form:tbl", ':', compact));
+    }
+
+    @Test
+    void skipRowsWithoutState() {
+        Map<String, Object> rowStates = new HashMap<>();
+        rowStates.put("form:tbl:0", rowState("form:tbl:0:input", null));
+        rowStates.put("form:tbl:1", new HashMap<>());
+
+        Object[] compact = CompactRowStates.compact("form:tbl", ':', rowStates);
+        assertNotNull(compact);
+        assertEquals(0, compact.length);
+    }
+
+    @Test
+    void notCompactableIfNested() {
+        Map<String, Object> rowStates = new HashMap<>();
+        rowStates.put("form:repeat:0:tbl:0", rowState("form:repeat:0:tbl:0:input", "a"));
+
+        assertNull(CompactRowStates.compact("form:repeat:tbl", ':', rowStates));
+    }
+
+    private static Map<String, Object> rowState(String clientId, Object state) {
+        Map<String, Object> rowState = new HashMap<>();
+        rowState.put(clientId, state);
+        return rowState;
+    }
+}
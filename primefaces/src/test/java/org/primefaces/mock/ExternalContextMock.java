@@ -39,6 +39,8 @@ import jakarta.faces.context.ExternalContext;
 public class ExternalContextMock extends ExternalContext {
 
     private Map<String, Object> applicationMap = new HashMap<String, Object>();
+    private Map<String, Object> requestMap = new HashMap<String, Object>();
+    private Map<String, String> requestParameterMap = new HashMap<String, String>();
 
     @Override
     public void dispatch(String path) throws IOException {
@@ -127,12 +129,12 @@ public class ExternalContextMock extends ExternalContext {
 
     @Override
     public Map<String, Object> getRequestMap() {
-        return null;
+        return requestMap;
     }
 
     @Override
     public Map<String, String> getRequestParameterMap() {
-        return null;
+        return requestParameterMap;
     }
 
     @Override
@@ -0,0 +1,167 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.mock.FacesContextMock;
+import org.primefaces.mock.pf.PrimeApplicationContextMock;
+import org.primefaces.model.filter.FunctionFilterConstraint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.el.MethodExpression;
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DefaultLazyDataModelTest {
+
+    private FacesContext context;
+
+    @BeforeEach
+    void setup() {
+        context = new FacesContextMock();
+        PrimeApplicationContext.setCurrentInstance(new PrimeApplicationContextMock(context), context);
+    }
+
+    @AfterEach
+    void teardown() {
+        context.release();
+    }
+
+    @Test
+    void modelFilterDisablesNarrowing() {
+        List<String> values = Arrays.asList("a", "b", "c");
+        Set<Object> allowed = new HashSet<>(Collections.singleton("a"));
+        DefaultLazyDataModel<String> model = DefaultLazyDataModel.<String> builder()
+                .valueSupplier(filterBy -> values)
+                .filter((ctxt, value, filter, locale) -> allowed.contains(value))
+                .build();
+
+        assertEquals(Collections.singletonList("a"), model.load(0, 10, Collections.emptyMap(), Collections.emptyMap()));
+
+        // the filters didn't change, but the filter of the model now matches other rows
+        allowed.clear();
+        allowed.add("b");
+        assertEquals(Collections.singletonList("b"), model.load(0, 10, Collections.emptyMap(), Collections.emptyMap()));
+    }
+
+    @Test
+    void parallelFilterKeepsOrderOfSequentialFilter() {
+        List<Car> cars = cars();
+        Map<String, FilterMeta> filterBy = filterBy(generated(FilterMeta.builder().field("brand").matchMode(MatchMode.CONTAINS).filterValue("1").build()));
+
+        DefaultLazyDataModel<Car> parallel = model(cars, 100);
+        assertTrue(parallel.isParallelFilter(cars, filterBy, null));
+
+        List<Car> expected = cars.stream().filter(car -> car.getBrand().contains("1")).collect(Collectors.toList());
+        assertEquals(expected, model(cars, 0).load(0, 0, Collections.emptyMap(), filterBy));
+        assertEquals(expected, parallel.load(0, 0, Collections.emptyMap(), filterBy));
+    }
+
+    @Test
+    void parallelFilterConvertsFilterValueOnRequestThread() {
+        List<Car> cars = cars();
+        // the filter value must be converted to the Integer of the field, which is only possible on the request thread
+        Map<String, FilterMeta> filterBy = filterBy(generated(FilterMeta.builder().field("year").matchMode(MatchMode.EQUALS).filterValue("2005").build()));
+
+        DefaultLazyDataModel<Car> parallel = model(cars, 100);
+        assertTrue(parallel.isParallelFilter(cars, filterBy, null));
+
+        List<Car> expected = cars.stream().filter(car -> car.getYear() == 2005).collect(Collectors.toList());
+        assertEquals(100, expected.size());
+        assertEquals(expected, parallel.load(0, 0, Collections.emptyMap(), filterBy));
+    }
+
+    @Test
+    void functionsAndFilterByExpressionsAreFilteredSequentially() {
+        List<Car> cars = cars();
+        DefaultLazyDataModel<Car> model = model(cars, 100);
+
+        FilterMeta function = generated(FilterMeta.builder().field("brand").filterValue("1").build());
+        function.setConstraint(new FunctionFilterConstraint(mock(MethodExpression.class)));
+        assertFalse(model.isParallelFilter(cars, filterBy(function), null));
+
+        FilterMeta globalFunction = FilterMeta.of("1", mock(MethodExpression.class), false);
+        assertFalse(model.isParallelFilter(cars, Collections.emptyMap(), globalFunction));
+
+        FilterMeta expression = FilterMeta.builder().field("brand").matchMode(MatchMode.CONTAINS).filterValue("1").build();
+        assertFalse(model.isParallelFilter(cars, filterBy(expression), null));
+    }
+
+    private static DefaultLazyDataModel<Car> model(List<Car> cars, int parallelFilter) {
+        return DefaultLazyDataModel.<Car> builder()
+                .valueSupplier(filterBy -> cars)
+                .parallelFilter(parallelFilter)
+                .build();
+    }
+
+    private static List<Car> cars() {
+        List<Car> cars = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            cars.add(new Car("car" + i, 2000 + i % 20));
+        }
+        return cars;
+    }
+
+    private static FilterMeta generated(FilterMeta filterMeta) {
+        filterMeta.setFilterByGenerated(true);
+        return filterMeta;
+    }
+
+    private static Map<String, FilterMeta> filterBy(FilterMeta filterMeta) {
+        return Collections.singletonMap(filterMeta.getField(), filterMeta);
+    }
+
+    public static class Car {
+
+        private final String brand;
+        private final Integer year;
+
+        public Car(String brand, Integer year) {
+            this.brand = brand;
+            this.year = year;
+        }
+
+        public String getBrand() {
+            return brand;
+        }
+
+        public Integer getYear() {
+            return year;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.mock.FacesContextMock;
+import org.primefaces.mock.pf.PrimeApplicationContextMock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class IndexedLazyDataModelTest {
+
+    private final List<Person> persons = new ArrayList<>(Arrays.asList(
+            new Person(1, "Smith", 40, Category.A),
+            new Person(2, "Doe", 25, Category.B),
+            new Person(3, "Smithers", 30, Category.A),
+            new Person(4, "Miller", 35, Category.A),
+            new Person(5, "Jones", 20, Category.B)));
+
+    private final AtomicInteger supplierCalls = new AtomicInteger();
+    private IndexedLazyDataModel<Person> model;
+    private DataTable table;
+    private MockedStatic<UIComponent> currentComponent;
+
+    @BeforeEach
+    void setup() {
+        FacesContext context = new FacesContextMock();
+        PrimeApplicationContext.setCurrentInstance(new PrimeApplicationContextMock(context), context);
+
+        // the table only provides the locale, its own sort state must not be used by the model
+        Map<String, SortMeta> activeSortMeta = new LinkedHashMap<>();
+        activeSortMeta.put("name", SortMeta.builder().field("name").order(SortOrder.ASCENDING).build());
+        table = mock(DataTable.class);
+        when(table.resolveDataLocale(any())).thenReturn(Locale.ENGLISH);
+        when(table.getActiveSortMeta()).thenReturn(activeSortMeta);
+        currentComponent = mockStatic(UIComponent.class);
+        currentComponent.when(() -> UIComponent.getCurrentComponent(any())).thenReturn(table);
+
+        model = IndexedLazyDataModel.<Person> builder()
+                .valueSupplier(filterBy -> {
+                    supplierCalls.incrementAndGet();
+                    return persons;
+                })
+                .rowKeyProvider(Person::getId)
+                .build();
+    }
+
+    @AfterEach
+    void destroy() {
+        currentComponent.close();
+        FacesContext.getCurrentInstance().release();
+    }
+
+    @Test
+    void filterAndCount() {
+        Map<String, FilterMeta> filterBy = new LinkedHashMap<>();
+        filterBy.put("category", filter("category", MatchMode.EQUALS, Category.A));
+
+        assertEquals(Arrays.asList(1, 3, 4), ids(model.load(0, 10, Collections.emptyMap(), filterBy)));
+        assertEquals(3, model.getRowCount());
+
+        filterBy.put("name", filter("name", MatchMode.STARTS_WITH, "smi"));
+        assertEquals(Arrays.asList(1, 3), ids(model.load(0, 10, Collections.emptyMap(), filterBy)));
+        assertEquals(2, model.getRowCount());
+
+        filterBy.put("category", filter("category", MatchMode.IN, Arrays.asList(Category.B)));
+        filterBy.remove("name");
+        assertEquals(Arrays.asList(2, 5), ids(model.load(0, 10, Collections.emptyMap(), filterBy)));
+
+        assertEquals(1, supplierCalls.get());
+    }
+
+    @Test
+    void sortIndexUsesTheGivenSort() {
+        Map<String, SortMeta> sortBy = new LinkedHashMap<>();
+        sortBy.put("age", SortMeta.builder().field("age").order(SortOrder.DESCENDING).build());
+
+        assertEquals(Arrays.asList(1, 4), ids(model.load(0, 2, sortBy, Collections.emptyMap())));
+        assertEquals(Arrays.asList(3, 2), ids(model.load(2, 2, sortBy, Collections.emptyMap())));
+
+        sortBy.put("age", SortMeta.builder().field("age").order(SortOrder.ASCENDING).build());
+        Map<String, FilterMeta> filterBy = new LinkedHashMap<>();
+        filterBy.put("category", filter("category", MatchMode.EQUALS, Category.A));
+        assertEquals(Arrays.asList(3, 4, 1), ids(model.load(0, 10, sortBy, filterBy)));
+        assertEquals(3, model.getRowCount());
+    }
+
+    @Test
+    void invalidateTakesNewSnapshot() {
+        Map<String, FilterMeta> filterBy = new LinkedHashMap<>();
+        filterBy.put("category", filter("category", MatchMode.EQUALS, Category.B));
+        assertEquals(Arrays.asList(2, 5), ids(model.load(0, 10, Collections.emptyMap(), filterBy)));
+
+        // the snapshot isn't affected by changes of the source
+        persons.add(new Person(6, "Brown", 50, Category.B));
+        assertEquals(Arrays.asList(2, 5), ids(model.load(0, 10, Collections.emptyMap(), filterBy)));
+        assertNull(model.getRowData("6"));
+
+        model.invalidate();
+        assertEquals(Arrays.asList(2, 5, 6), ids(model.load(0, 10, Collections.emptyMap(), filterBy)));
+        assertEquals("Brown", model.getRowData("6").getName());
+        assertEquals(2, supplierCalls.get());
+    }
+
+    private static FilterMeta filter(String field, MatchMode matchMode, Object filterValue) {
+        FilterMeta filterMeta = FilterMeta.builder().field(field).matchMode(matchMode).filterValue(filterValue).build();
+        filterMeta.setFilterByGenerated(true);
+        return filterMeta;
+    }
+
+    private static List<Integer> ids(List<Person> persons) {
+        return persons.stream().map(Person::getId).collect(Collectors.toList());
+    }
+
+    public enum Category {
+        A, B
+    }
+
+    public static class Person {
+
+        private final int id;
+        private final String name;
+        private final int age;
+        private final Category category;
+
+        Person(int id, String name, int age, Category category) {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+            this.category = category;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public Category getCategory() {
+            return category;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.mock.FacesContextMock;
+import org.primefaces.mock.pf.PrimeApplicationContextMock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.el.MethodExpression;
+import jakarta.faces.FacesException;
+import jakarta.faces.context.FacesContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JPALazyDataModelTest {
+
+    @Test
+    void parameterizedFiltersKeepMultipleFiltersOnTheSameField() {
+        JPALazyDataModel<Object> model = new JPALazyDataModel<>();
+        model.queryShapeCacheSize = 10;
+
+        FilterMeta contains = FilterMeta.builder().field("name").matchMode(MatchMode.CONTAINS).filterValue("a").build();
+        FilterMeta startsWith = FilterMeta.builder().field("name").matchMode(MatchMode.STARTS_WITH).filterValue("b").build();
+        Map<String, FilterMeta> filterBy = new LinkedHashMap<>();
+        filterBy.put("nameContains", contains);
+        filterBy.put("nameStartsWith", startsWith);
+
+        List<FilterMeta> filters = new ArrayList<>(model.getParameterizedFilters(filterBy));
+        assertEquals(2, filters.size());
+        assertSame(contains, filters.get(0));
+        assertSame(startsWith, filters.get(1));
+
+        assertEquals("name|CONTAINS;name|STARTS_WITH;", model.getQueryShapeKey(filterBy));
+
+        // same order, independent of the order of the map
+        Map<String, FilterMeta> reversed = new LinkedHashMap<>();
+        reversed.put("nameStartsWith", startsWith);
+        reversed.put("nameContains", contains);
+        assertEquals(filters, new ArrayList<>(model.getParameterizedFilters(reversed)));
+    }
+
+    @Test
+    void keysetSortRequiresNonOptionalFieldsWithoutSortFunction() {
+        JPALazyDataModel<Object> model = new JPALazyDataModel<>();
+        model.entityClass = Object.class;
+        model.rowKeyField = "id";
+
+        Metamodel metamodel = mockMetamodel();
+
+        SortMeta name = SortMeta.builder().field("name").order(SortOrder.ASCENDING).build();
+        assertEquals(Collections.singletonList(name), model.resolveKeysetSort(metamodel, sortBy(name)));
+
+        SortMeta company = SortMeta.builder().field("company.name").order(SortOrder.ASCENDING).build();
+        assertEquals(Collections.singletonList(company), model.resolveKeysetSort(metamodel, sortBy(company)));
+
+        SortMeta optional = SortMeta.builder().field("nickname").order(SortOrder.ASCENDING).build();
+        assertNull(model.resolveKeysetSort(metamodel, sortBy(name, optional)));
+
+        SortMeta unknown = SortMeta.builder().field("unknown").order(SortOrder.ASCENDING).build();
+        assertNull(model.resolveKeysetSort(metamodel, sortBy(unknown)));
+
+        SortMeta function = SortMeta.builder().field("name").order(SortOrder.ASCENDING).function(mock(MethodExpression.class)).build();
+        assertNull(model.resolveKeysetSort(metamodel, sortBy(function)));
+    }
+
+    @Test
+    void keysetReusesTheOrderExpressions() {
+        JPALazyDataModel<Object> model = new JPALazyDataModel<>();
+
+        CriteriaBuilder cb = mock(CriteriaBuilder.class, RETURNS_MOCKS);
+        CriteriaQuery<Object> cq = mock(CriteriaQuery.class);
+        Root<Object> root = mock(Root.class);
+
+        Expression<String> name = mock(Expression.class);
+        Expression<Integer> age = mock(Expression.class);
+        Expression<Long> id = mock(Expression.class);
+        doReturn(Arrays.asList(order(name, true), order(age, false), order(id, true))).when(cq).getOrderList();
+
+        List<SortMeta> keysetSort = Arrays.asList(
+                SortMeta.builder().field("company.name").order(SortOrder.ASCENDING).build(),
+                SortMeta.builder().field("age").order(SortOrder.DESCENDING).build());
+        model.applyKeyset(cb, cq, root, keysetSort, new Object[] {"a", 30, 5L});
+
+        verify(cb).greaterThan(name, "a");
+        verify(cb).lessThan(age, 30);
+        verify(cb).greaterThan(id, 5L);
+        verify(cb, times(2)).equal(name, "a");
+        verify(cb).equal(age, 30);
+        verify(cq).where(any(Predicate.class));
+        verifyNoInteractions(root);
+    }
+
+    @Test
+    void globalFilterValueIsEscapedWithoutWildcardSupport() {
+        JPALazyDataModel<Object> model = new JPALazyDataModel<>();
+
+        assertEquals("%50!%!_OFF!!\\%", model.getGlobalFilterLikeValue(globalFilter("50%_off!\\"), Locale.ENGLISH));
+        // column filters keep their values
+        assertEquals("50%_off", model.getStringFilterValue("50%_off", Locale.ENGLISH));
+
+        model.wildcardSupport = true;
+        assertEquals("%A%B_%", model.getGlobalFilterLikeValue(globalFilter("a*b?"), Locale.ENGLISH));
+        assertEquals("a%b_", model.getStringFilterValue("a*b?", Locale.ENGLISH));
+    }
+
+    @Test
+    void globalFilterUsesSharedLeftJoins() {
+        JPALazyDataModel<Object> model = new JPALazyDataModel<>();
+        model.globalFilterFields = Arrays.asList("company.name", "company.code", "name");
+
+        CriteriaBuilder cb = mock(CriteriaBuilder.class, RETURNS_MOCKS);
+        CriteriaQuery<Object> cq = mock(CriteriaQuery.class);
+        Root<Object> root = mock(Root.class, RETURNS_MOCKS);
+
+        Join<Object, Object> company = mock(Join.class, RETURNS_MOCKS);
+        Attribute<Object, Object> attribute = mock(Attribute.class);
+        when(attribute.getName()).thenReturn("company");
+        doReturn(attribute).when(company).getAttribute();
+        when(company.getJoinType()).thenReturn(JoinType.LEFT);
+        doReturn(company).when(root).join("company", JoinType.LEFT);
+        doReturn(Collections.emptySet(), Collections.singleton(company)).when(root).getJoins();
+
+        FilterMeta globalFilter = FilterMeta.builder().field("globalFilter").filterValue("50%").build();
+        model.createGlobalFilterPredicate(cb, cq, root, globalFilter);
+
+        // a row without company must still match by its name
+        verify(root, times(1)).join("company", JoinType.LEFT);
+        verify(root, never()).join(anyString(), eq(JoinType.INNER));
+        verify(cb, times(3)).like(any(), eq("%50!%%"), eq('!'));
+    }
+
+    @Test
+    void projectionReusesItsLeftJoinsForFiltersAndSorts() {
+        FacesContext context = new FacesContextMock();
+        PrimeApplicationContext.setCurrentInstance(new PrimeApplicationContextMock(context), context);
+        try {
+            JPALazyDataModel<Employee> model = new JPALazyDataModel<>();
+            model.entityClass = Employee.class;
+            model.rowKeyField = "id";
+
+            CriteriaBuilder cb = mock(CriteriaBuilder.class, RETURNS_MOCKS);
+            CriteriaQuery<Tuple> cq = mock(CriteriaQuery.class);
+            doReturn(cq).when(cb).createTupleQuery();
+            doReturn(Tuple.class).when(cq).getResultType();
+            Root<Employee> root = mock(Root.class, RETURNS_MOCKS);
+            doReturn(root).when(cq).from(Employee.class);
+
+            Join<Object, Object> company = mock(Join.class, RETURNS_MOCKS);
+            Attribute<Object, Object> attribute = mock(Attribute.class);
+            when(attribute.getName()).thenReturn("company");
+            doReturn(attribute).when(company).getAttribute();
+            when(company.getJoinType()).thenReturn(JoinType.LEFT);
+            doReturn(company).when(root).join("company", JoinType.LEFT);
+            doReturn(Collections.emptySet(), Collections.singleton(company)).when(root).getJoins();
+
+            Map<String, FilterMeta> filterBy = new LinkedHashMap<>();
+            filterBy.put("company.name", FilterMeta.builder().field("company.name").matchMode(MatchMode.CONTAINS).filterValue("a").build());
+            List<SortMeta> keysetSort = Collections.singletonList(SortMeta.builder().field("company.name").order(SortOrder.ASCENDING).build());
+
+            CriteriaQuery<?> query = model.createLoadQuery(cb, filterBy, sortBy(keysetSort.get(0)), Arrays.asList("company.name", "id"),
+                    keysetSort, null, new ArrayList<>());
+
+            assertSame(cq, query);
+            verify(root, times(1)).join("company", JoinType.LEFT);
+            verify(root, never()).join(anyString(), eq(JoinType.INNER));
+            verify(cq).multiselect(anyList());
+            verify(cq).where(any(Predicate.class));
+            verify(cq, times(2)).orderBy(anyList());
+        }
+        finally {
+            context.release();
+        }
+    }
+
+    @Test
+    void entityQueryKeepsInnerJoinsForFiltersAndSorts() {
+        JPALazyDataModel<Object> model = new JPALazyDataModel<>();
+
+        CriteriaBuilder cb = mock(CriteriaBuilder.class, RETURNS_MOCKS);
+        CriteriaQuery<Object> cq = mock(CriteriaQuery.class);
+        doReturn(Object.class).when(cq).getResultType();
+        Root<Object> root = mock(Root.class, RETURNS_MOCKS);
+
+        Join<Object, Object> company = mock(Join.class, RETURNS_MOCKS);
+        Attribute<Object, Object> attribute = mock(Attribute.class);
+        when(attribute.getName()).thenReturn("company");
+        doReturn(attribute).when(company).getAttribute();
+        when(company.getJoinType()).thenReturn(JoinType.LEFT);
+        doReturn(Collections.singleton(company)).when(root).getJoins();
+
+        model.createOrders(cb, cq, root, sortBy(SortMeta.builder().field("company.name").order(SortOrder.ASCENDING).build()));
+
+        verify(root).join("company", JoinType.INNER);
+    }
+
+    @Test
+    void projectionRequiresTheTupleQueryEnricher() {
+        JPALazyDataModel.Builder<Object, ? extends JPALazyDataModel<Object>> builder = JPALazyDataModel.<Object> builder()
+                .entityClass(Object.class)
+                .entityManager(() -> mock(EntityManager.class))
+                .projection("name")
+                .queryEnricher(query -> query.setHint("hint", true));
+        assertThrows(FacesException.class, builder::build);
+    }
+
+    private static FilterMeta globalFilter(String value) {
+        return FilterMeta.builder().field(FilterMeta.GLOBAL_FILTER_KEY).filterValue(value).build();
+    }
+
+    private static Map<String, SortMeta> sortBy(SortMeta... sorts) {
+        Map<String, SortMeta> sortBy = new LinkedHashMap<>();
+        for (int i = 0; i < sorts.length; i++) {
+            sorts[i].setPriority(i);
+            sortBy.put(sorts[i].getField() + i, sorts[i]);
+        }
+        return sortBy;
+    }
+
+    private static Order order(Expression<?> expression, boolean ascending) {
+        Order order = mock(Order.class);
+        doReturn(expression).when(order).getExpression();
+        when(order.isAscending()).thenReturn(ascending);
+        return order;
+    }
+
+    private static Metamodel mockMetamodel() {
+        ManagedType<Object> entity = mock(ManagedType.class);
+        ManagedType<Object> companyType = mock(ManagedType.class);
+
+        SingularAttribute<Object, ?> name = singularAttribute(false, null);
+        SingularAttribute<Object, ?> nickname = singularAttribute(true, null);
+        SingularAttribute<Object, ?> company = singularAttribute(false, companyType);
+        doReturn(name).when(entity).getAttribute("name");
+        doReturn(nickname).when(entity).getAttribute("nickname");
+        doReturn(company).when(entity).getAttribute("company");
+        doReturn(name).when(companyType).getAttribute("name");
+        doThrow(IllegalArgumentException.class).when(entity).getAttribute("unknown");
+
+        Metamodel metamodel = mock(Metamodel.class);
+        doReturn(entity).when(metamodel).managedType(Object.class);
+        return metamodel;
+    }
+
+    private static SingularAttribute<Object, ?> singularAttribute(boolean optional, ManagedType<?> type) {
+        SingularAttribute<Object, ?> attribute = mock(SingularAttribute.class);
+        when(attribute.isOptional()).thenReturn(optional);
+        doReturn(type).when(attribute).getType();
+        return attribute;
+    }
+
+    public static class Employee {
+
+        private Long id;
+        private Company company;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Company getCompany() {
+            return company;
+        }
+
+        public void setCompany(Company company) {
+            this.company = company;
+        }
+    }
+
+    public static class Company {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
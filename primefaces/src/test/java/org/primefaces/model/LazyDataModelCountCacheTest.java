@@ -0,0 +1,189 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import org.primefaces.cache.CacheProvider;
+import org.primefaces.cache.DefaultCacheProvider;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyDataModelCountCacheTest {
+
+    @Test
+    void countIsCachedPerFilterSignature() {
+        CountingLazyDataModel model = new CountingLazyDataModel();
+
+        assertEquals(42, model.count(filters("a", "b")));
+        assertEquals(42, model.count(filters("a", "b")));
+        assertEquals(1, model.counts);
+
+        assertEquals(42, model.count(filters("a", "c")));
+        assertEquals(2, model.counts);
+    }
+
+    @Test
+    void signatureIgnoresFilterOrderAndInactiveFilters() {
+        CountingLazyDataModel model = new CountingLazyDataModel();
+
+        Map<String, FilterMeta> filterBy = filters("a", "b");
+        Map<String, FilterMeta> reversed = new LinkedHashMap<>();
+        reversed.put("inactive", FilterMeta.builder().field("inactive").matchMode(MatchMode.CONTAINS).build());
+        reversed.put("field2", filterBy.get("field2"));
+        reversed.put("field1", filterBy.get("field1"));
+
+        assertEquals(model.getCountCacheSignature(filterBy), model.getCountCacheSignature(reversed));
+    }
+
+    @Test
+    void invalidateCountCache() {
+        CountingLazyDataModel model = new CountingLazyDataModel();
+
+        model.count(filters("a", "b"));
+        model.invalidateCountCache();
+        model.count(filters("a", "b"));
+
+        assertEquals(2, model.counts);
+    }
+
+    @Test
+    void evictedGenerationDoesntRevivePreviousCounts() {
+        CountingLazyDataModel model = new CountingLazyDataModel();
+
+        model.count(filters("a", "b"));
+        model.invalidateCountCache();
+        model.count(filters("a", "b"));
+
+        // the counts cached before the invalidation must not become reachable again
+        model.cacheProvider.remove(LazyDataModel.COUNT_CACHE_REGION, "test:generation");
+        model.count(filters("a", "b"));
+
+        assertEquals(3, model.counts);
+        assertNotNull(model.cacheProvider.get(LazyDataModel.COUNT_CACHE_REGION, "test:generation"));
+    }
+
+    @Test
+    void countsAreSeparatedByDiscriminator() {
+        CountingLazyDataModel model = new CountingLazyDataModel();
+        String[] tenant = {"t1"};
+        model.setCountCacheDiscriminator(() -> tenant[0]);
+
+        model.count(filters("a", "b"));
+        model.count(filters("a", "b"));
+        tenant[0] = "t2";
+        model.count(filters("a", "b"));
+
+        assertEquals(2, model.counts);
+    }
+
+    @Test
+    void countCacheDisabled() {
+        CountingLazyDataModel model = new CountingLazyDataModel();
+        model.setCountCacheName(null);
+
+        model.count(filters("a", "b"));
+        model.count(filters("a", "b"));
+
+        assertEquals(2, model.counts);
+    }
+
+    @Test
+    void countAsyncRunsOnExecutorUnlessCached() throws Exception {
+        CountingLazyDataModel model = new CountingLazyDataModel();
+        AtomicInteger submitted = new AtomicInteger();
+        Executor executor = runnable -> {
+            submitted.incrementAndGet();
+            runnable.run();
+        };
+
+        assertEquals(42, model.countAsync(executor, filters("a", "b")).get());
+        assertEquals(42, model.countAsync(executor, filters("a", "b")).get());
+
+        assertEquals(1, submitted.get());
+        assertEquals(1, model.counts);
+    }
+
+    @Test
+    void countAsyncPropagatesFailures() {
+        IllegalStateException failure = new IllegalStateException("count failed");
+        CountingLazyDataModel model = new CountingLazyDataModel() {
+            @Override
+            public int count(Map<String, FilterMeta> filterBy) {
+                throw failure;
+            }
+        };
+
+        CompletableFuture<Integer> count = model.countAsync(Runnable::run, filters("a", "b"));
+
+        ExecutionException e = assertThrows(ExecutionException.class, count::get);
+        assertSame(failure, e.getCause());
+    }
+
+    private static Map<String, FilterMeta> filters(String value1, String value2) {
+        Map<String, FilterMeta> filterBy = new LinkedHashMap<>();
+        filterBy.put("field1", FilterMeta.builder().field("field1").matchMode(MatchMode.CONTAINS).filterValue(value1).build());
+        filterBy.put("field2", FilterMeta.builder().field("field2").matchMode(MatchMode.EQUALS).filterValue(value2).build());
+        return filterBy;
+    }
+
+    private static class CountingLazyDataModel extends LazyDataModel<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient CacheProvider cacheProvider = new DefaultCacheProvider();
+        private int counts;
+
+        CountingLazyDataModel() {
+            setCountCacheName("test");
+        }
+
+        @Override
+        protected CacheProvider getCountCacheProvider() {
+            return getCountCacheName() == null ? null : cacheProvider;
+        }
+
+        @Override
+        public int count(Map<String, FilterMeta> filterBy) {
+            return count(filterBy, () -> {
+                counts++;
+                return 42;
+            });
+        }
+
+        @Override
+        public List<Object> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazySelectionTest {
+
+    @Test
+    void countAndStreamSelected() {
+        EvenNumbersModel model = new EvenNumbersModel();
+        model.setPageSize(4);
+
+        Map<String, FilterMeta> filterBy = new LinkedHashMap<>();
+        filterBy.put("even", FilterMeta.builder().field("even").filterValue(true).matchMode(MatchMode.EQUALS).build());
+        LazySelection selection = new LazySelection(null, filterBy, Arrays.asList("2", "8"));
+
+        assertEquals(8, model.countSelected(selection));
+        assertEquals(Arrays.asList(0, 4, 6, 10, 12, 14, 16, 18), model.streamSelected(selection).collect(Collectors.toList()));
+        assertFalse(selection.isSelected("2"));
+        assertTrue(selection.isSelected("4"));
+    }
+
+    @Test
+    void streamSelectedSkipsUnselectableRows() {
+        EvenNumbersModel model = new EvenNumbersModel();
+        model.setPageSize(4);
+
+        Map<String, FilterMeta> filterBy = new LinkedHashMap<>();
+        filterBy.put("even", FilterMeta.builder().field("even").filterValue(true).matchMode(MatchMode.EQUALS).build());
+        LazySelection selection = new LazySelection(null, filterBy, Arrays.asList("2"));
+
+        // countSelected doesn't know the unselectable rows
+        assertEquals(9, model.countSelected(selection));
+        assertEquals(Arrays.asList(4, 6, 10, 12, 14, 16, 18), model.streamSelected(selection, row -> row != 0 && row != 8).collect(Collectors.toList()));
+    }
+
+    @Test
+    void filtersAreCopied() {
+        FilterMeta filter = FilterMeta.builder().field("even").filterValue(true).matchMode(MatchMode.EQUALS).build();
+        Map<String, FilterMeta> filterBy = new LinkedHashMap<>();
+        filterBy.put("even", filter);
+        filterBy.put("name", FilterMeta.builder().field("name").matchMode(MatchMode.CONTAINS).build());
+
+        LazySelection selection = new LazySelection(null, filterBy, null);
+        filter.setFilterValue(false);
+
+        assertEquals(1, selection.getFilterBy().size());
+        assertEquals(true, selection.getFilterBy().get("even").getFilterValue());
+    }
+
+    @Test
+    void serialization() throws Exception {
+        Map<String, FilterMeta> filterBy = new LinkedHashMap<>();
+        filterBy.put("even", FilterMeta.builder().field("even").filterValue(true).matchMode(MatchMode.EQUALS).build());
+        LazySelection selection = new LazySelection(null, filterBy, Arrays.asList("2", "8"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(selection);
+        }
+        LazySelection copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (LazySelection) in.readObject();
+        }
+
+        assertEquals(selection.getExcludedRowKeys(), copy.getExcludedRowKeys());
+        assertEquals(true, copy.getFilterBy().get("even").getFilterValue());
+        assertTrue(copy.getSortBy().isEmpty());
+    }
+
+    /**
+     * The numbers 0 to 19, filterable to the even numbers.
+     */
+    private static class EvenNumbersModel extends LazyDataModel<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int count(Map<String, FilterMeta> filterBy) {
+            return (int) rows(filterBy).count();
+        }
+
+        @Override
+        public List<Integer> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+            return rows(filterBy).skip(first).limit(pageSize).boxed().collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        @Override
+        public String getRowKey(Integer row) {
+            return String.valueOf(row);
+        }
+
+        private IntStream rows(Map<String, FilterMeta> filterBy) {
+            boolean even = filterBy.containsKey("even");
+            return IntStream.range(0, 20).filter(i -> !even || i % 2 == 0);
+        }
+    }
+}
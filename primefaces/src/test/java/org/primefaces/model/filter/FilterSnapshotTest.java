@@ -0,0 +1,135 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model.filter;
+
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.MatchMode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FilterSnapshotTest {
+
+    private final List<String> source = new ArrayList<>(Arrays.asList("Smith", "Smithers", "Doe"));
+
+    @Test
+    void testNarrowedBy_Contains() {
+        FilterSnapshot previous = FilterSnapshot.of(filterBy("name", "smi", MatchMode.CONTAINS), source);
+        assertTrue(previous.isNarrowedBy(FilterSnapshot.of(filterBy("name", "smit", MatchMode.CONTAINS), source), Locale.ENGLISH));
+        assertTrue(previous.isNarrowedBy(FilterSnapshot.of(filterBy("name", "ASMI", MatchMode.CONTAINS), source), Locale.ENGLISH));
+        assertFalse(previous.isNarrowedBy(FilterSnapshot.of(filterBy("name", "sm", MatchMode.CONTAINS), source), Locale.ENGLISH));
+    }
+
+    @Test
+    void testNarrowedBy_StartsWith() {
+        FilterSnapshot previous = FilterSnapshot.of(filterBy("name", "smi", MatchMode.STARTS_WITH), source);
+        assertTrue(previous.isNarrowedBy(FilterSnapshot.of(filterBy("name", "smit", MatchMode.STARTS_WITH), source), Locale.ENGLISH));
+        assertFalse(previous.isNarrowedBy(FilterSnapshot.of(filterBy("name", "asmi", MatchMode.STARTS_WITH), source), Locale.ENGLISH));
+    }
+
+    @Test
+    void testNarrowedBy_MatchModeChanged() {
+        FilterSnapshot previous = FilterSnapshot.of(filterBy("name", "smi", MatchMode.STARTS_WITH), source);
+        assertFalse(previous.isNarrowedBy(FilterSnapshot.of(filterBy("name", "smit", MatchMode.CONTAINS), source), Locale.ENGLISH));
+    }
+
+    @Test
+    void testNarrowedBy_OtherConstraintsOnlyIfEqual() {
+        FilterSnapshot previous = FilterSnapshot.of(filterBy("age", 20, MatchMode.GREATER_THAN), source);
+        assertTrue(previous.isNarrowedBy(FilterSnapshot.of(filterBy("age", 20, MatchMode.GREATER_THAN), source), Locale.ENGLISH));
+        assertFalse(previous.isNarrowedBy(FilterSnapshot.of(filterBy("age", 30, MatchMode.GREATER_THAN), source), Locale.ENGLISH));
+    }
+
+    @Test
+    void testNarrowedBy_AddedAndRemovedFilters() {
+        Map<String, FilterMeta> filterBy = filterBy("name", "smi", MatchMode.CONTAINS);
+        FilterSnapshot previous = FilterSnapshot.of(filterBy, source);
+
+        Map<String, FilterMeta> added = filterBy("name", "smi", MatchMode.CONTAINS);
+        added.putAll(filterBy("city", "ber", MatchMode.CONTAINS));
+        FilterSnapshot next = FilterSnapshot.of(added, source);
+
+        assertTrue(previous.isNarrowedBy(next, Locale.ENGLISH));
+        assertFalse(next.isNarrowedBy(previous, Locale.ENGLISH));
+    }
+
+    @Test
+    void testNarrowedBy_SourceChanged() {
+        FilterSnapshot previous = FilterSnapshot.of(filterBy("name", "smi", MatchMode.CONTAINS), source);
+        FilterSnapshot next = FilterSnapshot.of(filterBy("name", "smit", MatchMode.CONTAINS), new ArrayList<>(source));
+        assertFalse(previous.isNarrowedBy(next, Locale.ENGLISH));
+
+        FilterSnapshot beforeAdd = FilterSnapshot.of(filterBy("name", "smi", MatchMode.CONTAINS), source);
+        source.add("Smitty");
+        assertFalse(beforeAdd.isNarrowedBy(FilterSnapshot.of(filterBy("name", "smit", MatchMode.CONTAINS), source), Locale.ENGLISH));
+    }
+
+    @Test
+    void testNarrowedBy_SourceChangedInPlace() {
+        FilterSnapshot beforeSet = FilterSnapshot.of(filterBy("name", "smi", MatchMode.CONTAINS), source);
+        source.set(2, "Smitty");
+        assertFalse(beforeSet.isNarrowedBy(FilterSnapshot.of(filterBy("name", "smit", MatchMode.CONTAINS), source), Locale.ENGLISH));
+
+        FilterSnapshot beforeSort = FilterSnapshot.of(filterBy("name", "smi", MatchMode.CONTAINS), source);
+        source.sort(Collections.reverseOrder());
+        assertFalse(beforeSort.isNarrowedBy(FilterSnapshot.of(filterBy("name", "smit", MatchMode.CONTAINS), source), Locale.ENGLISH));
+    }
+
+    @Test
+    void testNarrowedBy_Deserialized() throws Exception {
+        FilterSnapshot previous = FilterSnapshot.of(filterBy("name", "smi", MatchMode.CONTAINS), source);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(previous);
+        }
+        FilterSnapshot deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (FilterSnapshot) in.readObject();
+        }
+
+        // the source can't be compared anymore, so all rows must be filtered again
+        assertFalse(deserialized.isNarrowedBy(FilterSnapshot.of(filterBy("name", "smit", MatchMode.CONTAINS), source), Locale.ENGLISH));
+    }
+
+    private static Map<String, FilterMeta> filterBy(String field, Object filterValue, MatchMode matchMode) {
+        Map<String, FilterMeta> filterBy = new HashMap<>();
+        filterBy.put(field, FilterMeta.builder().field(field).filterValue(filterValue).matchMode(matchMode).build());
+        return filterBy;
+    }
+}
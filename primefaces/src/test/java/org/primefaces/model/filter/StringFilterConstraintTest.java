@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model.filter;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringFilterConstraintTest {
+
+    @Test
+    void testPrepare_Contains() {
+        Predicate<Object> predicate = new ContainsFilterConstraint().prepare(null, " SMI ", Locale.ENGLISH);
+        assertTrue(predicate.test("John Smith"));
+        assertFalse(predicate.test("John Doe"));
+        assertFalse(predicate.test(null));
+    }
+
+    @Test
+    void testPrepare_NullFilter() {
+        Predicate<Object> predicate = new StartsWithFilterConstraint().prepare(null, null, Locale.ENGLISH);
+        assertFalse(predicate.test("John"));
+    }
+
+    @Test
+    void testPrepare_SameAsIsMatching() {
+        FilterConstraint constraint = new NegationFilterConstraintWrapper(new EndsWithFilterConstraint());
+        Predicate<Object> predicate = constraint.prepare(null, "th", Locale.ENGLISH);
+        for (String value : new String[] {"Smith", "Doe", "", "TH"}) {
+            assertTrue(constraint.isMatching(null, value, "th", Locale.ENGLISH) == predicate.test(value));
+        }
+    }
+}
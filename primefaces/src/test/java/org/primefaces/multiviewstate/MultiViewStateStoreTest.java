@@ -0,0 +1,230 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import org.primefaces.cache.DefaultCacheProvider;
+import org.primefaces.component.datatable.DataTableState;
+import org.primefaces.model.SortMeta;
+import org.primefaces.model.SortOrder;
+import org.primefaces.util.Constants;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import jakarta.faces.context.ExternalContext;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.lifecycle.ClientWindow;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MultiViewStateStoreTest {
+
+    private FacesContext context;
+    private ExternalContext externalContext;
+    private Map<String, Object> sessionMap;
+
+    @BeforeEach
+    void setup() {
+        context = mock(FacesContext.class);
+        externalContext = mock(ExternalContext.class);
+        sessionMap = new HashMap<>();
+        when(context.getExternalContext()).thenReturn(externalContext);
+        when(externalContext.getSessionMap()).thenReturn(sessionMap);
+    }
+
+    @Test
+    void sessionStoreEvictsLeastRecentlyUsed() {
+        SessionMultiViewStateStore store = new SessionMultiViewStateStore(2);
+
+        store.put(context, MultiViewStateKey.of("/a.xhtml", "form:table"), "a");
+        store.put(context, MultiViewStateKey.of("/b.xhtml", "form:table"), "b");
+        assertEquals("a", store.get(context, MultiViewStateKey.of("/a.xhtml", "form:table")));
+        store.put(context, MultiViewStateKey.of("/c.xhtml", "form:table"), "c");
+
+        assertEquals(2, store.getKeys(context).size());
+        assertEquals("a", store.get(context, MultiViewStateKey.of("/a.xhtml", "form:table")));
+        assertNull(store.get(context, MultiViewStateKey.of("/b.xhtml", "form:table")));
+
+        assertTrue(store.remove(context, MultiViewStateKey.of("/a.xhtml", "form:table")));
+        assertFalse(store.remove(context, MultiViewStateKey.of("/a.xhtml", "form:table")));
+
+        store.clear(context);
+        assertTrue(store.getKeys(context).isEmpty());
+        assertFalse(sessionMap.containsKey(Constants.MULTI_VIEW_STATES));
+    }
+
+    @Test
+    void clientWindowStoreEvictsLeastRecentlyUsedWindow() {
+        ClientWindowMultiViewStateStore store = new ClientWindowMultiViewStateStore(10, 2);
+        MultiViewStateKey key = MultiViewStateKey.of("/a.xhtml", "form:table");
+
+        for (String windowId : Arrays.asList("w1", "w2", "w3")) {
+            switchWindow(windowId);
+            store.put(context, key, windowId);
+        }
+
+        switchWindow("w1");
+        assertNull(store.get(context, key));
+        switchWindow("w2");
+        assertEquals("w2", store.get(context, key));
+        switchWindow("w3");
+        assertEquals("w3", store.get(context, key));
+
+        assertTrue(store.removeWindow(context, "w3"));
+        assertNull(store.get(context, key));
+    }
+
+    @Test
+    void cacheStoreFollowsTheSession() {
+        DefaultCacheProvider cacheProvider = new DefaultCacheProvider();
+        CacheProviderMultiViewStateStore store = new CacheProviderMultiViewStateStore(10, () -> cacheProvider);
+        MultiViewStateKey key = MultiViewStateKey.of("/a.xhtml", "form:table");
+
+        when(externalContext.getSession(false)).thenReturn(new Object());
+        when(externalContext.getSessionId(true)).thenReturn("s1");
+        store.put(context, key, "a");
+
+        store.changeSessionId("s1", "s2");
+        assertNull(cacheProvider.get(CacheProviderMultiViewStateStore.CACHE_REGION, "s1"));
+        when(externalContext.getSessionId(true)).thenReturn("s2");
+        assertEquals("a", store.get(context, key));
+
+        store.releaseSession("s2");
+        assertNull(cacheProvider.get(CacheProviderMultiViewStateStore.CACHE_REGION, "s2"));
+        assertNull(store.get(context, key));
+    }
+
+    @Test
+    void sessionSizeIsBounded() throws Exception {
+        SessionMultiViewStateStore store = new SessionMultiViewStateStore(100);
+        for (int i = 0; i < 100; i++) {
+            store.put(context, MultiViewStateKey.of("/view" + i + ".xhtml", "form:table"), createState());
+        }
+        int size = serializedSize(sessionMap.get(Constants.MULTI_VIEW_STATES));
+
+        for (int i = 100; i < 1000; i++) {
+            store.put(context, MultiViewStateKey.of("/view" + i + ".xhtml", "form:table"), createState());
+        }
+
+        assertEquals(100, store.getKeys(context).size());
+        assertTrue(serializedSize(sessionMap.get(Constants.MULTI_VIEW_STATES)) <= size * 1.1);
+    }
+
+    @Test
+    void dataTableStateSerialization() throws Exception {
+        DataTableState state = createState();
+
+        DataTableState copy = (DataTableState) deserialize(serialize(state));
+
+        assertEquals(state.getFirst(), copy.getFirst());
+        assertEquals(state.getRows(), copy.getRows());
+        assertEquals(state.getSelectedRowKeys(), copy.getSelectedRowKeys());
+        assertNull(copy.getExpandedRowKeys());
+        assertNull(copy.getFilterBy());
+        assertEquals("name", copy.getSortBy().get("name").getField());
+        assertEquals(SortOrder.DESCENDING, copy.getSortBy().get("name").getOrder());
+        assertEquals("300px", copy.getWidth());
+    }
+
+    @Test
+    @Timeout(10)
+    void serializationWaitsForModifications() throws Exception {
+        MultiViewStates states = new MultiViewStates(2);
+        states.put(MultiViewStateKey.of("/a.xhtml", "form:table"), "a");
+        states.put(MultiViewStateKey.of("/b.xhtml", "form:table"), "b");
+
+        byte[][] bytes = new byte[1][];
+        Thread replication = new Thread(() -> {
+            try {
+                bytes[0] = serialize(states);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        synchronized (states) {
+            replication.start();
+            while (replication.getState() != Thread.State.BLOCKED) {
+                Thread.sleep(1);
+            }
+            states.put(MultiViewStateKey.of("/c.xhtml", "form:table"), "c");
+        }
+        replication.join();
+
+        MultiViewStates copy = (MultiViewStates) deserialize(bytes[0]);
+        assertEquals(2, copy.getMaxEntries());
+        assertEquals(Arrays.asList("b", "c"), new ArrayList<>(copy.values()));
+    }
+
+    private void switchWindow(String windowId) {
+        ClientWindow clientWindow = mock(ClientWindow.class);
+        when(clientWindow.getId()).thenReturn(windowId);
+        when(externalContext.getClientWindow()).thenReturn(clientWindow);
+    }
+
+    private static DataTableState createState() {
+        DataTableState state = new DataTableState();
+        state.setFirst(20);
+        state.setRows(10);
+        state.setSelectedRowKeys(new LinkedHashSet<>(Arrays.asList("1", "2", "3")));
+        Map<String, SortMeta> sortBy = new HashMap<>();
+        sortBy.put("name", SortMeta.builder().field("name").order(SortOrder.DESCENDING).build());
+        state.setSortBy(sortBy);
+        state.setWidth("300px");
+        return state;
+    }
+
+    private static int serializedSize(Object object) throws IOException {
+        return serialize(object).length;
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the throughput of the {@link PropertyDescriptorResolver}s for the nested property reads of filtering, sorting and exporting.
+ * Timing based, so it only runs on demand: <code>mvn test -Dtest=PropertyDescriptorResolverBenchmarkTest -Dprimefaces.benchmark=true</code>.
+ */
+@EnabledIfSystemProperty(named = "primefaces.benchmark", matches = "true")
+class PropertyDescriptorResolverBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(PropertyDescriptorResolverBenchmarkTest.class.getName());
+
+    private static final int ROWS = 10_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    @Test
+    void methodHandleResolverIsFaster() {
+        List<Car> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Car("brand" + i, new Owner("owner" + i)));
+        }
+
+        PropertyDescriptorResolver defaultResolver = new PropertyDescriptorResolver.DefaultResolver();
+        PropertyDescriptorResolver methodHandleResolver = new PropertyDescriptorResolver.MethodHandleResolver();
+
+        long defaultNanos = measure(defaultResolver, rows);
+        long methodHandleNanos = measure(methodHandleResolver, rows);
+
+        LOGGER.info(() -> String.format("%d reads of owner.name: DefaultResolver %d ns/op, MethodHandleResolver %d ns/op",
+                ROWS, defaultNanos / ROWS, methodHandleNanos / ROWS));
+        assertTrue(methodHandleNanos < defaultNanos, "MethodHandleResolver took " + methodHandleNanos + "ns, DefaultResolver " + defaultNanos + "ns");
+    }
+
+    /**
+     * @return the fastest time of all measurement iterations reading all rows
+     */
+    private static long measure(PropertyDescriptorResolver resolver, List<Car> rows) {
+        long best = Long.MAX_VALUE;
+        int blackhole = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASUREMENT_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            for (Car row : rows) {
+                blackhole += resolver.getValue(row, "owner.name").hashCode();
+            }
+            long time = System.nanoTime() - start;
+            if (i >= WARMUP_ITERATIONS) {
+                best = Math.min(best, time);
+            }
+        }
+        assertNotEquals(0, blackhole);
+        return best;
+    }
+
+    public static class Car {
+
+        private final String brand;
+        private final Owner owner;
+
+        public Car(String brand, Owner owner) {
+            this.brand = brand;
+            this.owner = owner;
+        }
+
+        public String getBrand() {
+            return brand;
+        }
+
+        public Owner getOwner() {
+            return owner;
+        }
+    }
+
+    public static class Owner {
+
+        private final String name;
+
+        public Owner(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
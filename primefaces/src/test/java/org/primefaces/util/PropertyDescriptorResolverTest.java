@@ -24,6 +24,7 @@
 package org.primefaces.util;
 
 import java.beans.PropertyDescriptor;
+import java.util.ServiceLoader;
 
 import jakarta.faces.FacesException;
 
@@ -56,6 +57,12 @@ class PropertyDescriptorResolverTest {
         assertThrows(FacesException.class, () -> propResolver.get(C.class, "unknown"));
     }
 
+    @Test
+    void defaultService() {
+        PropertyDescriptorResolver propResolver = ServiceLoader.load(PropertyDescriptorResolver.class).findFirst().orElse(null);
+        assertEquals(PropertyDescriptorResolver.MethodHandleResolver.class, propResolver.getClass());
+    }
+
     @Test
     void getValue() {
         PropertyDescriptorResolver propResolver = new PropertyDescriptorResolver.DefaultResolver();
@@ -76,6 +83,32 @@ class PropertyDescriptorResolverTest {
         assertThrows(FacesException.class, () -> propResolver.getValue(b, "unknown"));
     }
 
+    @Test
+    void getValueMethodHandle() {
+        PropertyDescriptorResolver propResolver = new PropertyDescriptorResolver.MethodHandleResolver();
+
+        B b = new B("b", true, Boolean.FALSE, DummyEnum.X);
+        D d = new D("d", false, Boolean.FALSE, DummyEnum.Z, 123);
+        C c = new C(d);
+
+        assertEquals(d, propResolver.getValue(c, "b"));
+        assertEquals(DummyEnum.Z, propResolver.getValue(c, "b.dummyEnum"));
+        assertEquals(true, propResolver.getValue(b, "bool1"));
+        assertEquals(Boolean.FALSE, propResolver.getValue(b, "bool2"));
+
+        // foo is only available on the runtime type of b, so the default resolver is used
+        assertEquals(123, propResolver.getValue(c, "b.foo"));
+
+        // null-safe navigation
+        assertNull(propResolver.getValue(new C(null), "b.dummyEnum"));
+
+        // the compiled accessor is reused
+        propResolver.setValue(c, "b.dummyEnum", DummyEnum.Y);
+        assertEquals(DummyEnum.Y, propResolver.getValue(c, "b.dummyEnum"));
+
+        assertThrows(FacesException.class, () -> propResolver.getValue(b, "unknown"));
+    }
+
     @Test
     void getValueReadOnly() {
         PropertyDescriptorResolver propResolver = new PropertyDescriptorResolver.DefaultResolver();
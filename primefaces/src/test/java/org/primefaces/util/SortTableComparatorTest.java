@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.util;
+
+import org.primefaces.component.api.UITable;
+import org.primefaces.model.SortMeta;
+import org.primefaces.model.SortOrder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Random;
+
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SortTableComparatorTest {
+
+    private static final SortTableComparator.BeanPropertyMapper IDENTITY_MAPPER = new SortTableComparator.BeanPropertyMapper() {
+
+        @Override
+        public boolean isValueExprBased() {
+            return false;
+        }
+
+        @Override
+        public Object map(FacesContext context, String var, SortMeta sortMeta, Object obj) {
+            return obj;
+        }
+    };
+
+    @Test
+    void sortIndexesIsStable() {
+        SortTableComparator comparator = createComparator(SortOrder.ASCENDING);
+        Object[] rows = {2, 1, 2, 1};
+
+        assertArrayEquals(new int[] {1, 3, 0, 2}, comparator.sortIndexes(rows));
+        assertArrayEquals(new int[] {1, 3, 0}, comparator.sortIndexes(rows, 3));
+    }
+
+    @Test
+    void sortIndexesWithLimitMatchesFullSort() {
+        Random random = new Random(42);
+        Object[] rows = new Object[500];
+        for (int i = 0; i < rows.length; i++) {
+            // many duplicates, so the heap must keep the order of equal rows
+            rows[i] = random.nextInt(50);
+        }
+
+        for (SortOrder order : Arrays.asList(SortOrder.ASCENDING, SortOrder.DESCENDING)) {
+            SortTableComparator comparator = createComparator(order);
+            int[] indexes = comparator.sortIndexes(rows);
+
+            Integer[] expected = new Integer[rows.length];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = i;
+            }
+            Comparator<Integer> byValue = Comparator.comparing(i -> (Integer) rows[i]);
+            Arrays.sort(expected, order == SortOrder.ASCENDING ? byValue : byValue.reversed());
+            assertArrayEquals(Arrays.stream(expected).mapToInt(Integer::intValue).toArray(), indexes, order.toString());
+
+            for (int limit : new int[] {0, 1, 10, 499, 500, 600}) {
+                assertArrayEquals(Arrays.copyOf(indexes, Math.min(limit, rows.length)), comparator.sortIndexes(rows, limit),
+                        order + " limit " + limit);
+            }
+        }
+    }
+
+    private static SortTableComparator createComparator(SortOrder order) {
+        UITable<?> table = mock(UITable.class);
+        doReturn(Collections.singletonMap("value", SortMeta.builder().field("value").order(order).build())).when(table).getActiveSortMeta();
+        when(table.resolveDataLocale(any())).thenReturn(Locale.ENGLISH);
+        return new SortTableComparator(mock(FacesContext.class), table, IDENTITY_MAPPER);
+    }
+}